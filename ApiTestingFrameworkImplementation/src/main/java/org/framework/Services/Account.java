@@ -1,59 +1,46 @@
 package org.framework.Services;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.framework.http.RestClient;
 
+/**
+ * Account endpoints. The request template is built once per instance and copied per call, so
+ * nothing accumulates between calls and one instance can be shared by all test threads.
+ */
 public class Account {
-    private String baseUri;
-    private RequestSpecification request;
+    private final RestClient client;
+    private final RequestSpecification jsonRequest;
+
     public Account(final String baseUri, final String servicePath) throws Exception {
-        this.baseUri = baseUri;
-        RestAssured.baseURI = baseUri;
-        this.request = RestAssured.given();
+        this(RestClient.builder().baseUri(baseUri).build());
+    }
+
+    // The client carries the base URI, so several instances can target different hosts concurrently
+    public Account(final RestClient client) {
+        this.client = client;
+        this.jsonRequest = client.template(spec -> spec
+                .setContentType("application/json")
+                .addHeader("Accept", "application/json"));
     }
+
     public Response CreateAccount(String endpoint, String payload) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        request.body(payload);
-        Response response = request.post(fullUrl);
-        System.out.println("Status code: "+response.getStatusCode()+"   "+"Response Message: "+response.getBody().prettyPrint());
-        return response;
+        return client.given(jsonRequest).body(payload).post(endpoint);
     }
+
     public Response GenerateToken(String endpoint, String payload) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        request.body(payload);
-        Response response = request.post(fullUrl);
-        System.out.println("Status code: "+response.getStatusCode()+"   "+"Response Message: "+response.getBody().prettyPrint());
-        return response;
+        return client.given(jsonRequest).body(payload).post(endpoint);
     }
+
     public Response AuthenticateUser(String endpoint, String payload) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        request.body(payload);
-        Response response = request.post(fullUrl);
-        System.out.println("Status code: "+response.getStatusCode()+"   "+"Response Message: "+response.getBody().prettyPrint());
-        return response;
+        return client.given(jsonRequest).body(payload).post(endpoint);
     }
+
     public Response GetAccountDetails(String endpoint) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        Response response = request.get(fullUrl);
-        System.out.println("Status code: "+response.getStatusCode()+"   "+"Response Message: "+response.getBody().prettyPrint());
-        return response;
+        return client.given(jsonRequest).get(endpoint);
     }
+
     public Response deleteUser(String endpoint, String token) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        request.header("Authorization", "Bearer "+token);
-        Response response = request.delete(fullUrl);
-        System.out.println("Status code: "+response.getStatusCode()+"   "+"Response Message: "+response.getBody().prettyPrint());
-        return response;
+        return client.given(jsonRequest).header("Authorization", "Bearer " + token).delete(endpoint);
     }
 }
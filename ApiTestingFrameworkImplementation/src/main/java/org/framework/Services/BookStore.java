@@ -1,84 +1,126 @@
 package org.framework.Services;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.framework.execution.BatchExecutor;
+import org.framework.execution.BatchOptions;
+import org.framework.execution.BatchResult;
+import org.framework.http.RestClient;
+import org.framework.models.StringObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * BookStore endpoints. The request template is built once per instance and copied per call, so
+ * tokens and query parameters of one call never leak into the next and one instance can be
+ * shared by all test threads.
+ * <p>
+ * The bulk variants ({@link #getBooks}, {@link #updateISBNs}, {@link #deleteBooksByIsbn}) run one
+ * call per ISBN through {@link BatchExecutor}, at most {@link BatchOptions#getConcurrency()} at a
+ * time, and report per-ISBN outcomes plus latency percentiles in a {@link BatchResult} keyed by ISBN.
+ * </p>
+ */
 public class BookStore {
-    private String baseUri;
-    private RequestSpecification request;
+    private static final Logger logger = LoggerFactory.getLogger(BookStore.class);
+
+    private final RestClient client;
+    private final RequestSpecification jsonRequest;
 
     public BookStore(final String baseUri, final String servicePath) throws Exception {
-        this.baseUri = baseUri;
-        RestAssured.baseURI = baseUri;
-        this.request = RestAssured.given();
+        this(RestClient.builder().baseUri(baseUri).build());
+    }
+
+    // The client carries the base URI, so several instances can target different hosts concurrently
+    public BookStore(final RestClient client) {
+        this.client = client;
+        this.jsonRequest = client.template(BookStore::json);
     }
 
     public Response GetAllBookDetails(String endpoint) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        Response response = request.get(fullUrl);
-        System.out.println("Status code: " + response.getStatusCode() + "   " + "Response Message: " + response.getBody().prettyPrint());
-        return response;
+        return client.given(jsonRequest).get(endpoint);
     }
 
     public Response addListOfBooks(String endpoint, String payload, String token) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        request.header("Authorization", "Bearer " + token);
-        request.body(payload);
-        Response response = request.post(fullUrl);
-        System.out.println("Status code: " + response.getStatusCode() + "   " + "Response Message: " + response.getBody().prettyPrint());
-        return response;
+        return authorized(token).body(payload).post(endpoint);
     }
 
     public Response getBook(String endpoint, String token, String isbn) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        request.header("Authorization", "Bearer " + token);
-        request.queryParam("ISBN", isbn);
-        Response response = request.get(fullUrl);
-        System.out.println("Status code: " + response.getStatusCode() + "   " + "Response Message: " + response.getBody().prettyPrint());
-        return response;
+        return authorized(token).queryParam("ISBN", isbn).get(endpoint);
     }
 
     public Response updateISBN(String endpoint, String payload, String token, String isbn) throws Exception {
-        String fullUrl = baseUri + endpoint + "/" + isbn;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        request.header("Authorization", "Bearer " + token);
-        request.body(payload);
-        Response response = request.put(fullUrl);
-        System.out.println("Status code: " + response.getStatusCode() + "   " + "Response Message: " + response.getBody().prettyPrint());
-        return response;
+        return authorized(token).body(payload).put(endpoint + "/{isbn}", isbn);
     }
 
     public Response deleteBook(String endpoint, String token, String body) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        request.header("Authorization", "Bearer " + token);
-        request.body(body);
-        Response response = request.delete(fullUrl);
-        System.out.println("Status code: " + response.getStatusCode() + "   " + "Response Message: " + response.getBody().prettyPrint());
-        return response;
+        return authorized(token).body(body).delete(endpoint);
     }
 
     public Response DeleteBooks(String endpoint, String token, String uid) throws Exception {
-        String fullUrl = baseUri + endpoint;
-        request.header("Content-Type", "application/json");
-        request.header("Accept", "application/json");
-        request.queryParam("uid", uid);
-        request.header("Authorization", "Bearer " + token);
-        Response response = request.delete(fullUrl);
-        System.out.println("Status code: " + response.getStatusCode() + "   " + "Response Message: " + response.getBody().prettyPrint());
-        return response;
+        return authorized(token).queryParam("uid", uid).delete(endpoint);
+    }
+
+    public BatchResult<String> getBooks(String endpoint, String token, Collection<String> isbns) {
+        return getBooks(endpoint, token, isbns, BatchOptions.defaults());
+    }
+
+    public BatchResult<String> getBooks(String endpoint, String token, Collection<String> isbns,
+                                        BatchOptions options) {
+        RequestSpecification template = authorizedTemplate(token);
+        return bulk("getBook", isbns,
+                isbn -> client.given(template).queryParam("ISBN", isbn).get(endpoint), options);
     }
-}
 
+    /**
+     * @param payloadByIsbn the update body per ISBN to replace
+     */
+    public BatchResult<String> updateISBNs(String endpoint, String token, Map<String, String> payloadByIsbn) {
+        return updateISBNs(endpoint, token, payloadByIsbn, BatchOptions.defaults());
+    }
 
+    public BatchResult<String> updateISBNs(String endpoint, String token, Map<String, String> payloadByIsbn,
+                                           BatchOptions options) {
+        RequestSpecification template = authorizedTemplate(token);
+        return bulk("updateISBN", payloadByIsbn.keySet(),
+                isbn -> client.given(template).body(payloadByIsbn.get(isbn)).put(endpoint + "/{isbn}", isbn), options);
+    }
 
+    // Removes each ISBN from the collection of userId, one {"isbn", "userId"} call per book
+    public BatchResult<String> deleteBooksByIsbn(String endpoint, String token, String userId,
+                                                 Collection<String> isbns) {
+        return deleteBooksByIsbn(endpoint, token, userId, isbns, BatchOptions.defaults());
+    }
+
+    public BatchResult<String> deleteBooksByIsbn(String endpoint, String token, String userId,
+                                                 Collection<String> isbns, BatchOptions options) {
+        RequestSpecification template = authorizedTemplate(token);
+        return bulk("deleteBook", isbns, isbn -> client.given(template)
+                .body(StringObject.builder().isbn(isbn).userId(userId).build())
+                .delete(endpoint), options);
+    }
+
+    private BatchResult<String> bulk(String operation, Collection<String> isbns,
+                                     Function<String, Response> call, BatchOptions options) {
+        BatchResult<String> result = BatchExecutor.execute(isbns, call, options);
+        logger.info("Bulk {} finished - {}", operation, result.summary());
+        return result;
+    }
+
+    private RequestSpecification authorized(String token) {
+        return client.given(jsonRequest).header("Authorization", "Bearer " + token);
+    }
+
+    private static RequestSpecBuilder json(RequestSpecBuilder spec) {
+        return spec.setContentType("application/json").addHeader("Accept", "application/json");
+    }
+
+    // The bulk calls share one token: its header is baked into the template instead of added per ISBN
+    private RequestSpecification authorizedTemplate(String token) {
+        return client.template(spec -> json(spec).addHeader("Authorization", "Bearer " + token));
+    }
+}
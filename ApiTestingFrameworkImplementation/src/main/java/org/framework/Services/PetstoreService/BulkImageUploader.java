@@ -0,0 +1,284 @@
+package org.framework.Services.PetstoreService;
+
+import io.restassured.response.Response;
+import lombok.Builder;
+import lombok.Value;
+import org.framework.Utility.ApiUtil;
+import org.framework.execution.BatchExecutor;
+import org.framework.execution.BatchOptions;
+import org.framework.execution.BatchResult;
+import org.framework.http.RestClient;
+import org.framework.http.UriTemplate;
+import org.framework.resilience.RetryPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Uploads many pet images to {@link Routes#UploadImageToPet} with bounded concurrency, retries
+ * and resume-from-failure.
+ * <pre>
+ * BulkImageUploader.Report report = BulkImageUploader.builder()
+ *         .concurrency(8)
+ *         .checkpointFile(Paths.get("target/pet-images.checkpoint"))
+ *         .build()
+ *         .uploadDirectory(Paths.get("TestData/petImages"));
+ * System.out.println(report.summary());
+ * </pre>
+ * Every successful upload is appended to the checkpoint file; a rerun with the same file skips
+ * those and only uploads what is left. Every file goes through {@link ApiUtil#uploadFile}, so
+ * retryable statuses (by default 5xx and 429) and I/O failures are retried with the client's
+ * {@link RetryPolicy} (or {@code retryPolicy} when set) under its deadline and circuit breaker. Each
+ * file is streamed, so memory use does not depend on the image sizes.
+ */
+public class BulkImageUploader {
+    private static final Logger logger = LoggerFactory.getLogger(BulkImageUploader.class);
+    // 123.jpg, 123_front.png, 123-2.gif -> pet 123
+    private static final Pattern PET_ID_PREFIX = Pattern.compile("^(\\d+)");
+
+    private final RestClient client;
+    // Parsed once from the builder's endpoint, then only expanded per file
+    private final UriTemplate route;
+    // Built once from the builder's concurrency, or batch.concurrency when it is unset
+    private final BatchOptions batchOptions;
+    // Optional; without it the client's own policy is used
+    private final RetryPolicy retryPolicy;
+    // Optional; without it nothing is skipped on a rerun
+    private final Path checkpointFile;
+
+    // Called by the builder; options left unset get their defaults here
+    @Builder
+    BulkImageUploader(RestClient client, String endpoint, Integer concurrency, RetryPolicy retryPolicy,
+                      Path checkpointFile) {
+        this.client = client != null ? client : RestClient.builder().build();
+        this.route = UriTemplate.of(endpoint != null ? endpoint : Routes.UploadImageToPet);
+        this.batchOptions = concurrency != null
+                ? new BatchOptions(concurrency, BatchOptions.Ordering.INPUT)
+                : BatchOptions.defaults();
+        this.retryPolicy = retryPolicy;
+        this.checkpointFile = checkpointFile;
+    }
+
+    /**
+     * One image to attach to one pet.
+     */
+    @Value
+    public static class ImageUpload {
+        int petId;
+        Path path;
+    }
+
+    /**
+     * Uploads every regular file in {@code directory} whose name starts with a pet id
+     * ({@code 123.jpg}, {@code 123_front.png}); other files are ignored with a warning.
+     */
+    public Report uploadDirectory(Path directory) {
+        List<ImageUpload> uploads = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                Matcher matcher = PET_ID_PREFIX.matcher(file.getFileName().toString());
+                if (matcher.find()) {
+                    uploads.add(new ImageUpload(Integer.parseInt(matcher.group(1)), file));
+                } else {
+                    logger.warn("Skipping {} - file name does not start with a pet id", file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to list " + directory, e);
+        }
+        return upload(uploads);
+    }
+
+    public Report upload(Collection<ImageUpload> uploads) {
+        Set<String> done = readCheckpoint();
+        List<ImageUpload> pending = uploads.stream()
+                .filter(upload -> !done.contains(checkpointKey(upload)))
+                .collect(Collectors.toList());
+        if (pending.size() < uploads.size()) {
+            logger.info("Resuming bulk upload - {} of {} images already uploaded", uploads.size() - pending.size(),
+                    uploads.size());
+        }
+
+        AtomicLong bytesUploaded = new AtomicLong();
+        try (Checkpoint checkpoint = openCheckpoint()) {
+            RestClient uploadClient = retryPolicy != null
+                    ? client.toBuilder().retryPolicy(retryPolicy).build()
+                    : client;
+            BatchResult<ImageUpload> result = BatchExecutor.execute(pending, upload -> {
+                Response response = uploadOne(uploadClient, upload);
+                if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
+                    bytesUploaded.addAndGet(sizeOf(upload.getPath()));
+                    checkpoint.record(checkpointKey(upload));
+                }
+                return response;
+            }, batchOptions);
+            Report report = new Report(result, uploads.size() - pending.size(), bytesUploaded.get());
+            logger.info("Bulk image upload finished - {}", report.summary());
+            return report;
+        }
+    }
+
+    // Same retry, circuit breaker and deadline handling as every other ApiUtil call
+    private Response uploadOne(RestClient uploadClient, ImageUpload upload) {
+        File file = upload.getPath().toFile();
+        if (!file.isFile()) {
+            throw new IllegalArgumentException("File not found: " + file.getAbsolutePath()); // retrying won't help
+        }
+        return ApiUtil.uploadFile(uploadClient, route.expand(upload.getPetId()), file, null, null, null, null);
+    }
+
+    private static String checkpointKey(ImageUpload upload) {
+        return upload.getPetId() + "\t" + upload.getPath().toAbsolutePath().normalize();
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private Set<String> readCheckpoint() {
+        if (checkpointFile == null || !Files.exists(checkpointFile)) {
+            return new HashSet<>();
+        }
+        try (Stream<String> lines = Files.lines(checkpointFile, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isEmpty()).collect(Collectors.toCollection(HashSet::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read checkpoint " + checkpointFile, e);
+        }
+    }
+
+    private Checkpoint openCheckpoint() {
+        if (checkpointFile == null) {
+            return new Checkpoint(null);
+        }
+        try {
+            Path parent = checkpointFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            return new Checkpoint(Files.newBufferedWriter(checkpointFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open checkpoint " + checkpointFile, e);
+        }
+    }
+
+    // Append-only list of finished uploads, flushed per line so a crash loses at most the upload in progress
+    private static class Checkpoint implements AutoCloseable {
+        private final BufferedWriter writer;
+
+        Checkpoint(BufferedWriter writer) {
+            this.writer = writer;
+        }
+
+        synchronized void record(String key) {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.write(key);
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                logger.warn("Unable to update upload checkpoint: {}", e.getMessage());
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("Unable to close upload checkpoint: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Outcome of a bulk upload: per-file results plus files/s and MB/s over the wall-clock time.
+     */
+    public static class Report {
+        private final BatchResult<ImageUpload> result;
+        private final int skipped;
+        private final long bytesUploaded;
+
+        Report(BatchResult<ImageUpload> result, int skipped, long bytesUploaded) {
+            this.result = result;
+            this.skipped = skipped;
+            this.bytesUploaded = bytesUploaded;
+        }
+
+        public BatchResult<ImageUpload> getResult() {
+            return result;
+        }
+
+        public List<ImageUpload> getFailedUploads() {
+            return result.getItems().stream()
+                    .filter(item -> !item.isSuccess())
+                    .map(BatchResult.ItemResult::getKey)
+                    .collect(Collectors.toList());
+        }
+
+        // Already uploaded according to the checkpoint file
+        public int getSkippedCount() {
+            return skipped;
+        }
+
+        public long getUploadedCount() {
+            return result.getSuccessCount();
+        }
+
+        public long getFailedCount() {
+            return result.getFailureCount();
+        }
+
+        public long getBytesUploaded() {
+            return bytesUploaded;
+        }
+
+        public double getFilesPerSecond() {
+            long millis = result.getWallClockMillis();
+            return millis == 0 ? 0 : result.getSuccessCount() * 1000.0 / millis;
+        }
+
+        public double getMegabytesPerSecond() {
+            long millis = result.getWallClockMillis();
+            return millis == 0 ? 0 : bytesUploaded / (1024.0 * 1024.0) * 1000.0 / millis;
+        }
+
+        public String summary() {
+            return String.format("uploaded: %d, failed: %d, skipped: %d, %.1f MB in %dms - %.1f files/s, %.2f MB/s",
+                    getUploadedCount(), getFailedCount(), skipped, bytesUploaded / (1024.0 * 1024.0),
+                    result.getWallClockMillis(), getFilesPerSecond(), getMegabytesPerSecond());
+        }
+
+        @Override
+        public String toString() {
+            return summary();
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package org.framework.Services.PetstoreService;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import lombok.Builder;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.framework.Utility.JsonArrayStreams;
+import org.framework.config.ConfigManager;
+import org.framework.execution.ApiExecutors;
+import org.framework.execution.BatchOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Seeds many users through {@link User#CreateListOfUsers(byte[], String)} without ever holding
+ * all of them in memory.
+ * <pre>
+ * BulkUserPipeline.Report report = BulkUserPipeline.builder()
+ *         .chunkSize(500)
+ *         .concurrency(8)
+ *         .build()
+ *         .generate(100_000, i -&gt; Map.of("id", i, "username", "user" + i));
+ * System.out.println(report.summary());
+ * </pre>
+ * Users are read one at a time from the source (a JSON array file, an Excel sheet, a stream or a
+ * generator) and written with Jackson's {@link JsonGenerator} straight into the body of the
+ * current chunk. A full chunk is posted on the {@link ApiExecutors} pool; once
+ * {@code concurrency} chunks are in flight, reading waits for one to finish. Memory therefore
+ * stays at roughly {@code (concurrency + 1) * chunkSize} users, whatever the total.
+ * <p>
+ * Chunks are not retried; failed ones are listed in the {@link Report} with their position so
+ * they can be re-sent.
+ * </p>
+ */
+@Builder
+public class BulkUserPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(BulkUserPipeline.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final JsonFactory jsonFactory = mapper.getFactory();
+    // Excel columns written as JSON numbers; everything else stays a string (phone numbers, zip codes, ...)
+    private static final Set<String> NUMERIC_COLUMNS = Set.of("id", "userStatus");
+    // Serialized size guess per user, to size a chunk's buffer up front
+    private static final int BYTES_PER_USER_ESTIMATE = 256;
+
+    @Builder.Default
+    private final User user = new User();
+    @Builder.Default
+    private final String endpoint = Routes.PostUser_createWithArray;
+    @Builder.Default
+    private final int chunkSize = ConfigManager.getIntProperty("bulk.users.chunk.size", 500);
+    @Builder.Default
+    private final int concurrency = BatchOptions.defaults().getConcurrency();
+
+    // Called by the builder; a concurrency of 0 would leave the first chunk waiting for a permit forever
+    BulkUserPipeline(User user, String endpoint, int chunkSize, int concurrency) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be at least 1");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        this.user = user;
+        this.endpoint = endpoint;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Sends every user from {@code users}; each element is serialized with Jackson, so POJOs such
+     * as {@code org.framework.pojo.User}, maps and {@link JsonNode}s all work.
+     */
+    public Report send(Iterator<?> users) {
+        try (Session session = new Session()) {
+            users.forEachRemaining(session::add);
+            return session.finish();
+        }
+    }
+
+    public Report send(Stream<?> users) {
+        try (Stream<?> closing = users) {
+            return send(closing.iterator());
+        }
+    }
+
+    /**
+     * Sends {@code count} users made by {@code generator} from their index (0 to count - 1).
+     */
+    public Report generate(int count, IntFunction<?> generator) {
+        try (Session session = new Session()) {
+            for (int i = 0; i < count; i++) {
+                session.add(generator.apply(i));
+            }
+            return session.finish();
+        }
+    }
+
+    /**
+     * Sends the users of a file holding one top-level JSON array, such as {@code ListOfUsers.json}.
+     * Elements are parsed one at a time and written back unchanged.
+     */
+    public Report sendJsonFile(Path file) {
+        try (MappingIterator<JsonNode> users = JsonArrayStreams.iterator(file, JsonNode.class)) {
+            return send(users);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read users from " + file, e);
+        }
+    }
+
+    /**
+     * Sends one user per row of {@code sheetName} (the first sheet when null), keyed by the header
+     * row, e.g. {@code id | username | firstName | ... | userStatus}. The sheet is read with POI's
+     * streaming (SAX) reader, so the workbook is never loaded as a whole.
+     */
+    public Report sendExcel(Path file, String sheetName) {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+             Session session = new Session()) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    if (sheetName == null || sheetName.equals(sheets.getSheetName())) {
+                        XMLReader xml = XMLHelper.newXMLReader();
+                        xml.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings,
+                                new RowsToUsers(session::add), new DataFormatter(), false));
+                        xml.parse(new InputSource(sheet));
+                        return session.finish();
+                    }
+                }
+            }
+            throw new IllegalArgumentException("No sheet " + sheetName + " in " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read users from " + file, e);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to read users from " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Collects users into chunks and posts each full chunk, never more than `concurrency` at once
+    private class Session implements AutoCloseable {
+        private final Semaphore permits = new Semaphore(concurrency);
+        private final long start = System.nanoTime();
+        private final AtomicLong usersSent = new AtomicLong();
+        private final AtomicLong bytesSent = new AtomicLong();
+        private final AtomicLong chunksSent = new AtomicLong();
+        private final List<FailedChunk> failures = Collections.synchronizedList(new ArrayList<>());
+        private long usersRead;
+        private int chunks;
+        private ByteArrayOutputStream body;
+        private JsonGenerator generator;
+        private int inChunk;
+        private boolean finished;
+
+        void add(Object user) {
+            try {
+                if (generator == null) {
+                    body = new ByteArrayOutputStream(chunkSize * BYTES_PER_USER_ESTIMATE);
+                    generator = jsonFactory.createGenerator(body);
+                    generator.writeStartArray();
+                }
+                mapper.writeValue(generator, user);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to serialize user " + (usersRead + 1), e);
+            }
+            usersRead++;
+            if (++inChunk >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (generator == null) {
+                return;
+            }
+            try {
+                generator.writeEndArray();
+                generator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to serialize chunk " + chunks, e);
+            }
+            byte[] chunk = body.toByteArray();
+            int index = chunks++;
+            int users = inChunk;
+            long firstUser = usersRead - users;
+            generator = null;
+            body = null;
+            inChunk = 0;
+
+            permits.acquireUninterruptibly();
+            try {
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        post(index, firstUser, users, chunk);
+                    } finally {
+                        permits.release();
+                    }
+                }, ApiExecutors.executor());
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private void post(int index, long firstUser, int users, byte[] chunk) {
+            try {
+                Response response = user.CreateListOfUsers(chunk, endpoint);
+                int status = response.getStatusCode();
+                if (status >= 200 && status < 300) {
+                    usersSent.addAndGet(users);
+                    bytesSent.addAndGet(chunk.length);
+                    chunksSent.incrementAndGet();
+                } else {
+                    failures.add(new FailedChunk(index, firstUser, users, status, response.getStatusLine()));
+                }
+            } catch (Exception e) {
+                failures.add(new FailedChunk(index, firstUser, users, -1, String.valueOf(e.getMessage())));
+            }
+        }
+
+        Report finish() {
+            flush();
+            // Every permit back = every chunk answered
+            permits.acquireUninterruptibly(concurrency);
+            permits.release(concurrency);
+            finished = true;
+            List<FailedChunk> failed = new ArrayList<>(failures);
+            failed.sort(Comparator.comparingInt(FailedChunk::getIndex));
+            Report report = new Report(usersRead, usersSent.get(), chunks, chunksSent.get(), failed,
+                    bytesSent.get(), System.nanoTime() - start);
+            logger.info("Bulk user creation finished - {}", report.summary());
+            return report;
+        }
+
+        // Source failed half-way: still wait for the chunks already posted, so none outlives the call
+        @Override
+        public void close() {
+            if (!finished) {
+                permits.acquireUninterruptibly(concurrency);
+                permits.release(concurrency);
+            }
+        }
+    }
+
+    // Row 0 holds the column names, every following non-empty row becomes one user
+    private static class RowsToUsers implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final Consumer<Map<String, Object>> users;
+        private final List<String> columns = new ArrayList<>();
+        private Map<String, Object> row;
+        private int rowNum;
+
+        RowsToUsers(Consumer<Map<String, Object>> users) {
+            this.users = users;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            this.rowNum = rowNum;
+            this.row = new LinkedHashMap<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum > 0 && !row.isEmpty()) {
+                users.accept(row);
+            }
+            row = null;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            if (rowNum == 0) {
+                while (columns.size() <= column) {
+                    columns.add(null);
+                }
+                columns.set(column, formattedValue.trim());
+                return;
+            }
+            String name = column < columns.size() ? columns.get(column) : null;
+            if (name == null || name.isEmpty() || formattedValue.isEmpty()) {
+                return;
+            }
+            row.put(name, NUMERIC_COLUMNS.contains(name) ? toNumber(formattedValue) : formattedValue);
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+            // not part of the data
+        }
+
+        private static Object toNumber(String value) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * A chunk the server did not accept; users {@code firstUser} to {@code firstUser + userCount - 1}
+     * (0-based, in source order) were not created.
+     */
+    public static class FailedChunk {
+        private final int index;
+        private final long firstUser;
+        private final int userCount;
+        private final int statusCode;
+        private final String reason;
+
+        FailedChunk(int index, long firstUser, int userCount, int statusCode, String reason) {
+            this.index = index;
+            this.firstUser = firstUser;
+            this.userCount = userCount;
+            this.statusCode = statusCode;
+            this.reason = reason;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public long getFirstUser() {
+            return firstUser;
+        }
+
+        public int getUserCount() {
+            return userCount;
+        }
+
+        // -1 when no response was received
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("chunk %d (users %d-%d): %s", index, firstUser, firstUser + userCount - 1, reason);
+        }
+    }
+
+    /**
+     * Outcome of a bulk run: users and chunks read vs. accepted, plus users/s over the wall-clock time.
+     */
+    public static class Report {
+        private final long usersRead;
+        private final long usersCreated;
+        private final int chunks;
+        private final long chunksSent;
+        private final List<FailedChunk> failedChunks;
+        private final long bytesSent;
+        private final long wallClockNanos;
+
+        Report(long usersRead, long usersCreated, int chunks, long chunksSent, List<FailedChunk> failedChunks,
+               long bytesSent, long wallClockNanos) {
+            this.usersRead = usersRead;
+            this.usersCreated = usersCreated;
+            this.chunks = chunks;
+            this.chunksSent = chunksSent;
+            this.failedChunks = Collections.unmodifiableList(failedChunks);
+            this.bytesSent = bytesSent;
+            this.wallClockNanos = wallClockNanos;
+        }
+
+        public long getUsersRead() {
+            return usersRead;
+        }
+
+        public long getUsersCreated() {
+            return usersCreated;
+        }
+
+        public int getChunkCount() {
+            return chunks;
+        }
+
+        public long getChunksSent() {
+            return chunksSent;
+        }
+
+        public List<FailedChunk> getFailedChunks() {
+            return failedChunks;
+        }
+
+        public boolean isComplete() {
+            return failedChunks.isEmpty();
+        }
+
+        public long getBytesSent() {
+            return bytesSent;
+        }
+
+        public long getWallClockMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(wallClockNanos);
+        }
+
+        public double getUsersPerSecond() {
+            return wallClockNanos == 0 ? 0 : usersCreated * 1_000_000_000.0 / wallClockNanos;
+        }
+
+        public String summary() {
+            return String.format("created: %d of %d users, chunks: %d sent, %d failed, %.1f MB in %dms - %.1f users/s",
+                    usersCreated, usersRead, chunksSent, failedChunks.size(), bytesSent / (1024.0 * 1024.0),
+                    getWallClockMillis(), getUsersPerSecond());
+        }
+
+        @Override
+        public String toString() {
+            return summary();
+        }
+    }
+}
@@ -1,22 +1,40 @@
 package org.framework.Services.PetstoreService;
 
+import io.restassured.builder.MultiPartSpecBuilder;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.framework.http.ConnectionReleaseFilter;
+import org.framework.http.FileChannelInputStream;
+import org.framework.http.RestClient;
+import org.framework.http.RouteSupport;
+import org.framework.http.UploadProgressListener;
+import org.framework.http.UriTemplate;
 
 import java.io.File;
-
-import static io.restassured.RestAssured.given;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 public class Pet {
+    private final RestClient client;
+
+    public Pet() {
+        this(RestClient.builder().build());
+    }
+
+    public Pet(RestClient client) {
+        this.client = client;
+    }
+
     public Response AddNewPetInStore(String payload, String endpoint) {
-        return given()
+        return client.given()
                 .contentType(ContentType.JSON)
                 .accept(ContentType.JSON)
                 .body(payload)
                 .post(endpoint);
     }
     public Response putPet(String payload, String endpoint) {
-        return given()
+        return client.given()
                 .contentType(ContentType.JSON)
                 .accept(ContentType.JSON)
                 .body(payload)
@@ -24,51 +42,77 @@ public class Pet {
     }
     public  Response pet_FindByStatus(String endpoint, String status) {
         return
-                given()
+                client.given()
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
                         .queryParam("status", status)
                         .get(endpoint);
     }
-    public Response FindPetByID(String endpoint, int petId) {
+    // Same call with the body left on the wire, for JsonArrayStreams; read it to the end or close it
+    public Response pet_FindByStatusStreamed(String endpoint, String status) {
         return
-                given()
+                ConnectionReleaseFilter.streamBody(client.given())
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
-                        .pathParam("petId", petId)
+                        .queryParam("status", status)
                         .get(endpoint);
     }
-    public Response Updates_A_PetInTheStoreWithForm(String endpoint, int petId, String name, String status)
-    {
+    public Response FindPetByID(String endpoint, int petId) {
+        UriTemplate route = UriTemplate.of(endpoint);
         return
-                given()
+                route.prepare(client.given())
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
-                        .pathParam("petId", petId)
-                        .formParam("name", name)
-                        .formParam("status", status)
-                        .get(endpoint);
+                        .get(route.expand(petId));
+    }
+    public Response Updates_A_PetInTheStoreWithForm(String endpoint, int petId, String name, String status)
+    {
+        UriTemplate route = UriTemplate.of(endpoint);
+        // URL encoding is off for the expanded path, so the form values are encoded here;
+        // a null value leaves its field out rather than sending the text "null"
+        RequestSpecification request = route.prepare(client.given())
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON);
+        if (name != null) {
+            request.formParam("name", RouteSupport.encodeQueryValue(name));
+        }
+        if (status != null) {
+            request.formParam("status", RouteSupport.encodeQueryValue(status));
+        }
+        return request.get(route.expand(petId));
     }
     public Response UploadImageToPet(String endpoint, int petId, String path) {
+        return UploadImageToPet(endpoint, petId, path, null);
+    }
+    // The image is streamed from a FileChannel in fixed-size chunks, so memory use doesn't grow with the file size
+    public Response UploadImageToPet(String endpoint, int petId, String path, UploadProgressListener progress) {
         File file = new File(path);
 
         if (!file.exists()) {
             throw new IllegalArgumentException("File not found: " + file.getAbsolutePath());
         }
-        return given()
-                .accept(ContentType.JSON)
-                .contentType(ContentType.MULTIPART)
-                .pathParam("petId", petId)
-                .multiPart("file", file)  // Use File object instead of path string
-                .post(endpoint);
+        UriTemplate route = UriTemplate.of(endpoint);
+        try (FileChannelInputStream content = new FileChannelInputStream(file.toPath(), progress)) {
+            return route.prepare(client.given())
+                    .accept(ContentType.JSON)
+                    .contentType(ContentType.MULTIPART)
+                    .multiPart(new MultiPartSpecBuilder(content)
+                            .controlName("file")
+                            .fileName(file.getName())
+                            .mimeType("application/octet-stream")
+                            .build())
+                    .post(route.expand(petId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + file.getAbsolutePath(), e);
+        }
     }
     public Response DeletePetID(String endpoint, int petId) {
+        UriTemplate route = UriTemplate.of(endpoint);
         return
-                given()
+                route.prepare(client.given())
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
-                        .pathParam("petId", petId)
-                        .delete(endpoint);
+                        .delete(route.expand(petId));
     }
 
 }
@@ -0,0 +1,32 @@
+package org.framework.Services.PetstoreService;
+
+import io.restassured.response.Response;
+import org.framework.routes.ApiRoutes;
+import org.framework.routes.Body;
+import org.framework.routes.Delete;
+import org.framework.routes.Get;
+import org.framework.routes.PathParam;
+import org.framework.routes.Post;
+import org.framework.routes.Put;
+import org.framework.routes.QueryParam;
+
+/**
+ * Pet routes; {@code PetApiClient} is generated from these declarations at compile time.
+ */
+@ApiRoutes(baseUri = Routes.baseURL)
+public interface PetApi {
+    @Post("/pet")
+    Response addPet(@Body Object pet);
+
+    @Put("/pet")
+    Response updatePet(@Body Object pet);
+
+    @Get("/pet/findByStatus")
+    Response findPetsByStatus(@QueryParam("status") String status);
+
+    @Get("/pet/{petId}")
+    Response findPetById(@PathParam("petId") long petId);
+
+    @Delete("/pet/{petId}")
+    Response deletePet(@PathParam("petId") long petId);
+}
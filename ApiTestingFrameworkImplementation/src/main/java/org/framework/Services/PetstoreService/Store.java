@@ -2,38 +2,48 @@ package org.framework.Services.PetstoreService;
 
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
-
-import static io.restassured.RestAssured.given;
+import org.framework.http.RestClient;
+import org.framework.http.UriTemplate;
 
 public class Store {
+    private final RestClient client;
+
+    public Store() {
+        this(RestClient.builder().build());
+    }
+
+    public Store(RestClient client) {
+        this.client = client;
+    }
+
     public Response CreateOrder(String body, String endpoint) {
-           return given()
+           return client.given()
                     .accept(ContentType.JSON)
                     .contentType(ContentType.JSON)
                     .body(body)
                     .post(endpoint);
     }
     public Response findThePurchaseOrderById(String endpoint, int orderId) {
+        UriTemplate route = UriTemplate.of(endpoint);
         return
-                given()
+                route.prepare(client.given())
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
-                        .pathParam("orderId", orderId)
-                        .get(endpoint);
+                        .get(route.expand(orderId));
     }
     public Response ReturnsPetInventoriesByStatus(String endpoint) {
         return
-                given()
+                client.given()
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
                         .get(endpoint);
     }
     public Response DeleteOrder(String endpoint, int orderId) {
+        UriTemplate route = UriTemplate.of(endpoint);
         return
-                given()
+                route.prepare(client.given())
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
-                        .pathParam("orderId", orderId)
-                        .delete(endpoint);
+                        .delete(route.expand(orderId));
     }
 }
@@ -0,0 +1,27 @@
+package org.framework.Services.PetstoreService;
+
+import io.restassured.response.Response;
+import org.framework.routes.ApiRoutes;
+import org.framework.routes.Body;
+import org.framework.routes.Delete;
+import org.framework.routes.Get;
+import org.framework.routes.PathParam;
+import org.framework.routes.Post;
+
+/**
+ * Store routes; {@code StoreApiClient} is generated from these declarations at compile time.
+ */
+@ApiRoutes(baseUri = Routes.baseURL)
+public interface StoreApi {
+    @Post("/store/order")
+    Response placeOrder(@Body Object order);
+
+    @Get("/store/order/{orderId}")
+    Response findOrderById(@PathParam("orderId") long orderId);
+
+    @Delete("/store/order/{orderId}")
+    Response deleteOrder(@PathParam("orderId") long orderId);
+
+    @Get("/store/inventory")
+    Response getInventory();
+}
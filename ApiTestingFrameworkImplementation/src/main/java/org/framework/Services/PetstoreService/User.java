@@ -2,13 +2,23 @@ package org.framework.Services.PetstoreService;
 
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
-
-import static io.restassured.RestAssured.given;
+import org.framework.http.RestClient;
+import org.framework.http.UriTemplate;
 
 public class User {
+    private final RestClient client;
+
+    public User() {
+        this(RestClient.builder().build());
+    }
+
+    public User(RestClient client) {
+        this.client = client;
+    }
+
     public Response CreateUser(String body, String endpoint) {
         return
-                given()
+                client.given()
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
                         .body(body)
@@ -17,7 +27,17 @@ public class User {
 
     public Response CreateListOfUsers(String body, String endpoint) {
         return
-                given()
+                client.given()
+                        .accept(ContentType.JSON)
+                        .contentType(ContentType.JSON)
+                        .body(body)
+                        .post(endpoint);
+    }
+
+    // Pre-serialized body, e.g. a chunk written by BulkUserPipeline; skips building a String of the whole array
+    public Response CreateListOfUsers(byte[] body, String endpoint) {
+        return
+                client.given()
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
                         .body(body)
@@ -26,7 +46,7 @@ public class User {
 
     public Response Loginuser(String endpoint, String username, String password) {
         return
-                given()
+                client.given()
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
                         .queryParam("username", username)
@@ -34,33 +54,33 @@ public class User {
                         .get(endpoint);
     }
     public Response GetUser(String endpoint, String username) {
+        UriTemplate route = UriTemplate.of(endpoint);
         return
-                given()
+                route.prepare(client.given())
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
-                        .pathParam("username", username)
-                        .get(endpoint);
+                        .get(route.expand(username));
     }
     public Response updateUser(String endpoint, String username, String body) {
+        UriTemplate route = UriTemplate.of(endpoint);
         return
-                given()
+                route.prepare(client.given())
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
-                        .pathParam("username", username)
                         .body(body)
-                        .put(endpoint);
+                        .put(route.expand(username));
     }
     public Response deleteUser(String endpoint, String username) {
+        UriTemplate route = UriTemplate.of(endpoint);
         return
-                given()
+                route.prepare(client.given())
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
-                        .pathParam("username", username)
-                        .delete(endpoint);
+                        .delete(route.expand(username));
     }
     public Response Userlogout(String endpoint) {
         return
-                given()
+                client.given()
                         .accept(ContentType.JSON)
                         .contentType(ContentType.JSON)
                         .get(endpoint);
@@ -0,0 +1,38 @@
+package org.framework.Services.PetstoreService;
+
+import io.restassured.response.Response;
+import org.framework.routes.ApiRoutes;
+import org.framework.routes.Body;
+import org.framework.routes.Delete;
+import org.framework.routes.Get;
+import org.framework.routes.PathParam;
+import org.framework.routes.Post;
+import org.framework.routes.Put;
+import org.framework.routes.QueryParam;
+
+/**
+ * User routes; {@code UserApiClient} is generated from these declarations at compile time.
+ */
+@ApiRoutes(baseUri = Routes.baseURL)
+public interface UserApi {
+    @Post("/user")
+    Response createUser(@Body Object user);
+
+    @Post("/user/createWithArray")
+    Response createUsersWithArray(@Body Object users);
+
+    @Get("/user/login")
+    Response login(@QueryParam("username") String username, @QueryParam("password") String password);
+
+    @Get("/user/logout")
+    Response logout();
+
+    @Get("/user/{username}")
+    Response getUser(@PathParam("username") String username);
+
+    @Put("/user/{username}")
+    Response updateUser(@PathParam("username") String username, @Body Object user);
+
+    @Delete("/user/{username}")
+    Response deleteUser(@PathParam("username") String username);
+}
@@ -3,34 +3,123 @@ import io.restassured.RestAssured;
 import io.restassured.authentication.AuthenticationScheme;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
-import io.restassured.specification.RequestSpecification;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.framework.execution.ApiExecutors;
+import org.framework.execution.BatchExecutor;
+import org.framework.execution.BatchOptions;
+import org.framework.execution.BatchResult;
+import org.framework.config.ConfigManager;
+import org.framework.http.Compression;
+import org.framework.http.EndpointTemplates;
+import org.framework.http.HttpTransport;
+import org.framework.http.RequestDefinition;
+import org.framework.http.ResponseCache;
+import org.framework.http.RestClient;
+import org.framework.http.Timeouts;
+import org.framework.http.TransportRequest;
+import org.framework.http.UploadProgressListener;
+import org.framework.reports.ApiMetrics;
+import org.framework.reports.ExtentTestManager;
+import org.framework.resilience.CircuitBreaker;
+import org.framework.resilience.CircuitBreakerRegistry;
+import org.framework.resilience.Deadline;
+import org.framework.resilience.ExponentialBackoffRetryPolicy;
+import org.framework.resilience.RateLimiter;
+import org.framework.resilience.RateLimiterRegistry;
+import org.framework.resilience.RequestHedger;
+import org.framework.resilience.RetryBudget;
+import org.framework.resilience.RetryPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 public class ApiUtil {
     private static final Logger logger = LoggerFactory.getLogger(ApiUtil.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    // ObjectReaders are immutable and thread-safe; caching them skips the per-call type lookup
+    private static final ConcurrentMap<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
     private static final Properties config = new Properties();
-    private static final Map<String, String> defaultHeaders = new HashMap<>();
-    private static int retryCount = 3;
-    private static long retryDelay = 1000; // milliseconds
+    private static final long MAX_RETRY_DELAY = ConfigManager.getLongProperty("retry.max.delay.ms", 10_000);
+    private static final long MAX_RETRY_AFTER = ConfigManager.getLongProperty("retry.after.max.ms", 30_000);
+    // Client used by the static methods. Immutable and replaced as a whole (copy-on-write) by the
+    // setters below, so request threads read it without locking.
+    private static volatile RestClient defaultClient;
+    private static volatile RetryBudget retryBudget = new RetryBudget(
+            Double.parseDouble(ConfigManager.getProperty("retry.budget.ratio", "0.2")),
+            ConfigManager.getIntProperty("retry.budget.min.tokens", 10),
+            ConfigManager.getIntProperty("retry.budget.max.tokens", 100));
+
+    private static final CircuitBreakerRegistry circuitBreakers = new CircuitBreakerRegistry(
+            ConfigManager.getIntProperty("circuit.window.size", 20),
+            ConfigManager.getIntProperty("circuit.minimum.calls", 10),
+            Double.parseDouble(ConfigManager.getProperty("circuit.failure.rate.threshold", "50")),
+            ConfigManager.getLongProperty("circuit.open.duration.ms", 30_000),
+            ConfigManager.getIntProperty("circuit.half.open.calls", 3));
+    // Per-host token buckets; hosts without a configured rate are unlimited
+    private static final RateLimiterRegistry rateLimiters = new RateLimiterRegistry(
+            Double.parseDouble(ConfigManager.getProperty("ratelimit.permits.per.second", "0")),
+            ConfigManager.getIntProperty("ratelimit.burst", 10));
+    private static volatile boolean circuitBreakerEnabled = ConfigManager.getBooleanProperty("circuit.enabled", true);
+    // Opt-in conditional GET cache; null when disabled
+    private static volatile ResponseCache responseCache = ConfigManager.getBooleanProperty("cache.enabled", false)
+            ? new ResponseCache(ConfigManager.getIntProperty("cache.max.entries", 500),
+                                ConfigManager.getLongProperty("cache.ttl.ms", 60_000))
+            : null;
+
+    // Opt-in hedging of slow GETs; null when disabled. Hedges run on their own elastic executor so a
+    // GET issued from the async pool never waits on a task queued behind it.
+    private static final ExecutorService hedgeExecutor = ApiExecutors.newElasticExecutor("api-hedge");
+    private static volatile RequestHedger hedger = ConfigManager.getBooleanProperty("hedge.enabled", false)
+            ? newHedger(ConfigManager.getLongProperty("hedge.delay.ms", 0),
+                        Double.parseDouble(ConfigManager.getProperty("hedge.percentile", "95")))
+            : null;
+
+    // Metric names published through ApiMetrics
+    public static final String METRIC_RETRIES = "retry.count";
+    public static final String METRIC_RETRY_DELAY_MS = "retry.delay.ms";
+    public static final String METRIC_RETRY_BUDGET_EXHAUSTED = "retry.budget.exhausted";
+    // Suffixed with the phase: timeout.connect, timeout.read, timeout.deadline
+    public static final String METRIC_TIMEOUTS_PREFIX = "timeout.";
+    public static final String METRIC_CIRCUIT_REJECTED = "circuit.rejected";
+    public static final String METRIC_CACHE_HIT = "cache.hit";
+    public static final String METRIC_CACHE_MISS = "cache.miss";
+    public static final String METRIC_CACHE_REVALIDATED = "cache.revalidated";
+    public static final String METRIC_RATE_LIMIT_WAITS = "ratelimit.waits";
+    public static final String METRIC_RATE_LIMIT_WAIT_MS = "ratelimit.wait.ms";
+    private static final String CIRCUIT_BREAKER_NODE = "Circuit Breakers";
 
     static {
-        loadConfig();
+        defaultClient = RestClient.builder().baseUri(loadConfig()).build();
         configureRestAssured();
+        circuitBreakers.addListener(ApiUtil::reportCircuitTransition);
     }
 
-    private static void loadConfig() {
+    private static String loadConfig() {
         try (InputStream input = ApiUtil.class.getClassLoader().getResourceAsStream("config.properties")) {
             if (input != null) {
                 config.load(input);
@@ -39,11 +128,8 @@ public class ApiUtil {
             logger.warn("Unable to load config.properties file");
         }
 
-        // Set default base URL from config or environment variable
-        String baseUrl = config.getProperty("base.url", System.getenv("API_BASE_URL"));
-        if (baseUrl != null) {
-            RestAssured.baseURI = baseUrl;
-        }
+        // Default base URL from config or environment variable
+        return config.getProperty("base.url", System.getenv("API_BASE_URL"));
     }
 
     private static void configureRestAssured() {
@@ -54,21 +140,119 @@ public class ApiUtil {
     }
 
     // region Configuration Methods
+    // The setters only affect the default client used by the static methods. Tests running in
+    // parallel with different settings should each build their own RestClient instead.
+    public static RestClient getDefaultClient() {
+        return defaultClient;
+    }
+
+    public static synchronized void setDefaultClient(RestClient client) {
+        defaultClient = client;
+    }
+
     public static void setBaseUrl(String baseUrl) {
-        RestAssured.baseURI = baseUrl;
+        updateDefaultClient(builder -> builder.baseUri(baseUrl));
     }
 
     public static void setAuthentication(AuthenticationScheme authentication) {
-        RestAssured.authentication = authentication;
+        updateDefaultClient(builder -> builder.authentication(authentication));
     }
 
     public static void addDefaultHeader(String name, String value) {
-        defaultHeaders.put(name, value);
+        updateDefaultClient(builder -> builder.header(name, value));
     }
 
+    // e.g. new JdkHttpTransport() for HTTP/2; defaults to the http.transport config key
+    public static void setTransport(HttpTransport httpTransport) {
+        updateDefaultClient(builder -> builder.transport(httpTransport));
+    }
+
+    // count = total attempts, delayMillis = base delay of the jittered exponential back-off
     public static void setRetryPolicy(int count, long delayMillis) {
-        retryCount = count;
-        retryDelay = delayMillis;
+        setRetryPolicy(new ExponentialBackoffRetryPolicy(count, delayMillis, MAX_RETRY_DELAY, MAX_RETRY_AFTER));
+    }
+
+    // gzip request bodies of at least minBytes; negative disables request compression
+    public static void setRequestCompression(int minBytes) {
+        updateDefaultClient(builder -> builder.compressRequestsAbove(minBytes));
+    }
+
+    public static void setRetryPolicy(RetryPolicy policy) {
+        updateDefaultClient(builder -> builder.retryPolicy(policy));
+    }
+
+    // Writers are serialized so concurrent setters don't lose each other's change; readers never lock
+    private static synchronized void updateDefaultClient(UnaryOperator<RestClient.Builder> change) {
+        defaultClient = change.apply(defaultClient.toBuilder()).build();
+    }
+
+    public static void setRetryBudget(RetryBudget budget) {
+        retryBudget = budget;
+    }
+
+    public static void setCircuitBreakerEnabled(boolean enabled) {
+        circuitBreakerEnabled = enabled;
+    }
+
+    public static CircuitBreaker.State getCircuitState(String endpoint) {
+        return circuitBreakers.get(EndpointTemplates.key(baseUriOf(defaultClient), endpoint)).getState();
+    }
+
+    public static void resetCircuitBreakers() {
+        circuitBreakers.reset();
+    }
+
+    /**
+     * Limits calls to {@code host} (e.g. {@code bookstore.toolsqa.com}) to {@code permitsPerSecond}, with
+     * bursts of up to {@code burst} calls. Retries take a permit too. 0 removes the limit.
+     */
+    public static void setRateLimit(String host, double permitsPerSecond, int burst) {
+        rateLimiters.configure(host, permitsPerSecond, burst);
+    }
+
+    public static void resetRateLimits() {
+        rateLimiters.reset();
+    }
+
+    /**
+     * Hedges GETs that have not answered after {@code delayMillis}: a duplicate is sent and the
+     * first successful response wins. Hedges are capped by the hedge.budget.* settings.
+     */
+    public static void enableHedging(long delayMillis) {
+        hedger = newHedger(delayMillis, 0);
+    }
+
+    // Hedge once a GET is slower than the given percentile (e.g. 95) of recent calls to the same endpoint
+    public static void enableHedgingAtPercentile(double percentile) {
+        hedger = newHedger(0, percentile);
+    }
+
+    public static void disableHedging() {
+        hedger = null;
+    }
+
+    private static RequestHedger newHedger(long delayMillis, double percentile) {
+        return new RequestHedger(delayMillis, percentile,
+                ConfigManager.getIntProperty("hedge.min.samples", 20),
+                ConfigManager.getIntProperty("hedge.window.size", 200),
+                new RetryBudget(Double.parseDouble(ConfigManager.getProperty("hedge.budget.ratio", "0.1")),
+                        ConfigManager.getIntProperty("hedge.budget.min.tokens", 5),
+                        ConfigManager.getIntProperty("hedge.budget.max.tokens", 50)),
+                hedgeExecutor);
+    }
+
+    /**
+     * Caches GET responses (LRU, at most maxEntries) for ttlMillis, then revalidates them with
+     * If-None-Match / If-Modified-Since. Meant for reference data that every test class fetches again.
+     * Entries are kept per set of credentials; clients with an authentication scheme other than basic or
+     * OAuth2 bearer bypass the cache.
+     */
+    public static void enableResponseCache(int maxEntries, long ttlMillis) {
+        responseCache = new ResponseCache(maxEntries, ttlMillis);
+    }
+
+    public static void disableResponseCache() {
+        responseCache = null;
     }
     // endregion
 
@@ -79,9 +263,18 @@ public class ApiUtil {
 
     public static <T> T get(String endpoint, Map<String, Object> queryParams,
                             Map<String, String> headers, Class<T> responseType) {
-        return executeWithRetry(() -> {
-            Response response = createRequest(queryParams, headers)
-                    .get(endpoint);
+        return get(defaultClient, endpoint, queryParams, headers, responseType);
+    }
+
+    public static <T> T get(RestClient client, String endpoint, Map<String, Object> queryParams,
+                            Map<String, String> headers, Class<T> responseType) {
+        RequestHedger currentHedger = hedger;
+        return executeWithRetry(client, endpoint, deadline -> {
+            Response response = currentHedger == null
+                    ? sendGet(client, deadline, endpoint, queryParams, headers)
+                    : currentHedger.execute(EndpointTemplates.key(baseUriOf(client), endpoint),
+                            () -> requireSuccess(sendGet(client, deadline, endpoint, queryParams, headers)),
+                            rateLimiterFor(client, endpoint)::tryAcquire);
             return processResponse(response, responseType);
         });
     }
@@ -92,10 +285,14 @@ public class ApiUtil {
 
     public static <T> Response post(String endpoint, Object body,
                                     Map<String, String> headers, Map<String, Object> queryParams) {
-        return executeWithRetry(() -> {
-            Response response = createRequest(queryParams, headers)
-                    .body(convertToJson(body))
-                    .post(endpoint);
+        return post(defaultClient, endpoint, body, headers, queryParams);
+    }
+
+    public static Response post(RestClient client, String endpoint, Object body,
+                                Map<String, String> headers, Map<String, Object> queryParams) {
+        return executeWithRetry(client, endpoint, deadline -> {
+            Response response = send(client, deadline, newRequest(client, Method.POST, endpoint, queryParams, headers)
+                    .body(convertToJson(body)));
             return processResponse(response, Response.class);
         });
     }
@@ -106,10 +303,14 @@ public class ApiUtil {
 
     public static <T> T put(String endpoint, Object body, Map<String, String> headers,
                             Map<String, Object> queryParams, Class<T> responseType) {
-        return executeWithRetry(() -> {
-            Response response = createRequest(queryParams, headers)
-                    .body(convertToJson(body))
-                    .put(endpoint);
+        return put(defaultClient, endpoint, body, headers, queryParams, responseType);
+    }
+
+    public static <T> T put(RestClient client, String endpoint, Object body, Map<String, String> headers,
+                            Map<String, Object> queryParams, Class<T> responseType) {
+        return executeWithRetry(client, endpoint, deadline -> {
+            Response response = send(client, deadline, newRequest(client, Method.PUT, endpoint, queryParams, headers)
+                    .body(convertToJson(body)));
             return processResponse(response, responseType);
         });
     }
@@ -120,51 +321,296 @@ public class ApiUtil {
 
     public static Response delete(String endpoint, Map<String, String> headers,
                                   Map<String, Object> queryParams) {
-        return executeWithRetry(() -> {
-            Response response = createRequest(queryParams, headers)
-                    .delete(endpoint);
+        return delete(defaultClient, endpoint, headers, queryParams);
+    }
+
+    public static Response delete(RestClient client, String endpoint, Map<String, String> headers,
+                                  Map<String, Object> queryParams) {
+        return executeWithRetry(client, endpoint, deadline -> {
+            Response response = send(client, deadline, newRequest(client, Method.DELETE, endpoint, queryParams, headers));
             return processResponse(response, Response.class);
         });
     }
     // endregion
 
+    // region Async HTTP Methods
+    // Requests go out through HttpTransport#sendAsync with the same retry, budget, circuit breaker,
+    // rate limit and deadline handling as the blocking methods. Permits and back-off are awaited on
+    // timers, and with the JDK transport no thread waits for the response either; validation and
+    // deserialization run on the shared ApiExecutors pool. Failures complete the future exceptionally.
+    public static <T> CompletableFuture<T> getAsync(String endpoint, Class<T> responseType) {
+        return getAsync(endpoint, null, null, responseType);
+    }
+
+    public static <T> CompletableFuture<T> getAsync(String endpoint, Map<String, Object> queryParams,
+                                                    Map<String, String> headers, Class<T> responseType) {
+        return getAsync(defaultClient, endpoint, queryParams, headers, responseType);
+    }
+
+    public static <T> CompletableFuture<T> getAsync(RestClient client, String endpoint, Map<String, Object> queryParams,
+                                                    Map<String, String> headers, Class<T> responseType) {
+        RequestHedger currentHedger = hedger;
+        return executeWithRetryAsync(client, endpoint, deadline -> {
+            CompletableFuture<Response> response = currentHedger == null
+                    ? sendGetAsync(client, deadline, endpoint, queryParams, headers)
+                    : currentHedger.executeAsync(EndpointTemplates.key(baseUriOf(client), endpoint),
+                            () -> sendGetAsync(client, deadline, endpoint, queryParams, headers)
+                                    .thenApply(ApiUtil::requireSuccess),
+                            rateLimiterFor(client, endpoint)::tryAcquire);
+            return response.thenApplyAsync(result -> processResponse(result, responseType), ApiExecutors.current());
+        });
+    }
+
+    public static CompletableFuture<Response> postAsync(String endpoint, Object body) {
+        return postAsync(endpoint, body, null, null);
+    }
+
+    public static CompletableFuture<Response> postAsync(String endpoint, Object body,
+                                                        Map<String, String> headers, Map<String, Object> queryParams) {
+        return postAsync(defaultClient, endpoint, body, headers, queryParams);
+    }
+
+    public static CompletableFuture<Response> postAsync(RestClient client, String endpoint, Object body,
+                                                        Map<String, String> headers, Map<String, Object> queryParams) {
+        return executeWithRetryAsync(client, endpoint, deadline ->
+                sendAsync(client, deadline, newRequest(client, Method.POST, endpoint, queryParams, headers)
+                        .body(convertToJson(body)), Response.class));
+    }
+
+    public static <T> CompletableFuture<T> putAsync(String endpoint, Object body, Class<T> responseType) {
+        return putAsync(endpoint, body, null, null, responseType);
+    }
+
+    public static <T> CompletableFuture<T> putAsync(String endpoint, Object body, Map<String, String> headers,
+                                                    Map<String, Object> queryParams, Class<T> responseType) {
+        return putAsync(defaultClient, endpoint, body, headers, queryParams, responseType);
+    }
+
+    public static <T> CompletableFuture<T> putAsync(RestClient client, String endpoint, Object body,
+                                                    Map<String, String> headers, Map<String, Object> queryParams,
+                                                    Class<T> responseType) {
+        return executeWithRetryAsync(client, endpoint, deadline ->
+                sendAsync(client, deadline, newRequest(client, Method.PUT, endpoint, queryParams, headers)
+                        .body(convertToJson(body)), responseType));
+    }
+
+    public static CompletableFuture<Response> deleteAsync(String endpoint) {
+        return deleteAsync(endpoint, null, null);
+    }
+
+    public static CompletableFuture<Response> deleteAsync(String endpoint, Map<String, String> headers,
+                                                          Map<String, Object> queryParams) {
+        return deleteAsync(defaultClient, endpoint, headers, queryParams);
+    }
+
+    public static CompletableFuture<Response> deleteAsync(RestClient client, String endpoint,
+                                                          Map<String, String> headers, Map<String, Object> queryParams) {
+        return executeWithRetryAsync(client, endpoint, deadline ->
+                sendAsync(client, deadline, newRequest(client, Method.DELETE, endpoint, queryParams, headers),
+                        Response.class));
+    }
+
+    public static CompletableFuture<Response> uploadFileAsync(String endpoint, File file, String mimeType) {
+        return uploadFileAsync(endpoint, file, mimeType, null, null);
+    }
+
+    public static CompletableFuture<Response> uploadFileAsync(String endpoint, File file, String mimeType,
+                                                              Map<String, String> headers, Map<String, Object> queryParams) {
+        return uploadFileAsync(defaultClient, endpoint, file, mimeType, headers, queryParams, null);
+    }
+
+    public static CompletableFuture<Response> uploadFileAsync(RestClient client, String endpoint, File file,
+                                                              String mimeType, Map<String, String> headers,
+                                                              Map<String, Object> queryParams) {
+        return uploadFileAsync(client, endpoint, file, mimeType, headers, queryParams, null);
+    }
+
+    public static CompletableFuture<Response> uploadFileAsync(RestClient client, String endpoint, File file,
+                                                              String mimeType, Map<String, String> headers,
+                                                              Map<String, Object> queryParams,
+                                                              UploadProgressListener progress) {
+        return executeWithRetryAsync(client, endpoint, deadline ->
+                sendAsync(client, deadline, newRequest(client, Method.POST, endpoint, queryParams, headers)
+                        .multipartFile(file)
+                        .multipartMimeType(mimeType)
+                        .uploadProgress(progress), Response.class));
+    }
+    // endregion
+
+    // region Batch Execution
+    /**
+     * Executes one request described by a {@link RequestDefinition}, with the same retry,
+     * circuit breaker and status validation as the other methods.
+     */
+    public static Response execute(RequestDefinition definition) {
+        return execute(defaultClient, definition);
+    }
+
+    public static Response execute(RestClient client, RequestDefinition definition) {
+        return executeWithRetry(client, definition.getEndpoint(), deadline -> {
+            TransportRequest.TransportRequestBuilder request = newRequest(client, definition.getMethod(),
+                    definition.getEndpoint(), definition.getQueryParams(), definition.getHeaders());
+            Object body = definition.getBody();
+            if (body != null) {
+                request.body(body instanceof String ? body : convertToJson(body));
+            }
+            return processResponse(send(client, deadline, request), Response.class);
+        });
+    }
+
+    public static BatchResult<RequestDefinition> batch(List<RequestDefinition> requests) {
+        return batch(requests, BatchOptions.defaults());
+    }
+
+    /**
+     * Runs all requests concurrently (bounded by {@link BatchOptions#getConcurrency()}) and returns
+     * the per-request response, latency and error together with a summary. Failed requests do not
+     * abort the batch.
+     */
+    public static BatchResult<RequestDefinition> batch(List<RequestDefinition> requests, BatchOptions options) {
+        return batch(defaultClient, requests, options);
+    }
+
+    public static BatchResult<RequestDefinition> batch(RestClient client, List<RequestDefinition> requests,
+                                                       BatchOptions options) {
+        BatchResult<RequestDefinition> result = BatchExecutor.execute(requests,
+                definition -> execute(client, definition), options);
+        logger.info("Batch finished - {}", result.summary());
+        return result;
+    }
+    // endregion
+
     // region File Upload
+    // Files are streamed from a FileChannel in upload.chunk.bytes chunks (chunked transfer), whatever their size
     public static Response uploadFile(String endpoint, File file, String mimeType) {
         return uploadFile(endpoint, file, mimeType, null, null);
     }
 
+    public static Response uploadFile(String endpoint, File file, String mimeType, UploadProgressListener progress) {
+        return uploadFile(defaultClient, endpoint, file, mimeType, null, null, progress);
+    }
+
     public static Response uploadFile(String endpoint, File file, String mimeType,
                                       Map<String, String> headers, Map<String, Object> queryParams) {
-        return executeWithRetry(() -> {
-            Response response = createRequest(queryParams, headers)
-                    .multiPart("file", file, mimeType)
-                    .post(endpoint);
+        return uploadFile(defaultClient, endpoint, file, mimeType, headers, queryParams);
+    }
+
+    public static Response uploadFile(RestClient client, String endpoint, File file, String mimeType,
+                                      Map<String, String> headers, Map<String, Object> queryParams) {
+        return uploadFile(client, endpoint, file, mimeType, headers, queryParams, null);
+    }
+
+    public static Response uploadFile(RestClient client, String endpoint, File file, String mimeType,
+                                      Map<String, String> headers, Map<String, Object> queryParams,
+                                      UploadProgressListener progress) {
+        return executeWithRetry(client, endpoint, deadline -> {
+            Response response = send(client, deadline, newRequest(client, Method.POST, endpoint, queryParams, headers)
+                    .multipartFile(file)
+                    .multipartMimeType(mimeType)
+                    .uploadProgress(progress));
             return processResponse(response, Response.class);
         });
     }
     // endregion
 
     // region Utility Methods
-    private static RequestSpecification createRequest(Map<String, Object> queryParams,
-                                                      Map<String, String> headers) {
-        RequestSpecification request = RestAssured.given();
-
-        // Add default headers
-        defaultHeaders.forEach(request::header);
-
-        // Add method-specific headers
+    private static TransportRequest.TransportRequestBuilder newRequest(RestClient client, Method method,
+                                                                     String endpoint,
+                                                                     Map<String, Object> queryParams,
+                                                                     Map<String, String> headers) {
+        // Client default headers first, then method-specific headers (which win on conflicts)
+        TransportRequest.TransportRequestBuilder request = client.newRequest(method, endpoint);
         if (headers != null) {
-            headers.forEach(request::header);
+            request.headers(headers);
         }
 
         // Add query parameters
         if (queryParams != null) {
-            queryParams.forEach(request::queryParam);
+            request.queryParams(queryParams);
         }
 
         return request;
     }
 
+    private static Response send(RestClient client, Deadline deadline, TransportRequest.TransportRequestBuilder request) {
+        return client.getTransport().send(prepare(client, deadline, request));
+    }
+
+    private static CompletableFuture<Response> sendAsync(RestClient client, Deadline deadline,
+                                                         TransportRequest.TransportRequestBuilder request) {
+        return client.getTransport().sendAsync(prepare(client, deadline, request));
+    }
+
+    // Validation and deserialization run on the shared pool, not on the transport's I/O thread
+    private static <T> CompletableFuture<T> sendAsync(RestClient client, Deadline deadline,
+                                                      TransportRequest.TransportRequestBuilder request,
+                                                      Class<T> responseType) {
+        return sendAsync(client, deadline, request)
+                .thenApplyAsync(response -> processResponse(response, responseType), ApiExecutors.current());
+    }
+
+    // Each attempt gets the client's timeouts, shrunk to what is left of the call's deadline
+    private static TransportRequest prepare(RestClient client, Deadline deadline,
+                                            TransportRequest.TransportRequestBuilder request) {
+        request.connectTimeoutMillis(deadline.cap(client.getConnectTimeoutMillis()))
+                .readTimeoutMillis(deadline.cap(client.getReadTimeoutMillis()));
+        return compress(client, request.build());
+    }
+
+    // gzip bodies above the client's threshold, unless the caller already chose a Content-Encoding
+    private static TransportRequest compress(RestClient client, TransportRequest request) {
+        int threshold = client.getRequestCompressionThreshold();
+        Object body = request.getBody();
+        if (threshold < 0 || body == null || hasHeader(request, "Content-Encoding")) {
+            return request;
+        }
+        byte[] raw = body instanceof byte[] ? (byte[]) body : body.toString().getBytes(StandardCharsets.UTF_8);
+        if (raw.length < threshold) {
+            return request;
+        }
+        TransportRequest.TransportRequestBuilder compressed = request.toBuilder()
+                .header("Content-Encoding", "gzip")
+                .body(Compression.gzip(raw));
+        if (!hasHeader(request, "Content-Type")) {
+            // Bodies are Jackson output; without this the bytes would go out as application/octet-stream
+            compressed.header("Content-Type", "application/json; charset=UTF-8");
+        }
+        return compressed.build();
+    }
+
+    private static boolean hasHeader(TransportRequest request, String name) {
+        return request.getHeaders().keySet().stream().anyMatch(name::equalsIgnoreCase);
+    }
+
+    private static Response sendGet(RestClient client, Deadline deadline, String endpoint,
+                                    Map<String, Object> queryParams, Map<String, String> headers) {
+        TransportRequest.TransportRequestBuilder request = newRequest(client, Method.GET, endpoint, queryParams, headers);
+        ResponseCache cache = responseCache;
+        String authentication = ResponseCache.authenticationKey(client.getAuthentication());
+        if (cache == null || authentication == null) {
+            return send(client, deadline, request);
+        }
+        CachedGet cachedGet = new CachedGet(cache, client, authentication, endpoint, queryParams, request);
+        Response fresh = cachedGet.freshResponse();
+        return fresh != null ? fresh : cachedGet.complete(send(client, deadline, request));
+    }
+
+    private static CompletableFuture<Response> sendGetAsync(RestClient client, Deadline deadline, String endpoint,
+                                                            Map<String, Object> queryParams,
+                                                            Map<String, String> headers) {
+        TransportRequest.TransportRequestBuilder request = newRequest(client, Method.GET, endpoint, queryParams, headers);
+        ResponseCache cache = responseCache;
+        String authentication = ResponseCache.authenticationKey(client.getAuthentication());
+        if (cache == null || authentication == null) {
+            return sendAsync(client, deadline, request);
+        }
+        CachedGet cachedGet = new CachedGet(cache, client, authentication, endpoint, queryParams, request);
+        Response fresh = cachedGet.freshResponse();
+        return fresh != null
+                ? CompletableFuture.completedFuture(fresh)
+                : sendAsync(client, deadline, request).thenApply(cachedGet::complete);
+    }
+
     private static <T> T processResponse(Response response, Class<T> responseType) {
         logResponseDetails(response);
         validateResponse(response);
@@ -175,18 +621,39 @@ public class ApiUtil {
         return convertJsonToPojo(response, responseType);
     }
 
+    // Hedged calls fail on a non-2xx response, so an error that comes back fast does not beat a slower success
+    private static Response requireSuccess(Response response) {
+        validateResponse(response);
+        return response;
+    }
+
     private static void validateResponse(Response response) {
         int statusCode = response.getStatusCode();
         if (statusCode < 200 || statusCode >= 300) {
             String errorBody = response.getBody().asString();
             logger.error("API request failed - Status: {} - Body: {}", statusCode, errorBody);
-            throw new ApiException(statusCode, "API request failed: " + errorBody);
+            throw new ApiException(statusCode, "API request failed: " + errorBody, response);
         }
     }
 
+    /**
+     * Deserializes a response body straight from its input stream, without building an
+     * intermediate String. Useful for large responses returned by the Services classes.
+     * <p>
+     * Bodies are normally in memory already: ConnectionReleaseFilter reads them so the connection
+     * goes back to the pool, and JdkHttpTransport reads them into a byte array. Then what streaming
+     * saves is the String (and its char copy) on top of those bytes. A request made with
+     * {@code ConnectionReleaseFilter.streamBody(spec)} is bound straight from the socket instead.
+     * </p>
+     */
+    public static <T> T readAs(Response response, Class<T> clazz) {
+        return convertJsonToPojo(response, clazz);
+    }
+
     private static <T> T convertJsonToPojo(Response response, Class<T> clazz) {
-        try {
-            return objectMapper.readValue(response.getBody().asString(), clazz);
+        ObjectReader reader = objectReaders.computeIfAbsent(clazz, objectMapper::readerFor);
+        try (InputStream body = response.getBody().asInputStream()) {
+            return reader.readValue(body);
         } catch (IOException e) {
             logger.error("JSON deserialization error: {}", e.getMessage());
             throw new SerializationException("JSON deserialization error", e);
@@ -203,37 +670,281 @@ public class ApiUtil {
     }
 
     private static void logResponseDetails(Response response) {
+        // Bodies are logged (sampled and size-capped) by SampledLoggingFilter
         logger.info("Response Status: {}", response.getStatusCode());
         logger.debug("Response Headers: {}", response.getHeaders());
-        logger.debug("Response Body: {}", response.getBody().asPrettyString());
     }
 
-    private static <T> T executeWithRetry(ApiOperation<T> operation) {
-        int attempts = 0;
-        Exception lastError = null;
-
-        while (attempts < retryCount) {
+    private static <T> T executeWithRetry(RestClient client, String endpoint, ApiOperation<T> operation) {
+        RetryState state = new RetryState(client, endpoint);
+        while (true) {
+            state.startAttempt(state.limiter.acquire(state.maxPermitWaitNanos()));
             try {
-                return operation.execute();
-            } catch (ApiException e) {
-                if (e.getStatusCode() >= 500) { // Retry only on server errors
-                    lastError = e;
-                    logger.warn("Attempt {} failed - Retrying in {}ms", attempts + 1, retryDelay);
-                    sleep(retryDelay);
-                } else {
-                    throw e;
-                }
+                return executeAttempt(state.breaker, state.deadline, operation);
+            } catch (Exception e) {
+                sleep(state.onFailure(e), endpoint);
             }
-            attempts++;
         }
-        throw new ApiException("API request failed after " + retryCount + " attempts", lastError);
     }
 
-    private static void sleep(long millis) {
+    // The same loop as executeWithRetry; permits and back-off are awaited on timers instead of sleeping
+    private static <T> CompletableFuture<T> executeWithRetryAsync(RestClient client, String endpoint,
+                                                                  AsyncApiOperation<T> operation) {
+        return attemptAsync(new RetryState(client, endpoint), operation);
+    }
+
+    // Every step goes to ApiExecutors.current(): a back-off may outlast the executor it started on
+    private static <T> CompletableFuture<T> attemptAsync(RetryState state, AsyncApiOperation<T> operation) {
+        Executor executor = ApiExecutors.current();
+        return state.limiter.acquireAsync(executor, state.maxPermitWaitNanos()).thenComposeAsync(waitNanos -> {
+            state.startAttempt(waitNanos);
+            return executeAttemptAsync(state.breaker, state.deadline, operation)
+                    .handle((result, error) -> {
+                        if (error == null) {
+                            return CompletableFuture.completedFuture(result);
+                        }
+                        long delay = state.onFailure(unwrap(error));
+                        return ApiExecutors.delay(delay, TimeUnit.MILLISECONDS, executor)
+                                .thenCompose(ignored -> attemptAsync(state, operation));
+                    })
+                    .thenCompose(next -> next);
+        }, executor);
+    }
+
+    private static ApiTimeoutException timeout(String endpoint, String phase, long timeoutMillis, Deadline deadline,
+                                                List<Long> attemptMillis, long backoffMillis, Throwable cause) {
+        ApiMetrics.increment(METRIC_TIMEOUTS_PREFIX + phase);
+        ApiTimeoutException exception = new ApiTimeoutException(
+                String.format("Timed out (%s) calling %s", phase, endpoint), phase, timeoutMillis,
+                deadline.elapsedMillis(), attemptMillis, backoffMillis, cause);
+        logger.warn(exception.getMessage());
+        return exception;
+    }
+
+    private static <T> T executeAttempt(CircuitBreaker breaker, Deadline deadline, ApiOperation<T> operation) {
+        if (breaker == null) {
+            return operation.execute(deadline);
+        }
+        if (!breaker.tryAcquirePermission()) {
+            ApiMetrics.increment(METRIC_CIRCUIT_REJECTED);
+            throw new CircuitOpenException(breaker.getName());
+        }
+        try {
+            T result = operation.execute(deadline);
+            breaker.onSuccess();
+            return result;
+        } catch (Throwable e) {
+            // Every outcome must be reported, a half-open probe that never reports holds its permit forever
+            recordOutcome(breaker, e);
+            throw e;
+        }
+    }
+
+    private static <T> CompletableFuture<T> executeAttemptAsync(CircuitBreaker breaker, Deadline deadline,
+                                                                AsyncApiOperation<T> operation) {
+        if (breaker == null) {
+            return operation.execute(deadline);
+        }
+        if (!breaker.tryAcquirePermission()) {
+            ApiMetrics.increment(METRIC_CIRCUIT_REJECTED);
+            return CompletableFuture.failedFuture(new CircuitOpenException(breaker.getName()));
+        }
+        CompletableFuture<T> result;
+        try {
+            result = operation.execute(deadline);
+        } catch (Throwable e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((value, error) -> {
+            if (error == null) {
+                breaker.onSuccess();
+            } else {
+                recordOutcome(breaker, unwrap(error));
+            }
+        });
+    }
+
+    private static void recordOutcome(CircuitBreaker breaker, Throwable error) {
+        if (isEndpointFailure(error)) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Attempt count, timings and the retry decision for one call, shared by the blocking and the
+     * async retry loops. The async loop touches it from one stage at a time.
+     */
+    private static final class RetryState {
+        private final String endpoint;
+        private final RestClient client;
+        private final RetryPolicy policy;
+        private final RetryBudget budget;
+        private final CircuitBreaker breaker;
+        private final RateLimiter limiter;
+        // One deadline for all attempts and back-off; each attempt only gets what is left of it
+        private final Deadline deadline;
+        private final List<Long> attemptMillis = new ArrayList<>();
+        private long backoffMillis;
+        private int attempt;
+        private long attemptStart;
+
+        private RetryState(RestClient client, String endpoint) {
+            this.endpoint = endpoint;
+            this.client = client;
+            this.policy = client.getRetryPolicy();
+            this.budget = retryBudget;
+            this.breaker = circuitBreakerEnabled
+                    ? circuitBreakers.get(EndpointTemplates.key(baseUriOf(client), endpoint))
+                    : null;
+            this.limiter = rateLimiterFor(client, endpoint);
+            this.deadline = Deadline.after(client.getDeadlineMillis());
+            budget.recordRequest();
+        }
+
+        // A permit that only frees up after the deadline is not worth waiting for
+        private long maxPermitWaitNanos() {
+            return deadline.hasLimit() ? TimeUnit.MILLISECONDS.toNanos(deadline.remainingMillis()) : Long.MAX_VALUE;
+        }
+
+        // Called once the rate limiter has answered: waitNanos is the wait for the permit, -1 when none was free in time
+        private void startAttempt(long waitNanos) {
+            attempt++;
+            if (waitNanos < 0) {
+                logger.debug("No rate limit permit for {} within the {}ms left", limiter.getName(),
+                        deadline.remainingMillis());
+            }
+            recordRateLimitWait(waitNanos);
+            if (waitNanos < 0 || deadline.isExpired()) {
+                throw timeout(endpoint, Timeouts.DEADLINE, deadline.getTimeoutMillis(), deadline, attemptMillis,
+                        backoffMillis, null);
+            }
+            attemptStart = System.nanoTime();
+        }
+
+        /**
+         * @return the back-off in ms before the next attempt
+         * @throws RuntimeException the exception the call fails with when it is not retried
+         */
+        private long onFailure(Throwable e) {
+            attemptMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - attemptStart));
+            String phase = Timeouts.phase(e);
+            ApiException failure;
+            if (phase != null) {
+                long limit = Timeouts.CONNECT.equals(phase) ? client.getConnectTimeoutMillis()
+                        : client.getReadTimeoutMillis();
+                failure = timeout(endpoint, phase, deadline.cap(limit), deadline, attemptMillis, backoffMillis, e);
+            } else if (e instanceof ApiException) {
+                failure = (ApiException) e;
+            } else {
+                throw asUnchecked(e);
+            }
+
+            if (!policy.isRetryable(failure)) {
+                throw failure;
+            }
+            // A timeout is thrown as it is: it already carries every attempt and the back-off
+            if (attempt >= policy.getMaxAttempts()) {
+                throw failure instanceof ApiTimeoutException ? failure
+                        : new ApiException("API request failed after " + attempt + " attempts", failure);
+            }
+            if (!budget.tryAcquireRetry()) {
+                ApiMetrics.increment(METRIC_RETRY_BUDGET_EXHAUSTED);
+                logger.warn("Retry budget exhausted - giving up on {} after {} attempts", endpoint, attempt);
+                throw failure instanceof ApiTimeoutException ? failure
+                        : new ApiException("Retry budget exhausted - giving up after " + attempt + " attempts", failure);
+            }
+            long delay = policy.backoffMillis(failure, attempt);
+            if (delay >= deadline.remainingMillis()) {
+                // Sleeping would use up the deadline before the next attempt even starts
+                throw timeout(endpoint, Timeouts.DEADLINE, deadline.getTimeoutMillis(), deadline, attemptMillis,
+                        backoffMillis, failure);
+            }
+            ApiMetrics.increment(METRIC_RETRIES);
+            ApiMetrics.add(METRIC_RETRY_DELAY_MS, delay);
+            logger.warn("Attempt {} failed with status {} - Retrying in {}ms", attempt, failure.getStatusCode(),
+                    delay);
+            backoffMillis += delay;
+            return delay;
+        }
+
+        // Errors as they are; a checked exception from an async transport as the blocking transports report it
+        private RuntimeException asUnchecked(Throwable e) {
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            if (e instanceof RuntimeException) {
+                return (RuntimeException) e;
+            }
+            if (e instanceof IOException) {
+                return new UncheckedIOException("Request failed: " + endpoint, (IOException) e);
+            }
+            return new CompletionException(e);
+        }
+    }
+
+    private static RateLimiter rateLimiterFor(RestClient client, String endpoint) {
+        return rateLimiters.get(EndpointTemplates.host(baseUriOf(client), endpoint));
+    }
+
+    private static void recordRateLimitWait(long waitNanos) {
+        if (waitNanos > 0) {
+            ApiMetrics.increment(METRIC_RATE_LIMIT_WAITS);
+            ApiMetrics.add(METRIC_RATE_LIMIT_WAIT_MS, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            logger.debug("Waited {}ms for a rate limit permit", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+    }
+
+    private static String baseUriOf(RestClient client) {
+        return client.getBaseUri() != null ? client.getBaseUri() : RestAssured.baseURI;
+    }
+
+    // 5xx, timeouts, transport errors and Errors count against the breaker; 4xx and (de)serialization problems mean the endpoint is up
+    private static boolean isEndpointFailure(Throwable e) {
+        if (e instanceof ApiTimeoutException) {
+            return true;
+        }
+        if (e instanceof ApiException) {
+            return ((ApiException) e).getStatusCode() >= 500;
+        }
+        return !(e instanceof SerializationException || e instanceof DeserializationException
+                || e instanceof ValidationException);
+    }
+
+    private static void reportCircuitTransition(String name, CircuitBreaker.State from, CircuitBreaker.State to,
+                                                String reason) {
+        String message = String.format("Circuit breaker [%s] %s -> %s: %s", name, from, to, reason);
+        if (to == CircuitBreaker.State.OPEN) {
+            logger.warn(message);
+        } else {
+            logger.info(message);
+        }
+        ApiMetrics.increment("circuit.transition." + to.name().toLowerCase());
+        // Transitions often happen on pool threads (async, batch, hedges) that have no test of their own
+        Status status = to == CircuitBreaker.State.OPEN ? Status.WARNING : Status.INFO;
+        ExtentTestManager.logToSuiteNode(CIRCUIT_BREAKER_NODE, "Circuit breaker state transitions for this run",
+                status, message);
+        ExtentTest test = ExtentTestManager.getTest();
+        if (test != null) {
+            test.log(status, message);
+        }
+    }
+
+    // An interrupt ends the call: swallowing it would turn every later back-off into a busy retry loop
+    private static void sleep(long millis, String endpoint) {
         try {
             Thread.sleep(millis);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry " + endpoint, e);
         }
     }
     // endregion
@@ -241,20 +952,85 @@ public class ApiUtil {
     // region Custom Exceptions
     public static class ApiException extends RuntimeException {
         private final int statusCode;
+        private final transient Response response;
 
         public ApiException(int statusCode, String message) {
+            this(statusCode, message, null);
+        }
+
+        public ApiException(int statusCode, String message, Response response) {
             super(message);
             this.statusCode = statusCode;
+            this.response = response;
         }
 
         public ApiException(String message, Throwable cause) {
             super(message, cause);
             this.statusCode = -1;
+            this.response = null;
         }
 
         public int getStatusCode() {
             return statusCode;
         }
+
+        // The failed response, when there was one (used e.g. to honor Retry-After)
+        public Response getResponse() {
+            return response;
+        }
+    }
+
+    public static class CircuitOpenException extends ApiException {
+        public CircuitOpenException(String circuitName) {
+            super(-1, "Circuit breaker open for " + circuitName + " - failing fast");
+        }
+    }
+
+    /**
+     * A connect, read or overall-deadline timeout. The message carries the timing breakdown, e.g.
+     * {@code Timed out (read) calling /pet/1 after 2 attempts in 15034ms (limit 10000ms):
+     * attempts [5002ms, 10010ms], back-off 22ms}.
+     */
+    public static class ApiTimeoutException extends ApiException {
+        private final String phase;
+        private final long timeoutMillis;
+        private final long elapsedMillis;
+        private final List<Long> attemptMillis;
+        private final long backoffMillis;
+
+        public ApiTimeoutException(String message, String phase, long timeoutMillis, long elapsedMillis,
+                                   List<Long> attemptMillis, long backoffMillis, Throwable cause) {
+            super(String.format("%s after %d attempt(s) in %dms (limit %dms): attempts %s, back-off %dms",
+                    message, attemptMillis.size(), elapsedMillis, timeoutMillis,
+                    attemptMillis.stream().map(millis -> millis + "ms").collect(Collectors.toList()), backoffMillis),
+                    cause);
+            this.phase = phase;
+            this.timeoutMillis = timeoutMillis;
+            this.elapsedMillis = elapsedMillis;
+            this.attemptMillis = Collections.unmodifiableList(new ArrayList<>(attemptMillis));
+            this.backoffMillis = backoffMillis;
+        }
+
+        // Timeouts.CONNECT, Timeouts.READ or Timeouts.DEADLINE
+        public String getPhase() {
+            return phase;
+        }
+
+        public long getTimeoutMillis() {
+            return timeoutMillis;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public List<Long> getAttemptMillis() {
+            return attemptMillis;
+        }
+
+        public long getBackoffMillis() {
+            return backoffMillis;
+        }
     }
 
     public static class SerializationException extends RuntimeException {
@@ -277,7 +1053,66 @@ public class ApiUtil {
 
     @FunctionalInterface
     private interface ApiOperation<T> {
-        T execute();
+        T execute(Deadline deadline);
+    }
+
+    @FunctionalInterface
+    private interface AsyncApiOperation<T> {
+        CompletableFuture<T> execute(Deadline deadline);
+    }
+
+    /**
+     * One GET through the response cache: a fresh entry answers it, a stale one that can be
+     * revalidated adds its validators to the request, and the response then updates the cache.
+     */
+    private static final class CachedGet {
+        private final ResponseCache cache;
+        private final String key;
+        private final ResponseCache.Entry cached;
+        private final boolean fresh;
+        private final boolean revalidating;
+
+        private CachedGet(ResponseCache cache, RestClient client, String authentication, String endpoint,
+                          Map<String, Object> queryParams, TransportRequest.TransportRequestBuilder request) {
+            this.cache = cache;
+            // Keyed on the resolved URL, the merged headers and the credentials, so clients with different
+            // base URIs or users don't collide
+            this.key = ResponseCache.key(EndpointTemplates.resolve(baseUriOf(client), endpoint), queryParams,
+                    request.build().getHeaders(), authentication);
+            this.cached = cache.get(key);
+            this.fresh = cached != null && cached.isFresh();
+            this.revalidating = cached != null && !fresh && cached.canRevalidate();
+            if (revalidating) {
+                if (cached.getEtag() != null) {
+                    request.header("If-None-Match", cached.getEtag());
+                }
+                if (cached.getLastModified() != null) {
+                    request.header("If-Modified-Since", cached.getLastModified());
+                }
+            }
+        }
+
+        // null when the request has to be sent
+        private Response freshResponse() {
+            if (fresh) {
+                ApiMetrics.increment(METRIC_CACHE_HIT);
+                return cached.getResponse();
+            }
+            return null;
+        }
+
+        private Response complete(Response response) {
+            if (revalidating && response.getStatusCode() == 304) {
+                ApiMetrics.increment(METRIC_CACHE_REVALIDATED);
+                cached.refresh();
+                return cached.getResponse();
+            }
+            ApiMetrics.increment(METRIC_CACHE_MISS);
+            if (response.getStatusCode() == 200) {
+                cache.put(key, response);
+            }
+            return response;
+        }
     }
     // endregion
 }
\ No newline at end of file
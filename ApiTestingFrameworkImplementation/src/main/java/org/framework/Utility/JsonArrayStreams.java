@@ -0,0 +1,112 @@
+package org.framework.Utility;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy, element-by-element access to a top-level JSON array, e.g. the pets returned by
+ * {@code Pet.pet_FindByStatus}:
+ * <pre>
+ * try (Stream&lt;JsonNode&gt; pets = JsonArrayStreams.stream(response, JsonNode.class)) {
+ *     assertTrue(pets.allMatch(pet -&gt; "available".equals(pet.path("status").asText())));
+ * }
+ * </pre>
+ * Elements are bound one at a time with Jackson's {@link MappingIterator} as the body is read,
+ * and a short-circuiting stream stops reading early. Unknown properties are ignored, a POJO can
+ * map just the fields a test looks at.
+ * <p>
+ * Memory only stays flat when the body still comes from the server, that is for a request made
+ * with {@code ConnectionReleaseFilter.streamBody(spec)} (e.g. {@code Pet.pet_FindByStatusStreamed})
+ * over the default RestAssured transport. Any other response body is already in memory: read by
+ * {@code ConnectionReleaseFilter} so the connection goes back to the pool, by
+ * {@code JdkHttpTransport}, or by {@code jsonPath()}, {@code asString()}, a {@code ResponseCache}, ...
+ * The elements are then still bound one by one, which saves the String and the tree of the whole
+ * array but not the bytes.
+ * </p>
+ * <p>
+ * Close the iterator or stream when done; that closes the body and, for a streamed one, hands the
+ * connection back to the pool.
+ * </p>
+ */
+public final class JsonArrayStreams {
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final ConcurrentMap<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+
+    private JsonArrayStreams() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    public static <T> MappingIterator<T> iterator(Response response, Class<T> type) {
+        return iterator(response.getBody().asInputStream(), type);
+    }
+
+    public static <T> Stream<T> stream(Response response, Class<T> type) {
+        return stream(iterator(response, type));
+    }
+
+    public static <T> MappingIterator<T> iterator(Path file, Class<T> type) {
+        try {
+            return iterator(Files.newInputStream(file), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open " + file, e);
+        }
+    }
+
+    public static <T> Stream<T> stream(Path file, Class<T> type) {
+        return stream(iterator(file, type));
+    }
+
+    /**
+     * @param json a stream positioned at a top-level JSON array; it is closed with the iterator
+     * @throws IllegalArgumentException when the JSON is not an array
+     */
+    public static <T> MappingIterator<T> iterator(InputStream json, Class<T> type) {
+        ObjectReader reader = objectReaders.computeIfAbsent(type, objectMapper::readerFor);
+        MappingIterator<T> elements;
+        try {
+            // The reader steps into a root-level array itself and hands out its elements
+            elements = reader.readValues(json);
+        } catch (IOException e) {
+            closeQuietly(json);
+            throw new UncheckedIOException("Unable to read JSON array", e);
+        }
+        if (!elements.getParser().getParsingContext().inArray()) {
+            closeQuietly(elements);
+            throw new IllegalArgumentException("JSON body is not an array");
+        }
+        return elements;
+    }
+
+    public static <T> Stream<T> stream(InputStream json, Class<T> type) {
+        return stream(iterator(json, type));
+    }
+
+    private static <T> Stream<T> stream(MappingIterator<T> elements) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false)
+                .onClose(() -> closeQuietly(elements));
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // nothing left to read from it anyway
+        }
+    }
+}
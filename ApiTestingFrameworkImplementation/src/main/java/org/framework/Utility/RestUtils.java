@@ -1,7 +1,7 @@
 package org.framework.Utility;
 
 import io.restassured.response.Response;
-import static io.restassured.RestAssured.*;
+import static org.framework.http.RequestSpecFactory.given;
 
 import java.util.HashMap;
 import java.util.Map;
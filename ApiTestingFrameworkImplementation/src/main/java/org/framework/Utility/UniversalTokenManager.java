@@ -1,8 +1,8 @@
 package org.framework.Utility;
 
-import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import org.framework.http.RequestSpecFactory;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,7 +35,7 @@ public class UniversalTokenManager {
     }
 
     private static Response executeAuthRequest(AuthConfig config) {
-        return RestAssured.given()
+        return RequestSpecFactory.given()
                 .baseUri(config.baseUrl)
                 .headers(config.headers)
                 .contentType(config.contentType)
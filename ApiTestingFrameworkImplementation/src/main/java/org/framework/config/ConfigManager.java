@@ -17,4 +17,21 @@ public class ConfigManager {
     public static String getProperty(String key) {
         return properties.getProperty(key);
     }
-}
\ No newline at end of file
+
+    // System properties win over config.properties so CI runs can tune a value with -Dkey=value
+    public static String getProperty(String key, String defaultValue) {
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+
+    public static int getIntProperty(String key, int defaultValue) {
+        return Integer.parseInt(getProperty(key, String.valueOf(defaultValue)).trim());
+    }
+
+    public static long getLongProperty(String key, long defaultValue) {
+        return Long.parseLong(getProperty(key, String.valueOf(defaultValue)).trim());
+    }
+
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getProperty(key, String.valueOf(defaultValue)).trim());
+    }
+}
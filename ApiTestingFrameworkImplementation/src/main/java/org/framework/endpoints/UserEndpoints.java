@@ -2,10 +2,12 @@
 package org.framework.endpoints;
 
 import io.restassured.response.Response;
+import org.framework.http.UriTemplate;
 
-import static io.restassured.RestAssured.given;
+import static org.framework.http.RequestSpecFactory.given;
 
 public class UserEndpoints {
+    private static final UriTemplate USER_BY_ID = UriTemplate.of("/users/{id}");
 
     // GET /users - Retrieve all users
     public static Response getAllUsers() {
@@ -31,9 +33,9 @@ public class UserEndpoints {
 
     // GET /users/{id} - Retrieve a single user by ID
     public static Response getUserById(int id) {
-        return given()
+        return USER_BY_ID.prepare(given())
                 .when()
-                .get("/users/" + id)
+                .get(USER_BY_ID.expand(id))
                 .then()
                 .extract()
                 .response();
@@ -41,11 +43,11 @@ public class UserEndpoints {
 
     // PUT /users/{id} - Update an existing user by ID
     public static Response updateUser(int id, String body) {
-        return given()
+        return USER_BY_ID.prepare(given())
                 .header("Content-Type", "application/json")
                 .body(body)
                 .when()
-                .put("/users/" + id)
+                .put(USER_BY_ID.expand(id))
                 .then()
                 .extract()
                 .response();
@@ -53,9 +55,9 @@ public class UserEndpoints {
 
     // DELETE /users/{id} - Delete a user by ID
     public static Response deleteUser(int id) {
-        return given()
+        return USER_BY_ID.prepare(given())
                 .when()
-                .delete("/users/" + id)
+                .delete(USER_BY_ID.expand(id))
                 .then()
                 .extract()
                 .response();
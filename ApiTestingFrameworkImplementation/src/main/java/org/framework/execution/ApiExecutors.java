@@ -0,0 +1,278 @@
+package org.framework.execution;
+
+import org.framework.config.ConfigManager;
+import org.framework.http.RequestTimings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Shared executor for the asynchronous API calls.
+ * <p>
+ * The pool is bounded in both threads ({@code async.pool.size}) and queued tasks
+ * ({@code async.queue.capacity}). When the queue is full the submitting thread blocks
+ * until a slot frees up, so a test fanning out thousands of calls is throttled instead
+ * of failing or running the work on its own thread. Pool threads never block: the next
+ * stage of an async call submitted from the pool runs on the submitting thread instead.
+ * </p>
+ * <p>
+ * With {@link ExecutionMode#VIRTUAL} ({@code async.execution.mode=virtual}) every call, including the
+ * retry back-off sleeps, runs on its own virtual thread and no pool sizing is needed. That covers the
+ * {@code ApiUtil.*Async} methods and work handed to {@link #supplyAsync}; the Services classes call
+ * synchronously on the caller's thread unless wrapped in {@code supplyAsync}. The project
+ * compiles for Java 11, so the virtual-thread factory is looked up reflectively at runtime.
+ * </p>
+ * <p>
+ * Tasks run as part of the test that submitted them (see {@link RequestTimings#inCurrentTest(Executor)}),
+ * and timers should come from {@link #delay} for the same reason. A call that waits on a timer hands its
+ * next step to {@link #current()}, so it goes to whatever executor is installed when the timer fires.
+ * </p>
+ */
+public final class ApiExecutors {
+    private static final Logger logger = LoggerFactory.getLogger(ApiExecutors.class);
+
+    private static volatile ExecutorService executor;
+    private static volatile ExecutionMode executionMode =
+            ExecutionMode.fromString(ConfigManager.getProperty("async.execution.mode", "platform"));
+    private static final Executor CURRENT = task -> executor().execute(task);
+
+    private ApiExecutors() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    public static ExecutorService executor() {
+        ExecutorService current = executor;
+        if (current == null) {
+            synchronized (ApiExecutors.class) {
+                if (executor == null) {
+                    executor = new TestContextExecutor(newExecutor(executionMode));
+                }
+                current = executor;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * The shared executor as it is when a task is handed over rather than when this is called: work
+     * scheduled before a {@link #setExecutor} or {@link #setExecutionMode} runs on the new executor.
+     */
+    public static Executor current() {
+        return CURRENT;
+    }
+
+    /**
+     * Replaces the shared executor. The previous one is shut down after its queued tasks finish; calls
+     * waiting on a timer from {@link #delay} with {@link #current()} carry on on the new one.
+     */
+    public static synchronized void setExecutor(ExecutorService newExecutor) {
+        ExecutorService previous = executor;
+        executor = newExecutor instanceof TestContextExecutor ? newExecutor : new TestContextExecutor(newExecutor);
+        if (previous != null && previous != executor) {
+            previous.shutdown();
+        }
+    }
+
+    public static ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Switches the thread model for subsequent async calls. Tasks already queued on the old executor still
+     * run there, which is then shut down; calls waiting on a back-off, rate-limit or hedge timer continue on
+     * the new executor (see {@link #current()}).
+     */
+    public static synchronized void setExecutionMode(ExecutionMode mode) {
+        if (mode == executionMode) {
+            return;
+        }
+        executionMode = mode;
+        ExecutorService previous = executor;
+        executor = null;
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor());
+    }
+
+    /**
+     * Back-off, rate-limit and hedge timer: completes on {@code executor} after {@code delay}, as part of
+     * the test that scheduled it although the timer thread hands it over. If {@code executor} has been
+     * shut down by then the future completes with its {@link RejectedExecutionException}, which would
+     * otherwise be thrown on the timer thread and lost.
+     */
+    public static CompletableFuture<Void> delay(long delay, TimeUnit unit, Executor executor) {
+        CompletableFuture<Void> timer = new CompletableFuture<>();
+        Executor target = RequestTimings.inCurrentTest(executor);
+        CompletableFuture.delayedExecutor(delay, unit, task -> {
+            try {
+                target.execute(task);
+            } catch (RejectedExecutionException e) {
+                timer.completeExceptionally(e);
+            }
+        }).execute(() -> timer.complete(null));
+        return timer;
+    }
+
+    public static synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    public static ExecutorService newExecutor(ExecutionMode mode) {
+        if (mode == ExecutionMode.VIRTUAL) {
+            ExecutorService virtual = newVirtualThreadExecutor();
+            if (virtual != null) {
+                logger.info("Creating async API executor - one virtual thread per call");
+                return virtual;
+            }
+            logger.warn("Virtual threads are not available on Java {} - falling back to platform threads",
+                    System.getProperty("java.version"));
+        }
+        return newBoundedExecutor(
+                ConfigManager.getIntProperty("async.pool.size", 32),
+                ConfigManager.getIntProperty("async.queue.capacity", 1000));
+    }
+
+    public static ExecutorService newBoundedExecutor(int poolSize, int queueCapacity) {
+        logger.info("Creating async API executor - threads: {}, queue capacity: {}", poolSize, queueCapacity);
+        BlockingSubmitPolicy submitPolicy = new BlockingSubmitPolicy();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), submitPolicy.marking(daemonThreadFactory("api-async")),
+                submitPolicy);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Unbounded executor for work that callers block on while already running on the shared pool
+     * (e.g. hedged requests), where a bounded pool could deadlock. Virtual threads when available,
+     * otherwise a cached pool of daemon threads.
+     */
+    public static ExecutorService newElasticExecutor(String threadPrefix) {
+        ExecutorService virtual = newVirtualThreadExecutor();
+        return new TestContextExecutor(
+                virtual != null ? virtual : Executors.newCachedThreadPool(daemonThreadFactory(threadPrefix)));
+    }
+
+    // True on a JDK 21+ runtime, where ExecutionMode.VIRTUAL really gets virtual threads
+    public static boolean isVirtualThreadAvailable() {
+        ExecutorService probe = newVirtualThreadExecutor();
+        if (probe == null) {
+            return false;
+        }
+        probe.shutdown();
+        return true;
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Applies back-pressure to the caller instead of rejecting. A pool thread runs the task itself:
+    // async calls submit their next stage from the pool, and if every worker blocked on the full
+    // queue nothing would be left to drain it.
+    private static class BlockingSubmitPolicy implements RejectedExecutionHandler {
+        private final ThreadLocal<Boolean> poolThread = new ThreadLocal<>();
+
+        ThreadFactory marking(ThreadFactory threadFactory) {
+            return runnable -> threadFactory.newThread(() -> {
+                poolThread.set(Boolean.TRUE);
+                runnable.run();
+            });
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor pool) {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Async API executor has been shut down");
+            }
+            if (Boolean.TRUE.equals(poolThread.get())) {
+                task.run();
+                return;
+            }
+            try {
+                pool.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for an async API slot", e);
+            }
+            // Shut down while this thread waited: the workers may already be gone and leave the task queued
+            // for good. If no worker has taken it yet it is rejected after all.
+            if (pool.isShutdown() && pool.getQueue().remove(task)) {
+                throw new RejectedExecutionException("Async API executor has been shut down");
+            }
+        }
+    }
+
+    // Runs each task as part of the test running on the submitting thread
+    private static class TestContextExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+
+        TestContextExecutor(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            RequestTimings.inCurrentTest(delegate).execute(task);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.framework.execution;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Runs one call per item on the {@link ApiExecutors} pool with at most
+ * {@link BatchOptions#getConcurrency()} calls in flight, and collects a {@link BatchResult}.
+ * <p>
+ * A failing item never aborts the batch: its exception is captured in its {@link BatchResult.ItemResult}.
+ * Items are submitted as permits free up, so the pooled keep-alive connections stay busy without
+ * queueing the whole batch at once.
+ * </p>
+ */
+public final class BatchExecutor {
+
+    private BatchExecutor() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    public static <K> BatchResult<K> execute(Collection<K> items, Function<K, Response> call, BatchOptions options) {
+        List<K> keys = new ArrayList<>(items);
+        AtomicReferenceArray<BatchResult.ItemResult<K>> byInput = new AtomicReferenceArray<>(keys.size());
+        ConcurrentLinkedQueue<BatchResult.ItemResult<K>> byCompletion = new ConcurrentLinkedQueue<>();
+        CompletableFuture<?>[] inFlight = new CompletableFuture<?>[keys.size()];
+        Semaphore permits = new Semaphore(options.getConcurrency());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < keys.size(); i++) {
+            int index = i;
+            K key = keys.get(i);
+            permits.acquireUninterruptibly();
+            try {
+                inFlight[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        BatchResult.ItemResult<K> result = invoke(key, call);
+                        byInput.set(index, result);
+                        byCompletion.add(result);
+                    } finally {
+                        permits.release();
+                    }
+                }, ApiExecutors.executor());
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+        CompletableFuture.allOf(inFlight).join();
+        long wallClock = System.nanoTime() - start;
+
+        List<BatchResult.ItemResult<K>> results = new ArrayList<>(keys.size());
+        if (options.getOrdering() == BatchOptions.Ordering.INPUT) {
+            for (int i = 0; i < keys.size(); i++) {
+                results.add(byInput.get(i));
+            }
+        } else {
+            results.addAll(byCompletion);
+        }
+        return new BatchResult<>(results, wallClock);
+    }
+
+    private static <K> BatchResult.ItemResult<K> invoke(K key, Function<K, Response> call) {
+        long start = System.nanoTime();
+        try {
+            Response response = call.apply(key);
+            return new BatchResult.ItemResult<>(key, response, null, System.nanoTime() - start);
+        } catch (Exception e) {
+            return new BatchResult.ItemResult<>(key, null, e, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.framework.execution;
+
+import org.framework.config.ConfigManager;
+
+/**
+ * How a batch is run: how many items may be in flight at once and in which order results are reported.
+ */
+public class BatchOptions {
+
+    public enum Ordering {
+        /** Results are reported in the order the items were given. */
+        INPUT,
+        /** Results are reported in the order the calls finished. */
+        COMPLETION
+    }
+
+    private final int concurrency;
+    private final Ordering ordering;
+
+    public BatchOptions(int concurrency, Ordering ordering) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        this.concurrency = concurrency;
+        this.ordering = ordering;
+    }
+
+    public static BatchOptions defaults() {
+        return new BatchOptions(ConfigManager.getIntProperty("batch.concurrency", 16), Ordering.INPUT);
+    }
+
+    public BatchOptions withConcurrency(int concurrency) {
+        return new BatchOptions(concurrency, ordering);
+    }
+
+    public BatchOptions ordered(Ordering ordering) {
+        return new BatchOptions(concurrency, ordering);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Ordering getOrdering() {
+        return ordering;
+    }
+}
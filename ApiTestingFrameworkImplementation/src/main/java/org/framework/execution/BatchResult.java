@@ -0,0 +1,131 @@
+package org.framework.execution;
+
+import io.restassured.response.Response;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a batch: one {@link ItemResult} per item plus success count and latency percentiles.
+ *
+ * @param <K> what identifies an item (a RequestDefinition, an ISBN, ...)
+ */
+public class BatchResult<K> {
+    private final List<ItemResult<K>> items;
+    private final long wallClockNanos;
+    private final long[] sortedLatencies;
+
+    public BatchResult(List<ItemResult<K>> items, long wallClockNanos) {
+        this.items = Collections.unmodifiableList(items);
+        this.wallClockNanos = wallClockNanos;
+        this.sortedLatencies = items.stream().mapToLong(ItemResult::getLatencyNanos).sorted().toArray();
+    }
+
+    public List<ItemResult<K>> getItems() {
+        return items;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public long getSuccessCount() {
+        return items.stream().filter(ItemResult::isSuccess).count();
+    }
+
+    public long getFailureCount() {
+        return size() - getSuccessCount();
+    }
+
+    public long getWallClockMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(wallClockNanos);
+    }
+
+    /**
+     * Nearest-rank latency percentile over all items, in milliseconds.
+     *
+     * @param percentile between 0 and 100
+     */
+    public double getLatencyPercentileMillis(double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+        int index = Math.min(sortedLatencies.length - 1, Math.max(0, rank - 1));
+        return sortedLatencies[index] / 1_000_000.0;
+    }
+
+    public double getP50Millis() {
+        return getLatencyPercentileMillis(50);
+    }
+
+    public double getP99Millis() {
+        return getLatencyPercentileMillis(99);
+    }
+
+    public double getThroughputPerSecond() {
+        return wallClockNanos == 0 ? 0 : size() * 1_000_000_000.0 / wallClockNanos;
+    }
+
+    public String summary() {
+        return String.format("%d items in %dms - %d succeeded, %d failed, p50=%.1fms, p99=%.1fms, %.1f calls/s",
+                size(), getWallClockMillis(), getSuccessCount(), getFailureCount(), getP50Millis(), getP99Millis(),
+                getThroughputPerSecond());
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    public static class ItemResult<K> {
+        private final K key;
+        private final Response response;
+        private final Throwable error;
+        private final long latencyNanos;
+
+        public ItemResult(K key, Response response, Throwable error, long latencyNanos) {
+            this.key = key;
+            this.response = response;
+            this.error = error;
+            this.latencyNanos = latencyNanos;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        // Null when the call failed before a response was received
+        public Response getResponse() {
+            return response;
+        }
+
+        public Throwable getError() {
+            return error;
+        }
+
+        public long getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        public double getLatencyMillis() {
+            return latencyNanos / 1_000_000.0;
+        }
+
+        public boolean isSuccess() {
+            if (error != null || response == null) {
+                return false;
+            }
+            int statusCode = response.getStatusCode();
+            return statusCode >= 200 && statusCode < 300;
+        }
+
+        @Override
+        public String toString() {
+            String outcome = error != null ? error.toString()
+                    : response != null ? String.valueOf(response.getStatusCode()) : "no response";
+            return key + " -> " + outcome + String.format(" (%.1fms)", getLatencyMillis());
+        }
+    }
+}
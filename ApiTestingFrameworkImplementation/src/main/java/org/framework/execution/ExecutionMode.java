@@ -0,0 +1,15 @@
+package org.framework.execution;
+
+/**
+ * Thread model used by {@link ApiExecutors} for asynchronous API calls.
+ */
+public enum ExecutionMode {
+    /** Bounded pool of platform threads sized by {@code async.pool.size}. */
+    PLATFORM,
+    /** One virtual thread per call; needs a JDK 21+ runtime and falls back to PLATFORM otherwise. */
+    VIRTUAL;
+
+    public static ExecutionMode fromString(String value) {
+        return value == null ? PLATFORM : valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,65 @@
+package org.framework.http;
+
+import org.framework.reports.ApiMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Hands log messages to a single background thread so formatting and I/O stay off the request threads.
+ * Messages are built lazily on that thread. When the bounded queue is full the message is dropped
+ * and counted under {@code log.dropped} rather than blocking the caller.
+ */
+public class AsyncLogAppender {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncLogAppender.class);
+
+    public enum Level { INFO, WARN }
+
+    private final BlockingQueue<Entry> queue;
+
+    public AsyncLogAppender(String name, int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Thread worker = new Thread(this::drain, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void append(Logger target, Level level, Supplier<String> message) {
+        if (!queue.offer(new Entry(target, level, message))) {
+            ApiMetrics.increment("log.dropped");
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            try {
+                Entry entry = queue.take();
+                if (entry.level == Level.WARN) {
+                    entry.target.warn(entry.message.get());
+                } else {
+                    entry.target.info(entry.message.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Failed to write log entry", e);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Logger target;
+        private final Level level;
+        private final Supplier<String> message;
+
+        private Entry(Logger target, Level level, Supplier<String> message) {
+            this.target = target;
+            this.level = level;
+            this.message = message;
+        }
+    }
+}
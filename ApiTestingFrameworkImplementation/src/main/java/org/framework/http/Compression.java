@@ -0,0 +1,106 @@
+package org.framework.http;
+
+import org.framework.reports.ApiMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * gzip request bodies and gzip/deflate response decoding, with the byte counts of every call
+ * published to {@link ApiMetrics} (and logged at debug level).
+ */
+public final class Compression {
+    private static final Logger logger = LoggerFactory.getLogger(Compression.class);
+
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+    public static final String METRIC_REQUESTS = "compression.request.count";
+    public static final String METRIC_REQUEST_BYTES_RAW = "compression.request.bytes.raw";
+    public static final String METRIC_REQUEST_BYTES_SENT = "compression.request.bytes.sent";
+    public static final String METRIC_RESPONSES = "compression.response.count";
+    public static final String METRIC_RESPONSE_BYTES_RECEIVED = "compression.response.bytes.received";
+    public static final String METRIC_RESPONSE_BYTES_DECODED = "compression.response.bytes.decoded";
+
+    private Compression() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    public static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, 8192)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException("gzip compression failed", e);
+        }
+        byte[] result = compressed.toByteArray();
+        recordRequest(raw.length, result.length);
+        return result;
+    }
+
+    public static boolean isSupported(String contentEncoding) {
+        return "gzip".equalsIgnoreCase(contentEncoding) || "x-gzip".equalsIgnoreCase(contentEncoding)
+                || "deflate".equalsIgnoreCase(contentEncoding);
+    }
+
+    /**
+     * Wraps {@code body} in a decompressing stream for the given Content-Encoding; unknown or
+     * missing encodings are returned as they are.
+     */
+    public static InputStream decoding(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+        switch (contentEncoding.trim().toLowerCase()) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(body, 8192);
+            case "deflate":
+                return new InflaterInputStream(body);
+            default:
+                return body;
+        }
+    }
+
+    /**
+     * Reads and decodes a compressed body in one pass: the wire bytes go through the inflater as
+     * they arrive and only the decoded body is held in memory. Closes {@code wire}.
+     */
+    public static byte[] decode(InputStream wire, String contentEncoding) {
+        CountingInputStream counted = new CountingInputStream(wire);
+        try (InputStream decoded = decoding(counted, contentEncoding)) {
+            byte[] body = decoded.readAllBytes();
+            recordResponse(counted.getCount(), body.length);
+            return body;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to decode " + contentEncoding + " response body", e);
+        }
+    }
+
+    /**
+     * Wraps a body that was already decoded by the HTTP client so the decoded size is recorded
+     * against {@code receivedBytes} once the caller has read it to the end or closed it.
+     */
+    public static InputStream recording(InputStream decoded, long receivedBytes) {
+        return new CountingInputStream(decoded, decodedBytes -> recordResponse(receivedBytes, decodedBytes));
+    }
+
+    public static void recordRequest(long rawBytes, long sentBytes) {
+        ApiMetrics.increment(METRIC_REQUESTS);
+        ApiMetrics.add(METRIC_REQUEST_BYTES_RAW, rawBytes);
+        ApiMetrics.add(METRIC_REQUEST_BYTES_SENT, sentBytes);
+        logger.debug("Request body compressed {} -> {} bytes", rawBytes, sentBytes);
+    }
+
+    public static void recordResponse(long receivedBytes, long decodedBytes) {
+        ApiMetrics.increment(METRIC_RESPONSES);
+        ApiMetrics.add(METRIC_RESPONSE_BYTES_RECEIVED, receivedBytes);
+        ApiMetrics.add(METRIC_RESPONSE_BYTES_DECODED, decodedBytes);
+        logger.debug("Response body decompressed {} -> {} bytes", receivedBytes, decodedBytes);
+    }
+}
@@ -0,0 +1,354 @@
+package org.framework.http;
+
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single keep-alive connection pool shared by every RestAssured request in the framework.
+ * <p>
+ * RestAssured creates a fresh HttpClient per request and shuts its connection manager down
+ * afterwards, which throws away the TCP/TLS connection every time. The factory below hands
+ * RestAssured throw-away {@link DefaultHttpClient}s that all sit on one pooled manager whose
+ * {@code shutdown()} is a no-op, so connections survive between calls. Idle and expired
+ * connections are evicted by a background thread. A connection only goes back to the pool once
+ * its response body has been read to the end or closed, which {@link ConnectionReleaseFilter} takes care of.
+ * </p>
+ * <p>
+ * The pool's DNS resolver and socket factories and the client's interceptors report DNS, connect,
+ * TLS and time-to-first-byte to the {@link RequestTiming} of the request on the calling thread.
+ * Connect and TLS are reported together as connect when RestAssured installs its own SSL socket
+ * factory (relaxed HTTPS validation, key/trust stores).
+ * </p>
+ * Tuned with {@code http.pool.max.total}, {@code http.pool.max.per.route},
+ * {@code http.pool.keepalive.ms} and {@code http.pool.idle.timeout.ms}.
+ */
+@SuppressWarnings("deprecation") // RestAssured 5 still drives the HttpClient 4.x classic API
+public final class ConnectionPoolManager {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolManager.class);
+
+    private static final int MAX_TOTAL = ConfigManager.getIntProperty("http.pool.max.total", 200);
+    private static final int MAX_PER_ROUTE = ConfigManager.getIntProperty("http.pool.max.per.route", 50);
+    private static final long KEEP_ALIVE_MS = ConfigManager.getLongProperty("http.pool.keepalive.ms", 30_000);
+    private static final long IDLE_TIMEOUT_MS = ConfigManager.getLongProperty("http.pool.idle.timeout.ms", 30_000);
+
+    private static final SharedConnectionManager CONNECTION_MANAGER = new SharedConnectionManager();
+    private static final ConnectionKeepAliveStrategy KEEP_ALIVE_STRATEGY = (response, context) -> {
+        long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        return serverKeepAlive > 0 ? Math.min(serverKeepAlive, KEEP_ALIVE_MS) : KEEP_ALIVE_MS;
+    };
+    // Request interceptors run once the connection is ready, response interceptors once the head has arrived
+    private static final HttpRequestInterceptor MARK_REQUEST_SENT = (request, context) -> {
+        RequestTiming timing = RequestTimings.current();
+        if (timing != null) {
+            timing.markRequestSent();
+        }
+    };
+    private static final HttpResponseInterceptor MARK_HEADERS_RECEIVED = (response, context) -> {
+        RequestTiming timing = RequestTimings.current();
+        if (timing != null) {
+            timing.markHeadersReceived();
+        }
+    };
+    private static final HttpClientConfig HTTP_CLIENT_CONFIG =
+            HttpClientConfig.httpClientConfig().httpClientFactory(ConnectionPoolManager::newHttpClient);
+    private static final DecoderConfig DECODER_CONFIG = ConfigManager.getBooleanProperty("compression.response.enabled", true)
+            ? DecoderConfig.decoderConfig().contentDecoders(DecoderConfig.ContentDecoder.GZIP, DecoderConfig.ContentDecoder.DEFLATE)
+            : DecoderConfig.decoderConfig().noContentDecoders();
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "http-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        CONNECTION_MANAGER.setMaxTotal(MAX_TOTAL);
+        CONNECTION_MANAGER.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        long evictionPeriod = Math.max(1_000, IDLE_TIMEOUT_MS / 2);
+        EVICTOR.scheduleAtFixedRate(ConnectionPoolManager::evictIdleConnections,
+                evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+        logger.info("HTTP connection pool - max total: {}, max per route: {}, keep-alive: {}ms, idle timeout: {}ms",
+                MAX_TOTAL, MAX_PER_ROUTE, KEEP_ALIVE_MS, IDLE_TIMEOUT_MS);
+    }
+
+    private ConnectionPoolManager() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    public static HttpClientConfig httpClientConfig() {
+        return HTTP_CLIENT_CONFIG;
+    }
+
+    /**
+     * The current global RestAssured config (SSL, encoder settings, ...) with the pooled HTTP client plugged in
+     * and gzip/deflate responses negotiated and decoded as a stream (unless compression.response.enabled=false).
+     */
+    public static RestAssuredConfig restAssuredConfig() {
+        return RestAssured.config().httpClient(HTTP_CLIENT_CONFIG).decoderConfig(DECODER_CONFIG);
+    }
+
+    /**
+     * Same as {@link #restAssuredConfig()} with per-request connect and socket (read) timeouts;
+     * 0 keeps the HttpClient default. The params are set on the throw-away client, not on the shared pool.
+     */
+    public static RestAssuredConfig restAssuredConfig(long connectTimeoutMillis, long readTimeoutMillis) {
+        HttpClientConfig config = HTTP_CLIENT_CONFIG;
+        if (connectTimeoutMillis > 0) {
+            config = config.setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, (int) connectTimeoutMillis);
+        }
+        if (readTimeoutMillis > 0) {
+            config = config.setParam(CoreConnectionPNames.SO_TIMEOUT, (int) readTimeoutMillis);
+        }
+        return RestAssured.config().httpClient(config).decoderConfig(DECODER_CONFIG);
+    }
+
+    public static PoolStats getTotalStats() {
+        return CONNECTION_MANAGER.getTotalStats();
+    }
+
+    public static String statsSummary() {
+        PoolStats stats = getTotalStats();
+        return String.format("leased=%d, available=%d, pending=%d, max=%d",
+                stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    public static void evictIdleConnections() {
+        CONNECTION_MANAGER.closeExpiredConnections();
+        CONNECTION_MANAGER.closeIdleConnections(IDLE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Closes every pooled connection. Only meant for JVM shutdown; requests made afterwards will fail.
+     */
+    public static void shutdown() {
+        EVICTOR.shutdownNow();
+        CONNECTION_MANAGER.close();
+    }
+
+    private static HttpClient newHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(CONNECTION_MANAGER);
+        client.setKeepAliveStrategy(KEEP_ALIVE_STRATEGY);
+        client.addRequestInterceptor(MARK_REQUEST_SENT);
+        client.addResponseInterceptor(MARK_HEADERS_RECEIVED);
+        return client;
+    }
+
+    private static SchemeRegistry timedSchemeRegistry() {
+        SchemeRegistry defaults = SchemeRegistryFactory.createDefault();
+        SchemeRegistry timed = new SchemeRegistry();
+        for (String name : defaults.getSchemeNames()) {
+            Scheme scheme = defaults.getScheme(name);
+            SchemeSocketFactory factory = scheme.getSchemeSocketFactory();
+            timed.register(new Scheme(name, scheme.getDefaultPort(), factory instanceof SchemeLayeredSocketFactory
+                    ? new TimedLayeredSocketFactory((SchemeLayeredSocketFactory) factory)
+                    : new TimedSocketFactory(factory)));
+        }
+        return timed;
+    }
+
+    private static final class TimedDnsResolver implements DnsResolver {
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            long start = System.nanoTime();
+            try {
+                return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            } finally {
+                RequestTiming timing = RequestTimings.current();
+                if (timing != null) {
+                    timing.addDns(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    private static class TimedSocketFactory implements SchemeSocketFactory {
+        private final SchemeSocketFactory delegate;
+
+        TimedSocketFactory(SchemeSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket(HttpParams params) throws IOException {
+            return delegate.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, ConnectTimeoutException {
+            long start = System.nanoTime();
+            try {
+                return delegate.connectSocket(socket, remoteAddress, localAddress, params);
+            } finally {
+                RequestTiming timing = RequestTimings.current();
+                if (timing != null) {
+                    timing.addConnect(System.nanoTime() - start);
+                }
+            }
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return delegate.isSecure(socket);
+        }
+    }
+
+    // Connects the plain socket itself, so the TLS handshake of createLayeredSocket can be timed on its own
+    private static final class TimedLayeredSocketFactory extends TimedSocketFactory implements SchemeLayeredSocketFactory {
+        private static final TimedSocketFactory PLAIN = new TimedSocketFactory(
+                PlainSocketFactory.getSocketFactory());
+
+        private final SchemeLayeredSocketFactory delegate;
+
+        TimedLayeredSocketFactory(SchemeLayeredSocketFactory delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, ConnectTimeoutException {
+            Socket connected = PLAIN.connectSocket(socket, remoteAddress, localAddress, params);
+            String host = remoteAddress instanceof HttpInetSocketAddress
+                    ? ((HttpInetSocketAddress) remoteAddress).getHttpHost().getHostName()
+                    : remoteAddress.getHostName();
+            return createLayeredSocket(connected, host, remoteAddress.getPort(), params);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params)
+                throws IOException {
+            long start = System.nanoTime();
+            try {
+                return delegate.createLayeredSocket(socket, target, port, params);
+            } finally {
+                RequestTiming timing = RequestTimings.current();
+                if (timing != null) {
+                    timing.addTls(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    private static final class SharedConnectionManager extends PoolingClientConnectionManager {
+        // HttpClient waits for a free connection inside synchronized code, which pins a virtual thread to its
+        // carrier; with more callers than connections every carrier ends up pinned and the callers holding the
+        // connections can no longer run. Callers queue on these permits instead, so only as many as can get a
+        // connection enter the pool.
+        private final Semaphore totalPermits = new Semaphore(MAX_TOTAL, true);
+        private final Map<HttpRoute, Semaphore> routePermits = new ConcurrentHashMap<>();
+        private final Map<ManagedClientConnection, Semaphore> leasedPermits = new ConcurrentHashMap<>();
+
+        SharedConnectionManager() {
+            super(timedSchemeRegistry(), new TimedDnsResolver());
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = super.requestConnection(route, state);
+            Semaphore permits = routePermits.computeIfAbsent(route, key -> new Semaphore(MAX_PER_ROUTE, true));
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long deadline = System.nanoTime() + unit.toNanos(timeout);
+                    acquire(permits, timeout, deadline);
+                    try {
+                        acquire(totalPermits, timeout, deadline);
+                    } catch (InterruptedException | ConnectionPoolTimeoutException e) {
+                        permits.release();
+                        throw e;
+                    }
+                    try {
+                        ManagedClientConnection connection = request.getConnection(
+                                timeout > 0 ? Math.max(1, deadline - System.nanoTime()) : 0, TimeUnit.NANOSECONDS);
+                        leasedPermits.put(connection, permits);
+                        return connection;
+                    } catch (InterruptedException | ConnectionPoolTimeoutException | RuntimeException e) {
+                        permits.release();
+                        totalPermits.release();
+                        throw e;
+                    }
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection connection, long keepAlive, TimeUnit unit) {
+            try {
+                super.releaseConnection(connection, keepAlive, unit);
+            } finally {
+                // Released once per lease; later calls for an already detached connection find nothing here
+                Semaphore permits = leasedPermits.remove(connection);
+                if (permits != null) {
+                    permits.release();
+                    totalPermits.release();
+                }
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            // RestAssured shuts down the manager of every client it is done with; the pool outlives them.
+        }
+
+        void close() {
+            super.shutdown();
+        }
+
+        // 0 waits without limit, as for the pool itself
+        private static void acquire(Semaphore permits, long timeout, long deadline)
+                throws InterruptedException, ConnectionPoolTimeoutException {
+            if (timeout <= 0) {
+                permits.acquire();
+            } else if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new ConnectionPoolTimeoutException("Timeout waiting for connection from pool");
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.framework.http;
+
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.internal.RestAssuredResponseOptionsImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Makes sure every response hands its connection back. RestAssured only returns the connection to the
+ * {@link ConnectionPoolManager} pool once its body stream is read to the end or closed, so a caller that
+ * just checks the status code would otherwise keep the connection leased for good and the pool would run dry.
+ * <p>
+ * By default the body is read to the end here, before the caller gets the response, and the bytes stay on
+ * the response for later reads. The filter sits inside {@link LatencyFilter} and {@link PhaseTimingFilter},
+ * so that read is timed as the download of the call.
+ * </p>
+ * <p>
+ * A request passed through {@link #streamBody(RequestSpecification)} leaves its body on the wire instead, for bodies too large to hold
+ * in memory (see {@code JsonArrayStreams}). The caller must then read the body to the end or close it: the
+ * connection goes back to the pool at that point, and the outer filters finish their measurements there
+ * (see {@link #whenBodyRead}).
+ * </p>
+ */
+public class ConnectionReleaseFilter implements Filter {
+    private static final ConnectionReleaseFilter INSTANCE = new ConnectionReleaseFilter();
+    private static final String STREAM_BODY = ConnectionReleaseFilter.class.getName() + ".streamBody";
+    private static final String BODY_END = ConnectionReleaseFilter.class.getName() + ".bodyEnd";
+    // Runs inside this filter, which reads the flag once the call has returned
+    private static final Filter STREAM_BODY_FILTER = (requestSpec, responseSpec, ctx) -> {
+        ctx.setValue(STREAM_BODY, Boolean.TRUE);
+        return ctx.next(requestSpec, responseSpec);
+    };
+
+    public static ConnectionReleaseFilter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the body of a spec from {@link RequestSpecFactory#given()} as a stream from the server rather than
+     * from memory: {@code ConnectionReleaseFilter.streamBody(RequestSpecFactory.given()).get(...)}. The
+     * connection stays leased until the body is read to the end or closed.
+     * <p>
+     * RestAssured's log-if-validation-fails (see {@code ApiUtil}) is switched off for the request: its
+     * response logger reads the whole body before any filter sees it.
+     * </p>
+     */
+    public static RequestSpecification streamBody(RequestSpecification spec) {
+        RestAssuredConfig config = SpecificationQuerier.query(spec).getConfig();
+        if (config != null && config.getLogConfig().isLoggingOfRequestAndResponseIfValidationFailsEnabled()) {
+            spec.config(config.logConfig(config.getLogConfig().enableLoggingOfRequestAndResponseIfValidationFails(null)));
+        }
+        return spec.filter(STREAM_BODY_FILTER);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (ctx.getValue(STREAM_BODY) == null || !(response instanceof RestAssuredResponseOptionsImpl)
+                || !((RestAssuredResponseOptionsImpl<?>) response).isInputStream()) {
+            response.asByteArray();
+            return response;
+        }
+        RestAssuredResponseOptionsImpl<?> streamed = (RestAssuredResponseOptionsImpl<?>) response;
+        BodyEnd bodyEnd = new BodyEnd();
+        streamed.setContent(new CountingInputStream((InputStream) streamed.getContent(), total -> bodyEnd.reached()));
+        ctx.setValue(BODY_END, bodyEnd);
+        return response;
+    }
+
+    /**
+     * For the filters around this one: runs {@code action} once the body of the call has been read, that is
+     * right away for a body already in memory and at end of stream or on close for a streamed one.
+     */
+    static void whenBodyRead(FilterContext ctx, Runnable action) {
+        BodyEnd bodyEnd = ctx.getValue(BODY_END);
+        if (bodyEnd == null) {
+            action.run();
+        } else {
+            bodyEnd.then(action);
+        }
+    }
+
+    // Actions waiting for a streamed body; they run once, on the thread that finishes reading it
+    private static final class BodyEnd {
+        private List<Runnable> actions = new ArrayList<>();
+
+        void then(Runnable action) {
+            synchronized (this) {
+                if (actions != null) {
+                    actions.add(action);
+                    return;
+                }
+            }
+            action.run();
+        }
+
+        void reached() {
+            List<Runnable> waiting;
+            synchronized (this) {
+                waiting = actions;
+                actions = null;
+            }
+            if (waiting != null) {
+                waiting.forEach(Runnable::run);
+            }
+        }
+    }
+}
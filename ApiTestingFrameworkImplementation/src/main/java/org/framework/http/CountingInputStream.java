@@ -0,0 +1,80 @@
+package org.framework.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * Counts the bytes read through it and reports the total once, at end of stream or on close,
+ * whichever comes first.
+ */
+class CountingInputStream extends FilterInputStream {
+    private final LongConsumer onEnd;
+    private long count;
+    private boolean reported;
+
+    CountingInputStream(InputStream in) {
+        this(in, total -> { });
+    }
+
+    CountingInputStream(InputStream in, LongConsumer onEnd) {
+        super(in);
+        this.onEnd = onEnd;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b < 0) {
+            report();
+        } else {
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        int read = super.read(target, offset, length);
+        if (read < 0) {
+            report();
+        } else {
+            count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count += skipped;
+        return skipped;
+    }
+
+    // Marks would make the count depend on how often the caller rewinds
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            report();
+        }
+    }
+
+    private void report() {
+        if (!reported) {
+            reported = true;
+            onEnd.accept(count);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.framework.http;
+
+import io.restassured.RestAssured;
+
+import java.util.regex.Pattern;
+
+/**
+ * Turns request URLs into stable per-endpoint keys ({@code host/path/template}) for breakers and metrics.
+ * <p>
+ * Path templates such as {@code /pet/{petId}} are kept as they are; for already expanded paths,
+ * numeric and UUID segments are collapsed to {@code {id}} so {@code /users/1} and {@code /users/2}
+ * share a key. Query strings are dropped. Relative endpoints are resolved against
+ * {@link RestAssured#baseURI}.
+ * </p>
+ */
+public final class EndpointTemplates {
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private EndpointTemplates() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    public static String key(String endpoint) {
+        return key(RestAssured.baseURI, endpoint);
+    }
+
+    public static String key(String baseUri, String endpoint) {
+        String withoutScheme = stripScheme(resolve(baseUri, endpoint));
+        int pathStart = withoutScheme.indexOf('/');
+        String host = pathStart >= 0 ? withoutScheme.substring(0, pathStart) : withoutScheme;
+        String path = pathStart >= 0 ? withoutScheme.substring(pathStart) : "/";
+        return host + pathTemplate(path);
+    }
+
+    /**
+     * @return host[:port] of the resolved endpoint, e.g. {@code bookstore.toolsqa.com}
+     */
+    public static String host(String baseUri, String endpoint) {
+        String withoutScheme = stripScheme(resolve(baseUri, endpoint));
+        int hostEnd = withoutScheme.length();
+        for (char separator : new char[]{'/', '?', '#'}) {
+            int index = withoutScheme.indexOf(separator);
+            if (index >= 0) {
+                hostEnd = Math.min(hostEnd, index);
+            }
+        }
+        return withoutScheme.substring(0, hostEnd);
+    }
+
+    private static String stripScheme(String url) {
+        int schemeEnd = url.indexOf("://");
+        return schemeEnd >= 0 ? url.substring(schemeEnd + 3) : url;
+    }
+
+    public static String pathTemplate(String path) {
+        int queryStart = path.indexOf('?');
+        String rawPath = queryStart >= 0 ? path.substring(0, queryStart) : path;
+        StringBuilder template = new StringBuilder(rawPath.length());
+        for (String segment : rawPath.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    public static boolean isAbsolute(String endpoint) {
+        return endpoint.startsWith("http://") || endpoint.startsWith("https://");
+    }
+
+    /**
+     * @return the endpoint itself when it is absolute, otherwise the endpoint appended to baseUri
+     */
+    public static String resolve(String baseUri, String endpoint) {
+        if (isAbsolute(endpoint) || baseUri == null) {
+            return endpoint;
+        }
+        boolean baseSlash = baseUri.endsWith("/");
+        boolean endpointSlash = endpoint.startsWith("/");
+        if (baseSlash && endpointSlash) {
+            return baseUri + endpoint.substring(1);
+        }
+        return baseSlash || endpointSlash ? baseUri + endpoint : baseUri + "/" + endpoint;
+    }
+}
@@ -0,0 +1,90 @@
+package org.framework.http;
+
+import org.framework.config.ConfigManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through a {@link FileChannel} into one reusable direct buffer, so an upload of any
+ * size holds at most {@code upload.chunk.bytes} (64 KB by default) of it in memory. The stream has
+ * no known length, which makes both transports send it with chunked transfer encoding.
+ */
+public class FileChannelInputStream extends InputStream {
+    public static final int DEFAULT_CHUNK_SIZE = ConfigManager.getIntProperty("upload.chunk.bytes", 64 * 1024);
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final long size;
+    private final UploadProgressListener progress;
+    private long position;
+    private long reportedPosition = -1;
+
+    public FileChannelInputStream(Path file, UploadProgressListener progress) throws IOException {
+        this(file, DEFAULT_CHUNK_SIZE, progress);
+    }
+
+    public FileChannelInputStream(Path file, int chunkSize, UploadProgressListener progress) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.buffer = ByteBuffer.allocateDirect(chunkSize);
+        this.buffer.flip(); // start empty
+        this.progress = progress != null ? progress : UploadProgressListener.NONE;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(target, offset, count);
+        position += count;
+        if (position == size) {
+            report();
+        }
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean fill() throws IOException {
+        report();
+        buffer.clear();
+        int read = channel.read(buffer);
+        buffer.flip();
+        return read > 0;
+    }
+
+    private void report() {
+        if (position != reportedPosition) {
+            reportedPosition = position;
+            progress.onProgress(position, size);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * gzip-compresses request bodies of at least {@code minBytes} for specs built with
+ * {@link RestClient#given()}, e.g. the large createWithArray payloads of the Services classes.
+ * Multipart requests and requests that already carry a Content-Encoding are left alone.
+ */
+public class GzipRequestFilter implements Filter {
+    private final int minBytes;
+
+    public GzipRequestFilter(int minBytes) {
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Object body = requestSpec.getBody();
+        if (body != null && requestSpec.getMultiPartParams().isEmpty()
+                && !requestSpec.getHeaders().hasHeaderWithName("Content-Encoding")) {
+            byte[] raw = body instanceof byte[] ? (byte[]) body : body.toString().getBytes(StandardCharsets.UTF_8);
+            if (raw.length >= minBytes) {
+                requestSpec.header("Content-Encoding", "gzip");
+                requestSpec.body(Compression.gzip(raw));
+            }
+        }
+        return ctx.next(requestSpec, responseSpec);
+    }
+}
@@ -0,0 +1,47 @@
+package org.framework.http;
+
+import io.restassured.authentication.AuthenticationScheme;
+import io.restassured.response.Response;
+import org.framework.execution.ApiExecutors;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puts a {@link TransportRequest} on the wire and returns a RestAssured {@link Response}, so
+ * everything above the transport (validation, deserialization, tests) is unchanged whichever
+ * HTTP stack is used. Selected with {@code http.transport=restassured|jdk} or
+ * {@code ApiUtil.setTransport(...)}.
+ */
+public interface HttpTransport {
+
+    Response send(TransportRequest request);
+
+    /**
+     * Used by the async methods of ApiUtil. Transports with a native async API override this; the
+     * default runs {@link #send} on the shared executor, holding one of its threads for the call.
+     */
+    default CompletableFuture<Response> sendAsync(TransportRequest request) {
+        return ApiExecutors.supplyAsync(() -> send(request));
+    }
+
+    /**
+     * Called when a {@link RestClient} is built with this transport, so an unsupported setting fails
+     * the configuration instead of the first request.
+     *
+     * @throws IllegalArgumentException when this transport cannot send {@code authentication}
+     */
+    default void checkAuthentication(AuthenticationScheme authentication) {
+    }
+
+    static HttpTransport named(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "restassured":
+                return new RestAssuredTransport();
+            case "jdk":
+            case "java.net.http":
+                return new JdkHttpTransport();
+            default:
+                throw new IllegalArgumentException("Unknown HTTP transport: " + name);
+        }
+    }
+}
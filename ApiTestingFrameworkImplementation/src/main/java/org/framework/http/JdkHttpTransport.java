@@ -0,0 +1,306 @@
+package org.framework.http;
+
+import io.restassured.RestAssured;
+import io.restassured.authentication.AuthenticationScheme;
+import io.restassured.authentication.BasicAuthScheme;
+import io.restassured.authentication.NoAuthScheme;
+import io.restassured.authentication.PreemptiveBasicAuthScheme;
+import io.restassured.authentication.PreemptiveOAuth2HeaderScheme;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.framework.config.ConfigManager;
+import org.framework.execution.ApiExecutors;
+import org.framework.reports.ApiLatencies;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Transport built on {@link java.net.http.HttpClient}: HTTP/2 with multiplexing (falling back to
+ * HTTP/1.1 when the server does not offer h2) and a native non-blocking {@link #sendAsync}.
+ * One client is shared, so concurrent calls to the same host share a few connections.
+ * <p>
+ * RestAssured filters are not involved on this path. Supported authentication schemes are
+ * basic (sent pre-emptively) and OAuth2 bearer tokens; a {@link RestClient} with any other scheme
+ * is rejected when it is built.
+ * </p>
+ */
+public class JdkHttpTransport implements HttpTransport {
+    // Headers java.net.http manages itself and refuses to accept from callers; Java 11 also refuses
+    // date, from, via and warning
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "date", "expect",
+            "from", "host", "upgrade", "via", "warning");
+    // java.net.http does not decompress by itself: ask for gzip/deflate and decode while reading the body.
+    // A compressed body is handed over as a stream and only read when the supplier is called, off the
+    // client's own threads; the inflater then decodes it as it arrives instead of after buffering it.
+    private static final boolean DECOMPRESS_RESPONSES = ConfigManager.getBooleanProperty("compression.response.enabled", true);
+    private static final HttpResponse.BodyHandler<Supplier<byte[]>> BODY_HANDLER = responseInfo -> {
+        String encoding = responseInfo.headers().firstValue("Content-Encoding").orElse(null);
+        if (!DECOMPRESS_RESPONSES || !Compression.isSupported(encoding)) {
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), body -> () -> body);
+        }
+        return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                wire -> () -> Compression.decode(wire, encoding));
+    };
+
+    // Runs the client's own tasks and the async response handling. Unbounded, so reading a body stream
+    // never blocks a client thread on the bounded ApiExecutors pool, nor a pool thread on the network.
+    private static final ExecutorService CLIENT_EXECUTOR = ApiExecutors.newElasticExecutor("jdk-http");
+
+    private final HttpClient client;
+    private final Executor responseExecutor;
+
+    public JdkHttpTransport() {
+        this(newHttpClient(ConfigManager.getLongProperty("http.connect.timeout.ms", 10_000),
+                ConfigManager.getBooleanProperty("ssl.verification.disable", false)));
+    }
+
+    public JdkHttpTransport(HttpClient client) {
+        this.client = client;
+        this.responseExecutor = client.executor().orElse(CLIENT_EXECUTOR);
+    }
+
+    public static HttpClient newHttpClient(long connectTimeoutMillis, boolean relaxedHttps) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(CLIENT_EXECUTOR);
+        if (relaxedHttps) {
+            builder.sslContext(trustAllSslContext());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Response send(TransportRequest request) {
+        long start = System.nanoTime();
+        RequestTiming timing = new RequestTiming(endpointKey(request));
+        Response response = null;
+        try {
+            response = toResponse(client.send(toHttpRequest(request), timed(timing)));
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Request failed: " + request.getMethod() + " " + request.getEndpoint(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + request.getEndpoint(), e);
+        } finally {
+            ApiLatencies.record(timing.getEndpoint(), System.nanoTime() - start);
+            RequestTimings.complete(timing, response);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> sendAsync(TransportRequest request) {
+        long start = System.nanoTime();
+        RequestTiming timing = new RequestTiming(endpointKey(request));
+        // toResponse may block reading a compressed body from its stream, so it runs on the client's executor
+        // rather than the thread completing the call; bound here because that thread is outside the test
+        return client.sendAsync(toHttpRequest(request), timed(timing))
+                .thenApplyAsync(JdkHttpTransport::toResponse, RequestTimings.inCurrentTest(responseExecutor))
+                .whenComplete((response, error) -> {
+                    ApiLatencies.record(timing.getEndpoint(), System.nanoTime() - start);
+                    RequestTimings.complete(timing, response);
+                });
+    }
+
+    // This transport bypasses RestAssured, so it records what LatencyFilter and PhaseTimingFilter record for the other one
+    private static String endpointKey(TransportRequest request) {
+        String baseUri = request.getBaseUri() != null ? request.getBaseUri() : RestAssured.baseURI;
+        return LatencyFilter.key(request.getMethod().name(), baseUri, request.getEndpoint());
+    }
+
+    // The body handler is invoked as soon as the response head arrives, which gives the time to first byte
+    private static HttpResponse.BodyHandler<Supplier<byte[]>> timed(RequestTiming timing) {
+        return responseInfo -> {
+            timing.markHeadersReceived();
+            return BODY_HANDLER.apply(responseInfo);
+        };
+    }
+
+    private static HttpRequest toHttpRequest(TransportRequest request) {
+        String baseUri = request.getBaseUri() != null ? request.getBaseUri() : RestAssured.baseURI;
+        HttpRequest.Builder builder = HttpRequest.newBuilder(
+                URI.create(EndpointTemplates.resolve(baseUri, request.getEndpoint()) + queryString(request.getQueryParams())));
+        // The connect timeout belongs to the shared HttpClient; only the response timeout is per request
+        if (request.getReadTimeoutMillis() > 0) {
+            builder.timeout(Duration.ofMillis(request.getReadTimeoutMillis()));
+        }
+
+        request.getHeaders().forEach((name, value) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                builder.header(name, value);
+            }
+        });
+        if (DECOMPRESS_RESPONSES && request.getHeaders().keySet().stream().noneMatch("Accept-Encoding"::equalsIgnoreCase)) {
+            builder.header("Accept-Encoding", Compression.ACCEPT_ENCODING);
+        }
+        String authorization = authorizationHeader(request.getAuthentication());
+        if (authorization != null && request.getHeaders().keySet().stream().noneMatch("Authorization"::equalsIgnoreCase)) {
+            builder.header("Authorization", authorization);
+        }
+
+        HttpRequest.BodyPublisher body;
+        if (request.isMultipart()) {
+            String boundary = "----ApiUtilBoundary" + UUID.randomUUID().toString().replace("-", "");
+            builder.header("Content-Type", "multipart/form-data; boundary=" + boundary);
+            body = multipartBody(request, boundary);
+        } else if (request.getBody() instanceof byte[]) {
+            body = HttpRequest.BodyPublishers.ofByteArray((byte[]) request.getBody());
+        } else if (request.getBody() != null) {
+            body = HttpRequest.BodyPublishers.ofString(request.getBody().toString());
+        } else {
+            body = HttpRequest.BodyPublishers.noBody();
+        }
+        return builder.method(request.getMethod().name(), body).build();
+    }
+
+    private static String queryString(Map<String, Object> queryParams) {
+        if (queryParams.isEmpty()) {
+            return "";
+        }
+        StringBuilder query = new StringBuilder();
+        queryParams.forEach((name, value) -> {
+            Collection<?> values = value instanceof Collection ? (Collection<?>) value : Collections.singletonList(value);
+            for (Object single : values) {
+                query.append(query.length() == 0 ? '?' : '&')
+                        .append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(String.valueOf(single), StandardCharsets.UTF_8));
+            }
+        });
+        return query.toString();
+    }
+
+    // The file is streamed in FileChannel chunks between the part header and the closing boundary
+    private static HttpRequest.BodyPublisher multipartBody(TransportRequest request, String boundary) {
+        File file = request.getMultipartFile();
+        String mimeType = request.getMultipartMimeType() != null ? request.getMultipartMimeType() : "application/octet-stream";
+        byte[] partHeader = ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + request.getMultipartControlName()
+                + "\"; filename=\"" + file.getName() + "\"\r\n"
+                + "Content-Type: " + mimeType + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] closingBoundary = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        return HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                List<InputStream> parts = Arrays.asList(new ByteArrayInputStream(partHeader),
+                        new FileChannelInputStream(file.toPath(), request.getUploadProgress()),
+                        new ByteArrayInputStream(closingBoundary));
+                return new SequenceInputStream(Collections.enumeration(parts));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read " + file, e);
+            }
+        });
+    }
+
+    @Override
+    public void checkAuthentication(AuthenticationScheme authentication) {
+        if (!isSupported(authentication)) {
+            throw new IllegalArgumentException(unsupported(authentication)
+                    + " - use basic or OAuth2 bearer authentication, or http.transport=restassured");
+        }
+    }
+
+    private static boolean isSupported(AuthenticationScheme scheme) {
+        return scheme == null || scheme instanceof NoAuthScheme || scheme instanceof PreemptiveBasicAuthScheme
+                || scheme instanceof BasicAuthScheme || scheme instanceof PreemptiveOAuth2HeaderScheme;
+    }
+
+    private static String unsupported(AuthenticationScheme scheme) {
+        return "Authentication scheme not supported by the java.net.http transport: " + scheme.getClass().getSimpleName();
+    }
+
+    private static String authorizationHeader(AuthenticationScheme scheme) {
+        if (scheme == null || scheme instanceof NoAuthScheme) {
+            return null;
+        }
+        if (scheme instanceof PreemptiveBasicAuthScheme) {
+            PreemptiveBasicAuthScheme basic = (PreemptiveBasicAuthScheme) scheme;
+            return basicAuthorization(basic.getUserName(), basic.getPassword());
+        }
+        if (scheme instanceof BasicAuthScheme) {
+            BasicAuthScheme basic = (BasicAuthScheme) scheme;
+            return basicAuthorization(basic.getUserName(), basic.getPassword());
+        }
+        if (scheme instanceof PreemptiveOAuth2HeaderScheme) {
+            return "Bearer " + ((PreemptiveOAuth2HeaderScheme) scheme).getAccessToken();
+        }
+        // Unreachable: RestClient.build() calls checkAuthentication, which accepts exactly the schemes above
+        throw new IllegalStateException(unsupported(scheme) + " - checkAuthentication should have rejected it");
+    }
+
+    private static String basicAuthorization(String userName, String password) {
+        String credentials = userName + ":" + password;
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Response toResponse(HttpResponse<Supplier<byte[]>> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(protocol + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(response.body().get());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    private static SSLContext trustAllSslContext() {
+        TrustManager trustAll = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, new TrustManager[]{trustAll}, null);
+            return context;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to create relaxed SSL context", e);
+        }
+    }
+}
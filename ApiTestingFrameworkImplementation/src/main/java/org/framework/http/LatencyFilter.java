@@ -0,0 +1,65 @@
+package org.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.framework.reports.ApiLatencies;
+
+/**
+ * Records the latency of every call made through {@link RequestSpecFactory} (and so through
+ * ApiUtil, RestUtils and the Services classes) in {@link ApiLatencies}, keyed by method and
+ * endpoint template. Failed calls, timeouts included, are recorded too.
+ * <p>
+ * A call lasts until its body has been read: the default body read of {@link ConnectionReleaseFilter}
+ * runs inside this filter, and a body streamed with {@link ConnectionReleaseFilter#streamBody} is
+ * recorded when the caller reaches its end or closes it.
+ * </p>
+ */
+public class LatencyFilter implements Filter {
+    private static final LatencyFilter INSTANCE = new LatencyFilter();
+    private static final String RECORDED = LatencyFilter.class.getName() + ".recorded";
+
+    public static LatencyFilter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return e.g. {@code GET petstore.swagger.io/v2/pet/{petId}}; path templates are kept and
+     * expanded ids collapsed, see {@link EndpointTemplates#key(String, String)}
+     */
+    public static String key(String method, String baseUri, String endpoint) {
+        return method + " " + EndpointTemplates.key(baseUri, endpoint);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        // A spec merged with RestAssured.requestSpecification can carry this filter twice
+        if (ctx.getValue(RECORDED) != null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        ctx.setValue(RECORDED, Boolean.TRUE);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException | Error e) {
+            ApiLatencies.record(key(requestSpec, ctx), System.nanoTime() - start);
+            throw e;
+        }
+        String key = key(requestSpec, ctx);
+        ConnectionReleaseFilter.whenBodyRead(ctx, () -> ApiLatencies.record(key, System.nanoTime() - start));
+        return response;
+    }
+
+    // Read once the call is done: the route template of a generated client is set by an inner filter
+    static String key(FilterableRequestSpecification requestSpec, FilterContext ctx) {
+        // The user-defined path still holds the {placeholders}; the URI would have them expanded
+        String route = ctx.getValue(RouteSupport.ROUTE_TEMPLATE);
+        String path = route != null ? route : requestSpec.getUserDefinedPath();
+        return key(requestSpec.getMethod(), requestSpec.getBaseUri() + requestSpec.getBasePath(),
+                path == null || path.isEmpty() ? requestSpec.getURI() : path);
+    }
+}
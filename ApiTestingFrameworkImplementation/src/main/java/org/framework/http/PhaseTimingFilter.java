@@ -0,0 +1,46 @@
+package org.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Times every call made through {@link RequestSpecFactory} phase by phase (see {@link RequestTiming}).
+ * The filter opens the timing for the request thread; the DNS resolver, socket factories and
+ * interceptors of the pooled HTTP client fill it in while the call runs. The download ends when the
+ * body has been read: by {@link ConnectionReleaseFilter}, which runs inside this filter, or for a body
+ * streamed with {@link ConnectionReleaseFilter#streamBody}, when the caller reaches its end or closes it.
+ */
+public class PhaseTimingFilter implements Filter {
+    private static final PhaseTimingFilter INSTANCE = new PhaseTimingFilter();
+    private static final String TIMED = PhaseTimingFilter.class.getName() + ".timed";
+
+    public static PhaseTimingFilter getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        // A spec merged with RestAssured.requestSpecification can carry this filter twice
+        if (ctx.getValue(TIMED) != null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        ctx.setValue(TIMED, Boolean.TRUE);
+        RequestTiming timing = RequestTimings.start();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException | Error e) {
+            timing.setEndpoint(LatencyFilter.key(requestSpec, ctx));
+            RequestTimings.complete(timing, null);
+            throw e;
+        }
+        timing.setEndpoint(LatencyFilter.key(requestSpec, ctx));
+        RequestTimings.detach(timing, response);
+        ConnectionReleaseFilter.whenBodyRead(ctx, () -> RequestTimings.finish(timing, response));
+        return response;
+    }
+}
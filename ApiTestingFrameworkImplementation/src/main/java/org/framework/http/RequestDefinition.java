@@ -0,0 +1,46 @@
+package org.framework.http;
+
+import io.restassured.http.Method;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Immutable description of a single API call, e.g. one entry of {@code ApiUtil.batch(...)}.
+ * <pre>
+ * RequestDefinition.get("/BookStore/v1/Book").queryParam("ISBN", isbn).build();
+ * </pre>
+ */
+@Value
+@Builder(toBuilder = true)
+public class RequestDefinition {
+    @NonNull
+    Method method;
+    @NonNull
+    String endpoint;
+    @Singular
+    Map<String, String> headers;
+    @Singular
+    Map<String, Object> queryParams;
+    // Serialized to JSON unless it already is a String
+    Object body;
+
+    public static RequestDefinitionBuilder get(String endpoint) {
+        return builder().method(Method.GET).endpoint(endpoint);
+    }
+
+    public static RequestDefinitionBuilder post(String endpoint, Object body) {
+        return builder().method(Method.POST).endpoint(endpoint).body(body);
+    }
+
+    public static RequestDefinitionBuilder put(String endpoint, Object body) {
+        return builder().method(Method.PUT).endpoint(endpoint).body(body);
+    }
+
+    public static RequestDefinitionBuilder delete(String endpoint) {
+        return builder().method(Method.DELETE).endpoint(endpoint);
+    }
+}
@@ -0,0 +1,30 @@
+package org.framework.http;
+
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Entry point for building requests. Use {@code RequestSpecFactory.given()} instead of
+ * {@code RestAssured.given()} so every call shares the framework's HTTP plumbing
+ * (the pooled keep-alive connections of {@link ConnectionPoolManager}, the default connect/read
+ * timeouts of {@link Timeouts}, the {@link TimeoutFilter}, the {@link LatencyFilter}, the
+ * {@link PhaseTimingFilter}, the {@link ConnectionReleaseFilter} and the {@link SampledLoggingFilter}).
+ * Filters run outermost first, so the latency and the phase timing include reading the body.
+ */
+public final class RequestSpecFactory {
+
+    private RequestSpecFactory() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    public static RequestSpecification given() {
+        return RestAssured.given()
+                .config(ConnectionPoolManager.restAssuredConfig(Timeouts.DEFAULT_CONNECT_MILLIS,
+                        Timeouts.DEFAULT_READ_MILLIS))
+                .filter(TimeoutFilter.getInstance())
+                .filter(LatencyFilter.getInstance())
+                .filter(PhaseTimingFilter.getInstance())
+                .filter(ConnectionReleaseFilter.getInstance())
+                .filter(SampledLoggingFilter.getInstance());
+    }
+}
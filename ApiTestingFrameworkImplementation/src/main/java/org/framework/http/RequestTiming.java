@@ -0,0 +1,125 @@
+package org.framework.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Where the time of one request went: DNS lookup, TCP connect, TLS handshake, time to first
+ * byte (request sent until the response head arrived) and body download.
+ * <p>
+ * DNS, connect and TLS stay 0 when a pooled keep-alive connection was reused. The JDK transport
+ * cannot observe connection setup, so there it is part of the time to first byte.
+ * </p>
+ */
+public final class RequestTiming {
+    private volatile String endpoint;
+    private final long startNanos;
+    // Summed, redirects can open more than one connection
+    private volatile long dnsNanos;
+    private volatile long connectNanos;
+    private volatile long tlsNanos;
+    private volatile boolean connectionOpened;
+    // Marks of the last hop; 0 = not observed
+    private volatile long requestSentNanos;
+    private volatile long headersReceivedNanos;
+    private volatile long endNanos;
+    private volatile int statusCode = -1;
+    // Test running on the thread that started the call; the call may finish on another thread
+    private final RequestTimings.TestTimings test;
+
+    RequestTiming(String endpoint) {
+        this.endpoint = endpoint;
+        this.startNanos = System.nanoTime();
+        this.test = RequestTimings.currentTestTimings();
+    }
+
+    RequestTimings.TestTimings getTest() {
+        return test;
+    }
+
+    // Set when the call completes if it was not known up front
+    void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void addDns(long nanos) {
+        dnsNanos += nanos;
+    }
+
+    void addConnect(long nanos) {
+        connectNanos += nanos;
+        connectionOpened = true;
+    }
+
+    void addTls(long nanos) {
+        tlsNanos += nanos;
+    }
+
+    void markRequestSent() {
+        requestSentNanos = System.nanoTime();
+    }
+
+    void markHeadersReceived() {
+        headersReceivedNanos = System.nanoTime();
+    }
+
+    void finish(int statusCode) {
+        this.endNanos = System.nanoTime();
+        this.statusCode = statusCode;
+    }
+
+    // Method and endpoint template, e.g. GET petstore.swagger.io/v2/pet/{petId}
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public boolean isConnectionReused() {
+        return !connectionOpened;
+    }
+
+    public double getDnsMillis() {
+        return millis(dnsNanos);
+    }
+
+    public double getConnectMillis() {
+        return millis(connectNanos);
+    }
+
+    public double getTlsMillis() {
+        return millis(tlsNanos);
+    }
+
+    public double getTtfbMillis() {
+        if (headersReceivedNanos == 0) {
+            return 0;
+        }
+        long sent = requestSentNanos != 0 ? requestSentNanos : startNanos + dnsNanos + connectNanos + tlsNanos;
+        return millis(headersReceivedNanos - sent);
+    }
+
+    public double getDownloadMillis() {
+        return headersReceivedNanos == 0 ? 0 : millis(end() - headersReceivedNanos);
+    }
+
+    public double getTotalMillis() {
+        return millis(end() - startNanos);
+    }
+
+    private long end() {
+        return endNanos != 0 ? endNanos : System.nanoTime();
+    }
+
+    private static double millis(long nanos) {
+        return Math.max(0, nanos) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s -> %d: total %.1fms = dns %.1f + connect %.1f + tls %.1f + ttfb %.1f + download %.1f%s",
+                endpoint, statusCode, getTotalMillis(), getDnsMillis(), getConnectMillis(), getTlsMillis(),
+                getTtfbMillis(), getDownloadMillis(), isConnectionReused() ? " (reused connection)" : "");
+    }
+}
@@ -0,0 +1,304 @@
+package org.framework.http;
+
+import io.restassured.response.Response;
+import org.framework.config.ConfigManager;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects {@link RequestTiming}s: looked up per {@link Response} with {@link #of(Response)},
+ * aggregated per endpoint for the end-of-suite report, and kept per test between
+ * {@link #startTest()} and {@link #endTest()} so the listeners can attach them to a failing or
+ * slow test.
+ * <p>
+ * A call belongs to the test that was running on its thread when the call started. Work handed
+ * to the framework's executors and timers (async calls, batches, hedges, bulk uploads) carries
+ * that test along through {@link #inCurrentTest(Executor)}, so calls finishing on pool threads are
+ * still recorded against the test that made them.
+ * </p>
+ * <p>
+ * The connection-level phases are reported from inside the HTTP client (see
+ * {@link ConnectionPoolManager}) to the timing of the request running on the same thread.
+ * </p>
+ */
+public final class RequestTimings {
+    private static final int MAX_PER_TEST = ConfigManager.getIntProperty("timing.max.requests.per.test", 100);
+
+    private static final ThreadLocal<RequestTiming> current = new ThreadLocal<>();
+    private static final ThreadLocal<TestTimings> currentTest = new ThreadLocal<>();
+    private static final WeakResponseMap byResponse = new WeakResponseMap();
+    private static final ConcurrentMap<String, Aggregate> byEndpoint = new ConcurrentHashMap<>();
+
+    private RequestTimings() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    /**
+     * @return the timing breakdown of the call that produced {@code response}, or null when it did
+     * not go through {@link RequestSpecFactory} or {@code ApiUtil}
+     */
+    public static RequestTiming of(Response response) {
+        return response == null ? null : byResponse.get(response);
+    }
+
+    public static void startTest() {
+        currentTest.set(new TestTimings());
+    }
+
+    /**
+     * @return the timings of the calls the current test has made since {@link #startTest()},
+     * on any thread, in the order they finished
+     */
+    public static List<RequestTiming> forCurrentTest() {
+        TestTimings timings = currentTest.get();
+        return timings == null ? Collections.emptyList() : timings.snapshot();
+    }
+
+    /**
+     * @return an executor that runs every task as part of the test running on this thread now
+     * (or {@code executor} itself outside a test)
+     */
+    public static Executor inCurrentTest(Executor executor) {
+        TestTimings test = currentTest.get();
+        if (test == null) {
+            return executor;
+        }
+        return task -> executor.execute(() -> {
+            TestTimings previous = currentTest.get();
+            currentTest.set(test);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    currentTest.remove();
+                } else {
+                    currentTest.set(previous);
+                }
+            }
+        });
+    }
+
+    public static void endTest() {
+        currentTest.remove();
+    }
+
+    /**
+     * @return per-endpoint averages of every phase, sorted by endpoint
+     */
+    public static Map<String, Summary> snapshot() {
+        Map<String, Summary> snapshot = new TreeMap<>();
+        byEndpoint.forEach((endpoint, aggregate) -> snapshot.put(endpoint, aggregate.summary()));
+        return snapshot;
+    }
+
+    public static void reset() {
+        byEndpoint.clear();
+    }
+
+    // Starts the timing of a call on this thread; the caller must hand it to complete()
+    static RequestTiming start() {
+        RequestTiming timing = new RequestTiming(null);
+        current.set(timing);
+        return timing;
+    }
+
+    // Timing of the call in progress on this thread, for the connection-level hooks
+    static RequestTiming current() {
+        return current.get();
+    }
+
+    // Test a call starting on this thread belongs to; null outside a test
+    static TestTimings currentTestTimings() {
+        return currentTest.get();
+    }
+
+    static void complete(RequestTiming timing, Response response) {
+        detach(timing, response);
+        finish(timing, response);
+    }
+
+    // The call has returned on this thread; its timing is found by the response from now on
+    static void detach(RequestTiming timing, Response response) {
+        if (current.get() == timing) {
+            current.remove();
+        }
+        if (response != null) {
+            byResponse.put(response, timing);
+        }
+    }
+
+    // The body has been read (or never will be); may run on whichever thread read it
+    static void finish(RequestTiming timing, Response response) {
+        timing.finish(response != null ? response.getStatusCode() : -1);
+        byEndpoint.computeIfAbsent(timing.getEndpoint(), key -> new Aggregate()).add(timing);
+        if (timing.getTest() != null) {
+            timing.getTest().add(timing);
+        }
+    }
+
+    // Timings of one test; calls made on pool threads add to it concurrently
+    static final class TestTimings {
+        private final List<RequestTiming> timings = new ArrayList<>();
+
+        synchronized void add(RequestTiming timing) {
+            if (timings.size() < MAX_PER_TEST) {
+                timings.add(timing);
+            }
+        }
+
+        synchronized List<RequestTiming> snapshot() {
+            return Collections.unmodifiableList(new ArrayList<>(timings));
+        }
+    }
+
+    // Weak identity keys: a timing lives exactly as long as the test code holds on to its response.
+    // Lookups never lock; cleared keys are dropped on the next put.
+    private static final class WeakResponseMap {
+        private final ConcurrentMap<Key, RequestTiming> timings = new ConcurrentHashMap<>();
+        private final ReferenceQueue<Response> collected = new ReferenceQueue<>();
+
+        RequestTiming get(Response response) {
+            return timings.get(new Key(response, null));
+        }
+
+        void put(Response response, RequestTiming timing) {
+            for (Reference<? extends Response> cleared = collected.poll(); cleared != null; cleared = collected.poll()) {
+                timings.remove(cleared);
+            }
+            timings.put(new Key(response, collected), timing);
+        }
+
+        private static final class Key extends WeakReference<Response> {
+            private final int hash;
+
+            Key(Response response, ReferenceQueue<Response> queue) {
+                super(response, queue);
+                this.hash = System.identityHashCode(response);
+            }
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) {
+                    return true;
+                }
+                if (!(other instanceof Key) || ((Key) other).hash != hash) {
+                    return false;
+                }
+                Response response = get();
+                return response != null && response == ((Key) other).get();
+            }
+        }
+    }
+
+    private static class Aggregate {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder newConnections = new LongAdder();
+        private final DoubleAdder dns = new DoubleAdder();
+        private final DoubleAdder connect = new DoubleAdder();
+        private final DoubleAdder tls = new DoubleAdder();
+        private final DoubleAdder ttfb = new DoubleAdder();
+        private final DoubleAdder download = new DoubleAdder();
+        private final DoubleAdder total = new DoubleAdder();
+
+        void add(RequestTiming timing) {
+            count.increment();
+            if (!timing.isConnectionReused()) {
+                newConnections.increment();
+            }
+            dns.add(timing.getDnsMillis());
+            connect.add(timing.getConnectMillis());
+            tls.add(timing.getTlsMillis());
+            ttfb.add(timing.getTtfbMillis());
+            download.add(timing.getDownloadMillis());
+            total.add(timing.getTotalMillis());
+        }
+
+        Summary summary() {
+            long n = Math.max(1, count.sum());
+            return new Summary(count.sum(), newConnections.sum(), dns.sum() / n, connect.sum() / n, tls.sum() / n,
+                    ttfb.sum() / n, download.sum() / n, total.sum() / n);
+        }
+    }
+
+    /**
+     * Average milliseconds per phase for one endpoint.
+     */
+    public static final class Summary {
+        private final long count;
+        private final long newConnections;
+        private final double dnsMillis;
+        private final double connectMillis;
+        private final double tlsMillis;
+        private final double ttfbMillis;
+        private final double downloadMillis;
+        private final double totalMillis;
+
+        Summary(long count, long newConnections, double dnsMillis, double connectMillis, double tlsMillis,
+                double ttfbMillis, double downloadMillis, double totalMillis) {
+            this.count = count;
+            this.newConnections = newConnections;
+            this.dnsMillis = dnsMillis;
+            this.connectMillis = connectMillis;
+            this.tlsMillis = tlsMillis;
+            this.ttfbMillis = ttfbMillis;
+            this.downloadMillis = downloadMillis;
+            this.totalMillis = totalMillis;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getNewConnections() {
+            return newConnections;
+        }
+
+        public double getDnsMillis() {
+            return dnsMillis;
+        }
+
+        public double getConnectMillis() {
+            return connectMillis;
+        }
+
+        public double getTlsMillis() {
+            return tlsMillis;
+        }
+
+        public double getTtfbMillis() {
+            return ttfbMillis;
+        }
+
+        public double getDownloadMillis() {
+            return downloadMillis;
+        }
+
+        public double getTotalMillis() {
+            return totalMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d new-connections=%d avg: dns=%.1fms connect=%.1fms tls=%.1fms "
+                            + "ttfb=%.1fms download=%.1fms total=%.1fms",
+                    count, newConnections, dnsMillis, connectMillis, tlsMillis, ttfbMillis, downloadMillis, totalMillis);
+        }
+    }
+}
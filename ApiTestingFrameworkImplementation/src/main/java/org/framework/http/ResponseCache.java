@@ -0,0 +1,170 @@
+package org.framework.http;
+
+import io.restassured.authentication.AuthenticationScheme;
+import io.restassured.authentication.BasicAuthScheme;
+import io.restassured.authentication.NoAuthScheme;
+import io.restassured.authentication.PreemptiveBasicAuthScheme;
+import io.restassured.authentication.PreemptiveOAuth2HeaderScheme;
+import io.restassured.response.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bounded LRU cache of GET responses with a time-to-live.
+ * <p>
+ * Entries younger than the TTL are served as they are. Older entries are revalidated with
+ * {@code If-None-Match} / {@code If-Modified-Since} when the server sent an {@code ETag} or
+ * {@code Last-Modified}, and a 304 answer refreshes the entry instead of downloading the body again.
+ * </p>
+ */
+public class ResponseCache {
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    public ResponseCache(int maxEntries, long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResponseCache.Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static String key(String endpoint, Map<String, ?> queryParams, Map<String, String> headers) {
+        return key(endpoint, queryParams, headers, "");
+    }
+
+    /**
+     * Header values go into the key hashed: a client's default {@code Authorization}, {@code Cookie} or API-key
+     * header is as much a secret as the credentials of its authentication scheme.
+     *
+     * @param authentication the {@link #authenticationKey} of the caller, so a response fetched with one
+     * set of credentials is never served to a caller with another
+     */
+    public static String key(String endpoint, Map<String, ?> queryParams, Map<String, String> headers,
+                             String authentication) {
+        StringBuilder key = new StringBuilder(endpoint);
+        if (queryParams != null && !queryParams.isEmpty()) {
+            key.append('?').append(new TreeMap<>(queryParams));
+        }
+        if (headers != null && !headers.isEmpty()) {
+            Map<String, String> hashed = new TreeMap<>();
+            headers.forEach((name, value) -> hashed.put(name, sha256(value)));
+            key.append('#').append(hashed);
+        }
+        if (authentication != null && !authentication.isEmpty()) {
+            key.append('@').append(authentication);
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the scheme, user name and a hash of the secret for basic and bearer authentication, an empty
+     * string without authentication, and null for any other scheme: its credentials cannot be told apart
+     * here, so its responses must not be cached
+     */
+    public static String authenticationKey(AuthenticationScheme authentication) {
+        if (authentication == null || authentication instanceof NoAuthScheme) {
+            return "";
+        }
+        if (authentication instanceof PreemptiveBasicAuthScheme) {
+            PreemptiveBasicAuthScheme basic = (PreemptiveBasicAuthScheme) authentication;
+            return "basic:" + basic.getUserName() + ":" + sha256(basic.getPassword());
+        }
+        if (authentication instanceof BasicAuthScheme) {
+            BasicAuthScheme basic = (BasicAuthScheme) authentication;
+            return "basic:" + basic.getUserName() + ":" + sha256(basic.getPassword());
+        }
+        if (authentication instanceof PreemptiveOAuth2HeaderScheme) {
+            return "bearer:" + sha256(((PreemptiveOAuth2HeaderScheme) authentication).getAccessToken());
+        }
+        return null;
+    }
+
+    // Keeps the secret itself out of the key, which ends up in logs and heap dumps
+    private static String sha256(String secret) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(secret).getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Stores a successful response unless the server forbade it with {@code Cache-Control: no-store}.
+     */
+    public void put(String key, Response response) {
+        String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl != null && cacheControl.toLowerCase().contains("no-store")) {
+            return;
+        }
+        // Buffer the body so the cached response can be read again by every later hit
+        response.getBody().asByteArray();
+        Entry entry = new Entry(response, response.getHeader("ETag"), response.getHeader("Last-Modified"));
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public class Entry {
+        private final Response response;
+        private final String etag;
+        private final String lastModified;
+        private volatile long storedAt = System.currentTimeMillis();
+
+        private Entry(Response response, String etag, String lastModified) {
+            this.response = response;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public Response getResponse() {
+            return response;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public boolean isFresh() {
+            return System.currentTimeMillis() - storedAt < ttlMillis;
+        }
+
+        public boolean canRevalidate() {
+            return etag != null || lastModified != null;
+        }
+
+        // Called after a 304: the stored body is still valid for another TTL
+        public void refresh() {
+            storedAt = System.currentTimeMillis();
+        }
+    }
+}
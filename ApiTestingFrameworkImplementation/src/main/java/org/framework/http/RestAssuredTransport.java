@@ -0,0 +1,91 @@
+package org.framework.http;
+
+import io.restassured.RestAssured;
+import io.restassured.authentication.AuthenticationScheme;
+import io.restassured.builder.MultiPartSpecBuilder;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.internal.RestAssuredResponseOptionsImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Default transport: RestAssured over the pooled HTTP/1.1 connections, with the
+ * filters installed by {@link RequestSpecFactory}.
+ */
+public class RestAssuredTransport implements HttpTransport {
+
+    @Override
+    public Response send(TransportRequest request) {
+        RequestSpecification spec = RequestSpecFactory.given();
+        // Merged first: the built spec carries RestAssured's default base URI and port, which would
+        // replace the request's own
+        AuthenticationScheme authentication = request.getAuthentication();
+        if (authentication != null && authentication != RestAssured.authentication) {
+            spec.spec(new RequestSpecBuilder().setAuth(authentication).build());
+        }
+        if (request.getConnectTimeoutMillis() > 0 || request.getReadTimeoutMillis() > 0) {
+            spec.config(ConnectionPoolManager.restAssuredConfig(request.getConnectTimeoutMillis(),
+                    request.getReadTimeoutMillis()));
+        }
+        if (request.getBaseUri() != null) {
+            spec.baseUri(request.getBaseUri());
+        }
+        request.getHeaders().forEach(spec::header);
+        request.getQueryParams().forEach(spec::queryParam);
+
+        Object body = request.getBody();
+        if (body instanceof byte[]) {
+            spec.body((byte[]) body);
+        } else if (body != null) {
+            spec.body(body.toString());
+        }
+        if (!request.isMultipart()) {
+            return send(spec, request);
+        }
+        // Streamed through a FileChannel in fixed-size chunks instead of handing RestAssured the File
+        try (FileChannelInputStream content = new FileChannelInputStream(request.getMultipartFile().toPath(),
+                request.getUploadProgress())) {
+            spec.multiPart(new MultiPartSpecBuilder(content)
+                    .controlName(request.getMultipartControlName())
+                    .fileName(request.getMultipartFile().getName())
+                    .mimeType(request.getMultipartMimeType() != null
+                            ? request.getMultipartMimeType() : "application/octet-stream")
+                    .build());
+            return send(spec, request);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + request.getMultipartFile(), e);
+        }
+    }
+
+    private static Response send(RequestSpecification spec, TransportRequest request) {
+        Response response = spec.request(request.getMethod(), request.getEndpoint());
+        recordDecompression(response);
+        return response;
+    }
+
+    // RestAssured decodes gzip/deflate itself; the wire size is only known when the server sent a Content-Length.
+    // A buffered body gives the decoded size right away, a streamed one is counted as the test reads it.
+    private static void recordDecompression(Response response) {
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength == null || !Compression.isSupported(response.getHeader("Content-Encoding"))) {
+            return;
+        }
+        long receivedBytes;
+        try {
+            receivedBytes = Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (response instanceof RestAssuredResponseOptionsImpl
+                && ((RestAssuredResponseOptionsImpl<?>) response).isInputStream()) {
+            RestAssuredResponseOptionsImpl<?> streamed = (RestAssuredResponseOptionsImpl<?>) response;
+            streamed.setContent(Compression.recording((InputStream) streamed.getContent(), receivedBytes));
+        } else {
+            Compression.recordResponse(receivedBytes, response.asByteArray().length);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package org.framework.http;
+
+import io.restassured.RestAssured;
+import io.restassured.authentication.AuthenticationScheme;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.framework.Utility.ApiUtil;
+import org.framework.config.ConfigManager;
+import org.framework.execution.BatchOptions;
+import org.framework.execution.BatchResult;
+import org.framework.resilience.ExponentialBackoffRetryPolicy;
+import org.framework.resilience.RetryPolicy;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, thread-safe client configuration: base URI, authentication, default headers,
+ * timeouts and deadline, retry policy and transport.
+ * <p>
+ * A client is built once and can be shared by any number of threads. Nothing here touches the
+ * RestAssured globals ({@code RestAssured.baseURI}, {@code RestAssured.authentication}), so tests
+ * running with {@code parallel="methods"} cannot see each other's settings. To change a setting,
+ * derive a new client with {@link #toBuilder()}.
+ * </p>
+ * <pre>
+ * RestClient client = RestClient.builder()
+ *         .baseUri("https://petstore.swagger.io/v2")
+ *         .header("Accept", "application/json")
+ *         .readTimeoutMillis(5_000)
+ *         .build();
+ * Pet pet = client.get("/pet/1", Pet.class);
+ * </pre>
+ * The HTTP methods go through the same retry, circuit breaker and validation pipeline as
+ * {@link ApiUtil}; {@link #given()} hands the Services classes a RestAssured spec preconfigured
+ * from this client.
+ */
+public final class RestClient {
+    private static final HttpTransport DEFAULT_TRANSPORT =
+            HttpTransport.named(ConfigManager.getProperty("http.transport", "restassured"));
+    private static final RetryPolicy DEFAULT_RETRY_POLICY = ExponentialBackoffRetryPolicy.fromConfig();
+
+    private final String baseUri;
+    private final AuthenticationScheme authentication;
+    private final Map<String, String> headers;
+    private final long connectTimeoutMillis;
+    private final long readTimeoutMillis;
+    private final long deadlineMillis;
+    private final int requestCompressionThreshold;
+    private final RetryPolicy retryPolicy;
+    private final HttpTransport transport;
+    // Built once; RestAssured merges a copy of it into every spec returned by given()
+    private final RequestSpecification template;
+
+    private RestClient(Builder builder) {
+        this.baseUri = builder.baseUri;
+        this.authentication = builder.authentication;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(builder.headers));
+        this.connectTimeoutMillis = builder.connectTimeoutMillis;
+        this.readTimeoutMillis = builder.readTimeoutMillis;
+        this.deadlineMillis = builder.deadlineMillis;
+        this.requestCompressionThreshold = builder.requestCompressionThreshold;
+        this.retryPolicy = Objects.requireNonNull(builder.retryPolicy, "retryPolicy");
+        this.transport = Objects.requireNonNull(builder.transport, "transport");
+        transport.checkAuthentication(authentication);
+        this.template = buildTemplate();
+    }
+
+    /**
+     * A builder preset with the config.properties defaults ({@code http.transport}, {@code retry.*},
+     * {@code http.connect.timeout.ms}, {@code http.read.timeout.ms}, {@code http.deadline.ms}, {@code compression.request.*})
+     * and no base URI or authentication.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.baseUri = baseUri;
+        builder.authentication = authentication;
+        builder.headers.putAll(headers);
+        builder.connectTimeoutMillis = connectTimeoutMillis;
+        builder.readTimeoutMillis = readTimeoutMillis;
+        builder.deadlineMillis = deadlineMillis;
+        builder.requestCompressionThreshold = requestCompressionThreshold;
+        builder.retryPolicy = retryPolicy;
+        builder.transport = transport;
+        return builder;
+    }
+
+    // null means relative endpoints resolve against RestAssured.baseURI
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    public AuthenticationScheme getAuthentication() {
+        return authentication;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public long getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public long getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    // Upper bound for a whole call through ApiUtil, retries and back-off included; 0 = none
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    // Bodies of at least this many bytes are sent gzip-compressed; negative = never
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * A new RestAssured spec (pooled connections, sampled logging) carrying this client's base URI,
+     * authentication, headers, timeouts and request compression. Every call returns an independent spec.
+     */
+    public RequestSpecification given() {
+        return withBaseUri(RequestSpecFactory.given().spec(template));
+    }
+
+    /**
+     * Precomputes a spec on top of this client's settings, e.g. one per service operation. Build it
+     * once and pass it to {@link #given(RequestSpecification)} on every call; it is never modified
+     * afterwards, so it can be shared by any number of threads.
+     */
+    public RequestSpecification template(Consumer<RequestSpecBuilder> customizer) {
+        RequestSpecBuilder builder = new RequestSpecBuilder().addRequestSpecification(template);
+        customizer.accept(builder);
+        return builder.build();
+    }
+
+    // A new spec copied from a template built by template(...); call-specific settings go on the copy
+    public RequestSpecification given(RequestSpecification operationTemplate) {
+        return withBaseUri(RequestSpecFactory.given().spec(operationTemplate));
+    }
+
+    /**
+     * A {@link TransportRequest} pre-filled with this client's settings; call-specific headers added
+     * to the returned builder override the client defaults.
+     */
+    public TransportRequest.TransportRequestBuilder newRequest(Method method, String endpoint) {
+        return TransportRequest.builder()
+                .method(method)
+                .baseUri(baseUri)
+                .endpoint(endpoint)
+                .authentication(authentication)
+                .headers(headers)
+                .connectTimeoutMillis(connectTimeoutMillis)
+                .readTimeoutMillis(readTimeoutMillis);
+    }
+
+    // RequestSpecBuilder copies RestAssured's base URI, port and base path as they are when the template is
+    // built, and merging the template sets them on the call. They are put back to what RestAssured has now,
+    // and the base URI to this client's own when it has one.
+    private RequestSpecification withBaseUri(RequestSpecification spec) {
+        return spec.baseUri(baseUri != null ? baseUri : RestAssured.baseURI)
+                .port(RestAssured.port)
+                .basePath(RestAssured.basePath);
+    }
+
+    private RequestSpecification buildTemplate() {
+        RequestSpecBuilder builder = new RequestSpecBuilder().addHeaders(headers);
+        if (authentication != null) {
+            builder.setAuth(authentication);
+        }
+        if (connectTimeoutMillis > 0 || readTimeoutMillis > 0) {
+            builder.setConfig(ConnectionPoolManager.restAssuredConfig(connectTimeoutMillis, readTimeoutMillis));
+        }
+        if (requestCompressionThreshold >= 0) {
+            builder.addFilter(new GzipRequestFilter(requestCompressionThreshold));
+        }
+        return builder.build();
+    }
+
+    // region HTTP Methods
+    public <T> T get(String endpoint, Class<T> responseType) {
+        return get(endpoint, null, null, responseType);
+    }
+
+    public <T> T get(String endpoint, Map<String, Object> queryParams, Map<String, String> headers,
+                     Class<T> responseType) {
+        return ApiUtil.get(this, endpoint, queryParams, headers, responseType);
+    }
+
+    public Response post(String endpoint, Object body) {
+        return post(endpoint, body, null, null);
+    }
+
+    public Response post(String endpoint, Object body, Map<String, String> headers, Map<String, Object> queryParams) {
+        return ApiUtil.post(this, endpoint, body, headers, queryParams);
+    }
+
+    public <T> T put(String endpoint, Object body, Class<T> responseType) {
+        return put(endpoint, body, null, null, responseType);
+    }
+
+    public <T> T put(String endpoint, Object body, Map<String, String> headers, Map<String, Object> queryParams,
+                     Class<T> responseType) {
+        return ApiUtil.put(this, endpoint, body, headers, queryParams, responseType);
+    }
+
+    public Response delete(String endpoint) {
+        return delete(endpoint, null, null);
+    }
+
+    public Response delete(String endpoint, Map<String, String> headers, Map<String, Object> queryParams) {
+        return ApiUtil.delete(this, endpoint, headers, queryParams);
+    }
+
+    public Response uploadFile(String endpoint, File file, String mimeType) {
+        return ApiUtil.uploadFile(this, endpoint, file, mimeType, null, null);
+    }
+
+    public Response uploadFile(String endpoint, File file, String mimeType, UploadProgressListener progress) {
+        return ApiUtil.uploadFile(this, endpoint, file, mimeType, null, null, progress);
+    }
+
+    public Response execute(RequestDefinition definition) {
+        return ApiUtil.execute(this, definition);
+    }
+
+    public BatchResult<RequestDefinition> batch(List<RequestDefinition> requests) {
+        return batch(requests, BatchOptions.defaults());
+    }
+
+    public BatchResult<RequestDefinition> batch(List<RequestDefinition> requests, BatchOptions options) {
+        return ApiUtil.batch(this, requests, options);
+    }
+
+    public <T> CompletableFuture<T> getAsync(String endpoint, Class<T> responseType) {
+        return ApiUtil.getAsync(this, endpoint, null, null, responseType);
+    }
+
+    public CompletableFuture<Response> postAsync(String endpoint, Object body) {
+        return ApiUtil.postAsync(this, endpoint, body, null, null);
+    }
+
+    public <T> CompletableFuture<T> putAsync(String endpoint, Object body, Class<T> responseType) {
+        return ApiUtil.putAsync(this, endpoint, body, null, null, responseType);
+    }
+
+    public CompletableFuture<Response> deleteAsync(String endpoint) {
+        return ApiUtil.deleteAsync(this, endpoint, null, null);
+    }
+
+    public CompletableFuture<Response> uploadFileAsync(String endpoint, File file, String mimeType) {
+        return ApiUtil.uploadFileAsync(this, endpoint, file, mimeType, null, null);
+    }
+    // endregion
+
+    public static final class Builder {
+        private String baseUri;
+        private AuthenticationScheme authentication;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private long connectTimeoutMillis = Timeouts.DEFAULT_CONNECT_MILLIS;
+        private long readTimeoutMillis = Timeouts.DEFAULT_READ_MILLIS;
+        private long deadlineMillis = Timeouts.DEFAULT_DEADLINE_MILLIS;
+        private int requestCompressionThreshold = ConfigManager.getBooleanProperty("compression.request.enabled", false)
+                ? ConfigManager.getIntProperty("compression.request.min.bytes", 8192)
+                : -1;
+        private RetryPolicy retryPolicy = DEFAULT_RETRY_POLICY;
+        private HttpTransport transport = DEFAULT_TRANSPORT;
+
+        private Builder() {
+        }
+
+        public Builder baseUri(String baseUri) {
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        public Builder authentication(AuthenticationScheme authentication) {
+            this.authentication = authentication;
+            return this;
+        }
+
+        public Builder header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public Builder headers(Map<String, String> headers) {
+            this.headers.putAll(headers);
+            return this;
+        }
+
+        public Builder clearHeaders() {
+            headers.clear();
+            return this;
+        }
+
+        // 0 = no timeout (RestAssured) / the shared client's timeout (JDK transport)
+        public Builder connectTimeoutMillis(long connectTimeoutMillis) {
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            return this;
+        }
+
+        // 0 = wait indefinitely for the response
+        public Builder readTimeoutMillis(long readTimeoutMillis) {
+            this.readTimeoutMillis = readTimeoutMillis;
+            return this;
+        }
+
+        // Each attempt's timeouts are shrunk to what is left of this; 0 = no overall deadline
+        public Builder deadlineMillis(long deadlineMillis) {
+            this.deadlineMillis = deadlineMillis;
+            return this;
+        }
+
+        // gzip request bodies of at least minBytes (Content-Encoding: gzip); negative disables compression
+        public Builder compressRequestsAbove(int minBytes) {
+            this.requestCompressionThreshold = minBytes;
+            return this;
+        }
+
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        public Builder transport(HttpTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException when the transport cannot send with the authentication scheme
+         */
+        public RestClient build() {
+            return new RestClient(this);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.specification.RequestSpecification;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Run-time support for the typed clients generated from {@code @ApiRoutes} interfaces.
+ * <p>
+ * Generated clients encode path and query values themselves and switch RestAssured's URL encoding
+ * off, so a request goes out without RestAssured re-parsing a path template. The route template is
+ * handed to {@link LatencyFilter} and {@link PhaseTimingFilter} through the filter context, which
+ * keeps their metrics keyed by {@code /user/{username}} instead of one key per user name.
+ * </p>
+ */
+public final class RouteSupport {
+    static final String ROUTE_TEMPLATE = RouteSupport.class.getName() + ".route";
+
+    private RouteSupport() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    /**
+     * The per-route template of a generated client: the client's settings plus the resolved
+     * content type and accept header (null = not set).
+     */
+    public static RequestSpecification template(RestClient client, String route, String contentType, String accept) {
+        Filter routeFilter = (requestSpec, responseSpec, ctx) -> {
+            ctx.setValue(ROUTE_TEMPLATE, route);
+            return ctx.next(requestSpec, responseSpec);
+        };
+        return client.template(spec -> {
+            if (contentType != null) {
+                spec.setContentType(contentType);
+            }
+            if (accept != null) {
+                spec.addHeader("Accept", accept);
+            }
+            spec.setUrlEncodingEnabled(false);
+            spec.addFilter(routeFilter);
+        });
+    }
+
+    // Percent-encodes a value as a single path segment ("a/b c" -> "a%2Fb%20c")
+    public static String encodePathSegment(Object value) {
+        return UriTemplate.encodePathSegment(value);
+    }
+
+    public static String encodeQueryValue(Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+
+    public static List<String> encodeQueryValues(Iterable<?> values) {
+        List<String> encoded = new ArrayList<>();
+        for (Object value : values) {
+            encoded.add(encodeQueryValue(value));
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,151 @@
+package org.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.internal.RestAssuredResponseOptionsImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Central request/response logging for every call made through {@link RequestSpecFactory}.
+ * <p>
+ * Failures (status &gt;= 400) are always logged; successes only one in {@code log.sample.rate}.
+ * At most {@code log.body.max.bytes} of the body are read and nothing is pretty-printed: a body
+ * still streaming from the server has just that prefix read and put back in front of the rest,
+ * a body already in memory is only copied when the message is formatted. The size comes from
+ * {@code Content-Length} of an uncompressed response. The message itself is built and written by an {@link AsyncLogAppender},
+ * and nothing is touched at all when INFO is disabled for this logger.
+ * </p>
+ */
+public class SampledLoggingFilter implements Filter {
+    private static final Logger logger = LoggerFactory.getLogger(SampledLoggingFilter.class);
+    private static final SampledLoggingFilter INSTANCE = new SampledLoggingFilter(
+            ConfigManager.getIntProperty("log.sample.rate", 10),
+            ConfigManager.getIntProperty("log.body.max.bytes", 4096),
+            new AsyncLogAppender("api-log-appender", ConfigManager.getIntProperty("log.queue.capacity", 10_000)));
+
+    private final int sampleRate;
+    private final int maxBodyBytes;
+    private final AsyncLogAppender appender;
+    private final AtomicLong successes = new AtomicLong();
+
+    public SampledLoggingFilter(int sampleRate, int maxBodyBytes, AsyncLogAppender appender) {
+        this.sampleRate = Math.max(1, sampleRate);
+        this.maxBodyBytes = maxBodyBytes;
+        this.appender = appender;
+    }
+
+    public static SampledLoggingFilter getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        if (!logger.isInfoEnabled()) {
+            return response;
+        }
+        int statusCode = response.getStatusCode();
+        boolean failed = statusCode >= 400;
+        if (!failed && successes.getAndIncrement() % sampleRate != 0) {
+            return response;
+        }
+
+        String method = requestSpec.getMethod();
+        String uri = requestSpec.getURI();
+        byte[] streamedPrefix = maxBodyBytes > 0 ? readStreamedPrefix(response) : null;
+        if (streamedPrefix != null) {
+            long bodyLength = contentLength(response);
+            appender.append(logger, level(failed),
+                    () -> format(method, uri, statusCode, elapsedMillis, streamedPrefix, bodyLength));
+        } else {
+            // Already in memory: copied on the appender thread, and only if the message is written
+            appender.append(logger, level(failed), () -> {
+                byte[] body = maxBodyBytes > 0 ? response.getBody().asByteArray() : new byte[0];
+                return format(method, uri, statusCode, elapsedMillis, body, body.length);
+            });
+        }
+        return response;
+    }
+
+    /**
+     * @return up to maxBodyBytes of a body RestAssured has not read yet, or null when the body is
+     * already in memory. The prefix is put back so the test still reads the whole body.
+     */
+    private byte[] readStreamedPrefix(Response response) {
+        if (!(response instanceof RestAssuredResponseOptionsImpl)) {
+            // Unknown implementation, reading it from another thread later would not be safe
+            return new byte[0];
+        }
+        RestAssuredResponseOptionsImpl<?> restAssuredResponse = (RestAssuredResponseOptionsImpl<?>) response;
+        if (!restAssuredResponse.isInputStream()) {
+            return null;
+        }
+        InputStream body = (InputStream) restAssuredResponse.getContent();
+        byte[] prefix;
+        try {
+            prefix = body.readNBytes(maxBodyBytes);
+        } catch (IOException e) {
+            // Leave the body to the test, which gets the same error when it reads it
+            return new byte[0];
+        }
+        restAssuredResponse.setContent(new SequenceInputStream(new ByteArrayInputStream(prefix), body));
+        return prefix;
+    }
+
+    private static AsyncLogAppender.Level level(boolean failed) {
+        return failed ? AsyncLogAppender.Level.WARN : AsyncLogAppender.Level.INFO;
+    }
+
+    // -1 when the server did not say, or said it for the compressed body
+    private static long contentLength(Response response) {
+        String contentLength = response.getHeader("Content-Length");
+        String contentEncoding = response.getHeader("Content-Encoding");
+        if (contentLength != null && (contentEncoding == null || "identity".equalsIgnoreCase(contentEncoding.trim()))) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                // treated as unknown
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param body the body or its first bytes; at most maxBodyBytes of it are logged
+     * @param bodyLength the full body size, -1 when unknown
+     */
+    private String format(String method, String uri, int statusCode, long elapsedMillis,
+                          byte[] body, long bodyLength) {
+        int logged = Math.min(body.length, maxBodyBytes);
+        StringBuilder message = new StringBuilder(logged + 128)
+                .append(method).append(' ').append(uri)
+                .append(" -> ").append(statusCode)
+                .append(" (").append(elapsedMillis).append("ms)");
+        if (logged > 0) {
+            message.append(" Body: ").append(new String(body, 0, logged, StandardCharsets.UTF_8));
+            if (bodyLength > logged) {
+                message.append("... [truncated, ").append(bodyLength).append(" bytes total]");
+            } else if (bodyLength < 0 && logged == maxBodyBytes) {
+                message.append("... [truncated]");
+            }
+        }
+        return message.toString();
+    }
+}
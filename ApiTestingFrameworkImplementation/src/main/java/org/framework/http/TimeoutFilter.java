@@ -0,0 +1,53 @@
+package org.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.http.params.CoreConnectionPNames;
+import org.framework.Utility.ApiUtil.ApiTimeoutException;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns the socket/connect timeouts RestAssured rethrows unwrapped into an {@link ApiTimeoutException}
+ * naming the request, the phase that timed out and the configured limit. Installed by
+ * {@link RequestSpecFactory}, so RestUtils and the Services classes get it as well as ApiUtil.
+ */
+public class TimeoutFilter implements Filter {
+    private static final TimeoutFilter INSTANCE = new TimeoutFilter();
+
+    public static TimeoutFilter getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation") // RestAssured 5 still drives the HttpClient 4.x classic API
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            String phase = Timeouts.phase(e);
+            if (phase == null || e instanceof ApiTimeoutException) {
+                throw e;
+            }
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Map<String, ?> params = requestSpec.getConfig() != null
+                    ? requestSpec.getConfig().getHttpClientConfig().params()
+                    : Collections.emptyMap();
+            long limit = millis(params.get(Timeouts.CONNECT.equals(phase)
+                    ? CoreConnectionPNames.CONNECTION_TIMEOUT : CoreConnectionPNames.SO_TIMEOUT));
+            throw new ApiTimeoutException(String.format("Timed out (%s) calling %s %s", phase, requestSpec.getMethod(),
+                    requestSpec.getURI()), phase, limit, elapsed, Collections.singletonList(elapsed), 0, e);
+        }
+    }
+
+    private static long millis(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
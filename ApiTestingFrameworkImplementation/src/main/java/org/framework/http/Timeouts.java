@@ -0,0 +1,46 @@
+package org.framework.http;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.framework.Utility.ApiUtil.ApiTimeoutException;
+import org.framework.config.ConfigManager;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+
+/**
+ * Default connect/read timeouts and recognition of timeout failures from either HTTP stack.
+ */
+public final class Timeouts {
+    public static final String CONNECT = "connect";
+    public static final String READ = "read";
+    public static final String DEADLINE = "deadline";
+
+    public static final long DEFAULT_CONNECT_MILLIS = ConfigManager.getLongProperty("http.connect.timeout.ms", 10_000);
+    public static final long DEFAULT_READ_MILLIS = ConfigManager.getLongProperty("http.read.timeout.ms", 30_000);
+    public static final long DEFAULT_DEADLINE_MILLIS = ConfigManager.getLongProperty("http.deadline.ms", 120_000);
+
+    private Timeouts() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    /**
+     * @return {@link #CONNECT}, {@link #READ} or {@link #DEADLINE} when {@code error} (or one of its
+     * causes) is a timeout, otherwise null
+     */
+    public static String phase(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof ApiTimeoutException) {
+                return ((ApiTimeoutException) current).getPhase();
+            }
+            // Checked before their supertypes (SocketTimeoutException / HttpTimeoutException)
+            if (current instanceof ConnectTimeoutException || current instanceof HttpConnectTimeoutException) {
+                return CONNECT;
+            }
+            if (current instanceof SocketTimeoutException || current instanceof HttpTimeoutException) {
+                return READ;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package org.framework.http;
+
+import io.restassured.authentication.AuthenticationScheme;
+import io.restassured.http.Method;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * Fully resolved request handed to an {@link HttpTransport}: headers are merged and the
+ * body is already serialized, so a transport only has to put it on the wire.
+ */
+@Value
+@Builder(toBuilder = true)
+public class TransportRequest {
+    @NonNull
+    Method method;
+    // Used for relative endpoints; null means the transport's default (RestAssured.baseURI)
+    String baseUri;
+    @NonNull
+    String endpoint;
+    @Singular
+    Map<String, String> headers;
+    @Singular
+    Map<String, Object> queryParams;
+    // String or byte[]
+    Object body;
+    File multipartFile;
+    String multipartMimeType;
+    @Builder.Default
+    String multipartControlName = "file";
+    AuthenticationScheme authentication;
+    // Progress of a streamed multipart file; may be null
+    UploadProgressListener uploadProgress;
+    // 0 = transport default
+    long connectTimeoutMillis;
+    long readTimeoutMillis;
+
+    public boolean isMultipart() {
+        return multipartFile != null;
+    }
+}
@@ -0,0 +1,13 @@
+package org.framework.http;
+
+/**
+ * Receives upload progress for streamed files, roughly once per chunk handed to the HTTP stack
+ * and once at the end. {@code bytesSent} restarts from 0 if the upload is retried.
+ */
+@FunctionalInterface
+public interface UploadProgressListener {
+    UploadProgressListener NONE = (bytesSent, totalBytes) -> {
+    };
+
+    void onProgress(long bytesSent, long totalBytes);
+}
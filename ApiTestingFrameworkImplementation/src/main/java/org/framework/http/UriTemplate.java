@@ -0,0 +1,257 @@
+package org.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.specification.RequestSpecification;
+import org.framework.config.ConfigManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A path template such as {@code https://petstore.swagger.io/v2/pet/{petId}}, parsed once into
+ * literal and variable segments.
+ * <pre>
+ * UriTemplate route = UriTemplate.of(Routes.getPet);
+ * Response response = route.prepare(client.given()).get(route.expand(petId));
+ * </pre>
+ * The literal parts are percent-encoded when the template is parsed and the variables when it is
+ * expanded, so {@link #prepare} turns RestAssured's own URL encoding off and RestAssured sends the
+ * path as it is instead of parsing the template again. Values made of unreserved characters only
+ * (numbers, most ids and user names) are appended without being copied.
+ * <p>
+ * Templates are cached by their string, {@link #of} is meant for the route constants. The cache
+ * holds at most {@code uri.template.cache.size} templates; once it is full, templates not already
+ * in it are parsed on every call instead of being added, so the routes seen first stay cached.
+ * </p>
+ */
+public final class UriTemplate {
+    static final int MAX_CACHED = Math.max(0, ConfigManager.getIntProperty("uri.template.cache.size", 256));
+    private static final ConcurrentMap<String, UriTemplate> cache = new ConcurrentHashMap<>();
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    // Room per variable when sizing the expanded URL
+    private static final int VALUE_ESTIMATE = 16;
+
+    private final String template;
+    // literals[i] precedes variable i; the last literal follows the last variable
+    private final String[] literals;
+    // Index into variableNames for each variable occurrence, a name used twice takes one value
+    private final int[] variables;
+    private final List<String> variableNames;
+    private final int literalLength;
+    private final Filter routeFilter;
+
+    private UriTemplate(String template) {
+        this.template = template;
+        List<String> parsedLiterals = new ArrayList<>();
+        List<Integer> occurrences = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int literalStart = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed '{' in URI template " + template);
+            }
+            String name = template.substring(open + 1, close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty variable in URI template " + template);
+            }
+            parsedLiterals.add(encodeLiteral(template.substring(literalStart, open)));
+            int index = names.indexOf(name);
+            if (index < 0) {
+                index = names.size();
+                names.add(name);
+            }
+            occurrences.add(index);
+            literalStart = close + 1;
+            open = template.indexOf('{', literalStart);
+        }
+        parsedLiterals.add(encodeLiteral(template.substring(literalStart)));
+
+        this.literals = parsedLiterals.toArray(new String[0]);
+        this.variables = occurrences.stream().mapToInt(Integer::intValue).toArray();
+        this.variableNames = Collections.unmodifiableList(names);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+        this.routeFilter = (requestSpec, responseSpec, ctx) -> {
+            ctx.setValue(RouteSupport.ROUTE_TEMPLATE, template);
+            return ctx.next(requestSpec, responseSpec);
+        };
+    }
+
+    /**
+     * @return the parsed template, shared by every caller passing the same string
+     */
+    public static UriTemplate of(String template) {
+        UriTemplate parsed = cache.get(template);
+        if (parsed != null) {
+            return parsed;
+        }
+        // Two threads can both pass the size check, so the cache may overshoot by a few entries
+        return cache.size() < MAX_CACHED ? cache.computeIfAbsent(template, UriTemplate::new) : new UriTemplate(template);
+    }
+
+    static int cacheSize() {
+        return cache.size();
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return the distinct variable names in order of first appearance, the order {@link #expand(Object...)} takes
+     */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    /**
+     * Turns RestAssured's URL encoding off for {@code request}, since {@link #expand} already
+     * encodes, and tags it with this template so latency and phase metrics are keyed by the
+     * template rather than by every expanded path. Query and form values added to the request
+     * must then be encoded by the caller, see {@link RouteSupport#encodeQueryValue}.
+     */
+    public RequestSpecification prepare(RequestSpecification request) {
+        return request.urlEncodingEnabled(false).filter(routeFilter);
+    }
+
+    // Single-variable fast path, spares the varargs array
+    public String expand(Object value) {
+        if (variableNames.size() != 1) {
+            throw wrongArity(1);
+        }
+        StringBuilder url = new StringBuilder(literalLength + VALUE_ESTIMATE * variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            url.append(literals[i]);
+            appendPathSegment(url, value);
+        }
+        return url.append(literals[variables.length]).toString();
+    }
+
+    /**
+     * @param values one per {@linkplain #getVariableNames() variable name}, in order
+     */
+    public String expand(Object... values) {
+        if (values.length != variableNames.size()) {
+            throw wrongArity(values.length);
+        }
+        if (variables.length == 0) {
+            return literals[0];
+        }
+        StringBuilder url = new StringBuilder(literalLength + VALUE_ESTIMATE * variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            url.append(literals[i]);
+            appendPathSegment(url, values[variables[i]]);
+        }
+        return url.append(literals[variables.length]).toString();
+    }
+
+    public String expand(Map<String, ?> values) {
+        Object[] ordered = new Object[variableNames.size()];
+        for (int i = 0; i < ordered.length; i++) {
+            String name = variableNames.get(i);
+            if (!values.containsKey(name)) {
+                throw new IllegalArgumentException("No value for '" + name + "' in URI template " + template);
+            }
+            ordered[i] = values.get(name);
+        }
+        return expand(ordered);
+    }
+
+    private IllegalArgumentException wrongArity(int given) {
+        return new IllegalArgumentException("URI template " + template + " takes " + variableNames.size()
+                + " value(s) " + variableNames + ", got " + given);
+    }
+
+    /**
+     * Percent-encodes {@code value} as one path segment ({@code "a/b c"} -> {@code "a%2Fb%20c"}).
+     */
+    public static String encodePathSegment(Object value) {
+        String text = String.valueOf(value);
+        if (isUnreserved(text)) {
+            return text;
+        }
+        StringBuilder encoded = new StringBuilder(text.length() + 8);
+        appendEncoded(encoded, text);
+        return encoded.toString();
+    }
+
+    private static void appendPathSegment(StringBuilder url, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Path variable must not be null");
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            url.append(((Number) value).longValue());
+            return;
+        }
+        String text = value.toString();
+        if (isUnreserved(text)) {
+            url.append(text);
+        } else {
+            appendEncoded(url, text);
+        }
+    }
+
+    // RFC 3986 unreserved: ALPHA / DIGIT / "-" / "." / "_" / "~"
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static boolean isUnreserved(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!isUnreserved(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendEncoded(StringBuilder out, String text) {
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if (c < 0x80 && isUnreserved(c)) {
+                out.append(c);
+            } else {
+                out.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+        }
+    }
+
+    // Literal parts keep the URL structure (scheme, '/', '?', '&', '=') and existing %XX escapes
+    private static String encodeLiteral(String literal) {
+        StringBuilder encoded = null;
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            boolean allowed = c < 0x80 && (isUnreserved(c) || "%:/?#[]@!$&'()*+,;=".indexOf(c) >= 0);
+            if (allowed && encoded == null) {
+                continue;
+            }
+            if (encoded == null) {
+                encoded = new StringBuilder(literal.length() + 8).append(literal, 0, i);
+            }
+            if (allowed) {
+                encoded.append(c);
+            } else {
+                int end = Character.isHighSurrogate(c) && i + 1 < literal.length() ? i + 2 : i + 1;
+                appendEncoded(encoded, literal.substring(i, end));
+                i = end - 1;
+            }
+        }
+        return encoded == null ? literal : encoded.toString();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -1,37 +1,57 @@
 // src/test/java/listeners/AdvancedTestListener.java
 package org.framework.listeners;
 
+import org.framework.reports.ApiLatencies;
+import org.framework.reports.ApiMetrics;
 import org.framework.reports.ExtentManager;
 import org.framework.reports.ExtentTestManager;
+import org.framework.config.ConfigManager;
+import org.framework.http.ConnectionPoolManager;
+import org.framework.http.RequestTiming;
+import org.framework.http.RequestTimings;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
+import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+import java.util.List;
+import java.util.Map;
 
 public class AdvancedTestListener implements ITestListener {
+    private static final long SLOW_TEST_MS = ConfigManager.getLongProperty("timing.slow.test.ms", 5_000);
 
     @Override
     public void onTestStart(ITestResult result) {
         ExtentTestManager.startTest(result.getMethod().getMethodName(), "Advanced Test");
+        RequestTimings.startTest();
         System.out.println("[START] " + result.getMethod().getMethodName());
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
         ExtentTestManager.getTest().log(Status.PASS, "Test Passed");
+        if (result.getEndMillis() - result.getStartMillis() >= SLOW_TEST_MS) {
+            attachRequestTimings(ExtentTestManager.getTest(), "Slow test");
+        }
+        RequestTimings.endTest();
         System.out.println("[PASS] " + result.getMethod().getMethodName());
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
         ExtentTestManager.getTest().log(Status.FAIL, "Test Failed: " + result.getThrowable());
+        attachRequestTimings(ExtentTestManager.getTest(), "Failed test");
+        RequestTimings.endTest();
         System.out.println("[FAIL] " + result.getMethod().getMethodName());
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         ExtentTestManager.getTest().log(Status.SKIP, "Test Skipped");
+        RequestTimings.endTest();
         System.out.println("[SKIP] " + result.getMethod().getMethodName());
     }
 
@@ -43,10 +63,66 @@ public class AdvancedTestListener implements ITestListener {
     @Override
     public void onFinish(ITestContext context) {
         System.out.println("Test Suite Finished: " + context.getName());
+        System.out.println("HTTP connection pool: " + ConnectionPoolManager.statsSummary());
+        publishApiMetrics();
+        publishApiLatencies();
+        publishRequestPhases();
         // Flush the ExtentReports instance
         ExtentManager.getInstance().flush();
     }
 
+    private void publishApiMetrics() {
+        Map<String, Long> metrics = ApiMetrics.snapshot();
+        if (metrics.isEmpty()) {
+            return;
+        }
+        ExtentTest node = ExtentManager.getInstance().createTest("API Metrics", "HTTP layer counters for this run");
+        metrics.forEach((name, value) -> node.info(name + " = " + value));
+    }
+
+    private void publishApiLatencies() {
+        Map<String, ApiLatencies.Summary> latencies = ApiLatencies.snapshot();
+        if (latencies.isEmpty()) {
+            return;
+        }
+        ExtentTest node = ExtentManager.getInstance().createTest("API Latencies", "Per-endpoint latency percentiles for this run");
+        latencies.forEach((endpoint, summary) -> {
+            node.info(endpoint + " - " + summary);
+            System.out.println("[LATENCY] " + endpoint + " " + summary);
+        });
+    }
+
+    // One row per HTTP call the test made on its own thread, so a slow test shows where its time went
+    private void attachRequestTimings(ExtentTest test, String reason) {
+        List<RequestTiming> timings = RequestTimings.forCurrentTest();
+        if (test == null || timings.isEmpty()) {
+            return;
+        }
+        String[][] table = new String[timings.size() + 1][];
+        table[0] = new String[]{"Request", "Status", "DNS ms", "Connect ms", "TLS ms", "TTFB ms", "Download ms", "Total ms"};
+        for (int i = 0; i < timings.size(); i++) {
+            RequestTiming timing = timings.get(i);
+            table[i + 1] = new String[]{timing.getEndpoint(), String.valueOf(timing.getStatusCode()),
+                    format(timing.getDnsMillis()), format(timing.getConnectMillis()), format(timing.getTlsMillis()),
+                    format(timing.getTtfbMillis()), format(timing.getDownloadMillis()), format(timing.getTotalMillis())};
+        }
+        test.info(reason + " - timing of " + timings.size() + " HTTP call(s)");
+        test.info(MarkupHelper.createTable(table));
+    }
+
+    private void publishRequestPhases() {
+        Map<String, RequestTimings.Summary> phases = RequestTimings.snapshot();
+        if (phases.isEmpty()) {
+            return;
+        }
+        ExtentTest node = ExtentManager.getInstance().createTest("API Request Phases", "Average DNS/connect/TLS/TTFB/download time per endpoint");
+        phases.forEach((endpoint, summary) -> node.info(endpoint + " - " + summary));
+    }
+
+    private static String format(double millis) {
+        return String.format("%.1f", millis);
+    }
+
     @Override
     public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
         // Not used
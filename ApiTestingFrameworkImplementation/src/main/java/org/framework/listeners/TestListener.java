@@ -1,30 +1,45 @@
 package org.framework.listeners;
 
 
+import org.framework.config.ConfigManager;
+import org.framework.http.ConnectionPoolManager;
+import org.framework.http.RequestTimings;
+import org.framework.reports.ApiLatencies;
+import org.framework.reports.ApiMetrics;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 public class TestListener implements ITestListener {
+    private static final long SLOW_TEST_MS = ConfigManager.getLongProperty("timing.slow.test.ms", 5_000);
+
     @Override
     public void onTestStart(ITestResult result) {
         System.out.println("[START] " + result.getMethod().getMethodName());
+        RequestTimings.startTest();
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
         System.out.println("[PASS] " + result.getMethod().getMethodName());
+        if (result.getEndMillis() - result.getStartMillis() >= SLOW_TEST_MS) {
+            RequestTimings.forCurrentTest().forEach(timing -> System.out.println("[TIMING] " + timing));
+        }
+        RequestTimings.endTest();
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
         System.out.println("[FAIL] " + result.getMethod().getMethodName());
+        RequestTimings.forCurrentTest().forEach(timing -> System.out.println("[TIMING] " + timing));
+        RequestTimings.endTest();
         // Additional logging or screenshot capture can be added here.
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         System.out.println("[SKIP] " + result.getMethod().getMethodName());
+        RequestTimings.endTest();
     }
 
     @Override
@@ -40,6 +55,10 @@ public class TestListener implements ITestListener {
     @Override
     public void onFinish(ITestContext context) {
         System.out.println("Test Suite Finished: " + context.getName());
+        System.out.println("HTTP connection pool: " + ConnectionPoolManager.statsSummary());
+        ApiMetrics.snapshot().forEach((name, value) -> System.out.println("[METRIC] " + name + " = " + value));
+        ApiLatencies.snapshot().forEach((endpoint, summary) -> System.out.println("[LATENCY] " + endpoint + " " + summary));
+        RequestTimings.snapshot().forEach((endpoint, summary) -> System.out.println("[PHASES] " + endpoint + " " + summary));
     }
 }
 
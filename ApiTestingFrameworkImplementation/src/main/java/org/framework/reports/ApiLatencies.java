@@ -0,0 +1,119 @@
+package org.framework.reports;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide latency histograms, one per endpoint key (e.g. {@code GET petstore.swagger.io/v2/pet/{id}}).
+ * <p>
+ * Calls are recorded into HdrHistogram {@link Recorder}s, whose writers never block each other
+ * or the reader, so recording costs a few nanoseconds on the request thread. The listeners in
+ * {@code org.framework.listeners} publish p50/p90/p99/p99.9 per endpoint when the suite finishes.
+ * </p>
+ */
+public final class ApiLatencies {
+    // 3 significant digits = values are exact to 0.1%; histograms resize themselves for long calls
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final ConcurrentMap<String, Tracker> trackers = new ConcurrentHashMap<>();
+
+    private ApiLatencies() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    public static void record(String endpoint, long elapsedNanos) {
+        trackers.computeIfAbsent(endpoint, key -> new Tracker())
+                .recorder.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+    }
+
+    /**
+     * @return the latency summary of every endpoint recorded so far, sorted by endpoint
+     */
+    public static Map<String, Summary> snapshot() {
+        Map<String, Summary> snapshot = new TreeMap<>();
+        trackers.forEach((endpoint, tracker) -> {
+            Summary summary = tracker.summary();
+            if (summary.getCount() > 0) {
+                snapshot.put(endpoint, summary);
+            }
+        });
+        return snapshot;
+    }
+
+    public static void reset() {
+        trackers.clear();
+    }
+
+    // Recorder for the writers plus the running total, updated from the recorder's interval histograms on read
+    private static class Tracker {
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        synchronized Summary summary() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            return new Summary(total);
+        }
+    }
+
+    /**
+     * Latency percentiles of one endpoint, in milliseconds.
+     */
+    public static final class Summary {
+        private final long count;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double p999;
+        private final double max;
+
+        Summary(Histogram histogram) {
+            this.count = histogram.getTotalCount();
+            this.p50 = millis(histogram.getValueAtPercentile(50));
+            this.p90 = millis(histogram.getValueAtPercentile(90));
+            this.p99 = millis(histogram.getValueAtPercentile(99));
+            this.p999 = millis(histogram.getValueAtPercentile(99.9));
+            this.max = millis(histogram.getMaxValue());
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP90() {
+            return p90;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getP999() {
+            return p999;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d p50=%.1fms p90=%.1fms p99=%.1fms p99.9=%.1fms max=%.1fms",
+                    count, p50, p90, p99, p999, max);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.framework.reports;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters recorded by the HTTP layer (retries, delays, ...).
+ * The listeners in {@code org.framework.listeners} publish a snapshot when the suite finishes.
+ */
+public final class ApiMetrics {
+    private static final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private ApiMetrics() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    public static void increment(String name) {
+        add(name, 1);
+    }
+
+    public static void add(String name, long delta) {
+        counters.computeIfAbsent(name, key -> new LongAdder()).add(delta);
+    }
+
+    public static long get(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * @return the current counter values sorted by name
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return snapshot;
+    }
+
+    public static void reset() {
+        counters.clear();
+    }
+}
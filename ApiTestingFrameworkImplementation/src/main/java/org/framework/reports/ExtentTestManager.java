@@ -2,6 +2,7 @@
 package org.framework.reports;
 
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
 import org.framework.reports.ExtentManager;
 
 import java.util.HashMap;
@@ -9,6 +10,8 @@ import java.util.Map;
 
 public class ExtentTestManager {
     private static Map<Integer, ExtentTest> extentTestMap = new HashMap<>();
+    // Report nodes not tied to a test thread, e.g. events raised on executor threads
+    private static Map<String, ExtentTest> suiteNodes = new HashMap<>();
 
     public static synchronized ExtentTest getTest() {
         return extentTestMap.get((int) Thread.currentThread().getId());
@@ -19,4 +22,12 @@ public class ExtentTestManager {
         extentTestMap.put((int) Thread.currentThread().getId(), test);
         return test;
     }
+
+    /**
+     * Logs to the suite-level node {@code name}, created on first use, from any thread.
+     */
+    public static synchronized void logToSuiteNode(String name, String desc, Status status, String message) {
+        suiteNodes.computeIfAbsent(name, key -> ExtentManager.getInstance().createTest(key, desc))
+                .log(status, message);
+    }
 }
@@ -0,0 +1,168 @@
+package org.framework.resilience;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Count-based circuit breaker for a single endpoint.
+ * <p>
+ * CLOSED: calls pass and their outcomes fill a sliding window of the last {@code windowSize} calls.
+ * Once at least {@code minimumCalls} are recorded and the failure rate reaches the threshold the
+ * breaker trips to OPEN. OPEN: calls are rejected until {@code openDurationMillis} has elapsed,
+ * then the breaker goes HALF_OPEN and lets {@code halfOpenCalls} probes through. All probes
+ * succeeding closes the breaker again; any probe failing re-opens it.
+ * </p>
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    @FunctionalInterface
+    public interface StateTransitionListener {
+        void onTransition(String name, State from, State to, String reason);
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+    private final List<StateTransitionListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Guarded by "this"; breakers are per endpoint so contention stays low
+    private final boolean[] outcomes;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitsIssued;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          long openDurationMillis, int halfOpenCalls) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public void addListener(StateTransitionListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return true when the call may proceed; false when the breaker is open
+     */
+    public boolean tryAcquirePermission() {
+        String transition = null;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                transition = "open for " + openDurationMillis + "ms - probing with " + halfOpenCalls + " call(s)";
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermitsIssued >= halfOpenCalls) {
+                    return false;
+                }
+                halfOpenPermitsIssued++;
+            }
+        }
+        if (transition != null) {
+            notifyListeners(State.OPEN, State.HALF_OPEN, transition);
+        }
+        return true;
+    }
+
+    public void onSuccess() {
+        State from;
+        synchronized (this) {
+            from = state;
+            if (state == State.HALF_OPEN) {
+                if (++halfOpenSuccesses < halfOpenCalls) {
+                    return;
+                }
+                transitionTo(State.CLOSED);
+            } else {
+                record(false);
+                return;
+            }
+        }
+        notifyListeners(from, State.CLOSED, halfOpenCalls + " probe(s) succeeded");
+    }
+
+    public void onFailure() {
+        State from;
+        String reason;
+        synchronized (this) {
+            from = state;
+            if (state == State.HALF_OPEN) {
+                reason = "probe failed";
+            } else if (state == State.CLOSED) {
+                record(true);
+                double failureRate = failureRate();
+                if (recordedCalls < minimumCalls || failureRate < failureRateThreshold) {
+                    return;
+                }
+                reason = String.format("failure rate %.1f%% over last %d calls", failureRate, recordedCalls);
+            } else {
+                return;
+            }
+            transitionTo(State.OPEN);
+        }
+        notifyListeners(from, State.OPEN, reason);
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            if (outcomes[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private double failureRate() {
+        return recordedCalls == 0 ? 0 : failedCalls * 100.0 / recordedCalls;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        halfOpenPermitsIssued = 0;
+        halfOpenSuccesses = 0;
+        if (newState == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        } else if (newState == State.CLOSED) {
+            windowIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+
+    private void notifyListeners(State from, State to, String reason) {
+        for (StateTransitionListener listener : listeners) {
+            listener.onTransition(name, from, to, reason);
+        }
+    }
+}
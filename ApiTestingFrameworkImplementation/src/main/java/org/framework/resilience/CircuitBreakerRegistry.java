@@ -0,0 +1,50 @@
+package org.framework.resilience;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Creates one {@link CircuitBreaker} per key (host + path template) with shared settings and listeners.
+ */
+public class CircuitBreakerRegistry {
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final List<CircuitBreaker.StateTransitionListener> listeners = new CopyOnWriteArrayList<>();
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+
+    public CircuitBreakerRegistry(int windowSize, int minimumCalls, double failureRateThreshold,
+                                  long openDurationMillis, int halfOpenCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    public CircuitBreaker get(String key) {
+        return breakers.computeIfAbsent(key, this::create);
+    }
+
+    /**
+     * Registers a listener for breakers created from now on.
+     */
+    public void addListener(CircuitBreaker.StateTransitionListener listener) {
+        listeners.add(listener);
+    }
+
+    public void reset() {
+        breakers.clear();
+    }
+
+    private CircuitBreaker create(String key) {
+        CircuitBreaker breaker = new CircuitBreaker(key, windowSize, minimumCalls, failureRateThreshold,
+                openDurationMillis, halfOpenCalls);
+        listeners.forEach(breaker::addListener);
+        return breaker;
+    }
+}
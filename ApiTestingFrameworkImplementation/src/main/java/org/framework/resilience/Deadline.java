@@ -0,0 +1,61 @@
+package org.framework.resilience;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time by which a call, including all its retries and back-off, has to be finished.
+ * Each attempt gets at most the time that is left, so the budget shrinks across attempts instead
+ * of every retry starting a fresh timeout.
+ */
+public final class Deadline {
+    private static final long NO_LIMIT = Long.MAX_VALUE;
+
+    private final long startNanos;
+    private final long timeoutMillis;
+
+    private Deadline(long timeoutMillis) {
+        this.startNanos = System.nanoTime();
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 0 or negative = no deadline
+    public static Deadline after(long timeoutMillis) {
+        return new Deadline(timeoutMillis > 0 ? timeoutMillis : NO_LIMIT);
+    }
+
+    public static Deadline none() {
+        return new Deadline(NO_LIMIT);
+    }
+
+    public boolean hasLimit() {
+        return timeoutMillis != NO_LIMIT;
+    }
+
+    public long getTimeoutMillis() {
+        return hasLimit() ? timeoutMillis : 0;
+    }
+
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    public long remainingMillis() {
+        return hasLimit() ? Math.max(0, timeoutMillis - elapsedMillis()) : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return hasLimit() && remainingMillis() == 0;
+    }
+
+    /**
+     * Shrinks a per-attempt timeout (0 = none) to the time that is left; never returns 0 for a
+     * limited deadline, so the result can be handed to a transport as is.
+     */
+    public long cap(long timeoutMillis) {
+        if (!hasLimit()) {
+            return timeoutMillis;
+        }
+        long remaining = Math.max(1, remainingMillis());
+        return timeoutMillis > 0 ? Math.min(timeoutMillis, remaining) : remaining;
+    }
+}
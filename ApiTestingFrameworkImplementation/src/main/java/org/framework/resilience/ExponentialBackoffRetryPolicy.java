@@ -0,0 +1,100 @@
+package org.framework.resilience;
+
+import io.restassured.response.Response;
+import org.framework.Utility.ApiUtil.ApiException;
+import org.framework.Utility.ApiUtil.ApiTimeoutException;
+import org.framework.config.ConfigManager;
+import org.framework.http.Timeouts;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential back-off with full jitter: the wait before retry {@code n} is drawn uniformly from
+ * {@code [0, min(maxDelay, baseDelay * 2^(n-1))]}, which spreads the retries of parallel test
+ * threads instead of hitting a degraded backend in lock-step.
+ * <p>
+ * 5xx and 429 responses and connect/read timeouts are retried. For 429 and 503 a {@code Retry-After} header (seconds or
+ * HTTP-date) takes precedence over the computed delay, capped at {@code maxRetryAfterMillis}.
+ * </p>
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long maxRetryAfterMillis;
+
+    public ExponentialBackoffRetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis,
+                                         long maxRetryAfterMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxRetryAfterMillis = maxRetryAfterMillis;
+    }
+
+    // retry.max.attempts, retry.base.delay.ms, retry.max.delay.ms and retry.after.max.ms
+    public static ExponentialBackoffRetryPolicy fromConfig() {
+        return new ExponentialBackoffRetryPolicy(
+                ConfigManager.getIntProperty("retry.max.attempts", 3),
+                ConfigManager.getLongProperty("retry.base.delay.ms", 1000),
+                ConfigManager.getLongProperty("retry.max.delay.ms", 10_000),
+                ConfigManager.getLongProperty("retry.after.max.ms", 30_000));
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public boolean isRetryable(ApiException failure) {
+        // A connect/read timeout may succeed on the next attempt; an exhausted deadline cannot
+        if (failure instanceof ApiTimeoutException) {
+            return !Timeouts.DEADLINE.equals(((ApiTimeoutException) failure).getPhase());
+        }
+        int statusCode = failure.getStatusCode();
+        return statusCode >= 500 || statusCode == TOO_MANY_REQUESTS;
+    }
+
+    @Override
+    public long backoffMillis(ApiException failure, int attempt) {
+        long retryAfter = retryAfterMillis(failure);
+        if (retryAfter >= 0) {
+            return Math.min(retryAfter, maxRetryAfterMillis);
+        }
+        // Shift is capped so large attempt numbers cannot overflow
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 30));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static long retryAfterMillis(ApiException failure) {
+        int statusCode = failure.getStatusCode();
+        Response response = failure.getResponse();
+        if (response == null || (statusCode != TOO_MANY_REQUESTS && statusCode != SERVICE_UNAVAILABLE)) {
+            return -1;
+        }
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter == null || retryAfter.isEmpty()) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(retryAfter.trim()) * 1000);
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt).toMillis());
+            } catch (DateTimeParseException notDate) {
+                return -1;
+            }
+        }
+    }
+}
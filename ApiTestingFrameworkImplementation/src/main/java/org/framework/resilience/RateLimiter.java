@@ -0,0 +1,158 @@
+package org.framework.resilience;
+
+import org.framework.execution.ApiExecutors;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket: {@code permitsPerSecond} sustained, up to {@code burst} permits at once
+ * after an idle period.
+ * <p>
+ * Instead of a token count the bucket keeps the time at which the next permit becomes free
+ * (GCRA). Taking a permit is a single CAS that moves that time forward by one interval, so
+ * {@link #reserve()} tells the caller exactly how long to wait without parking anybody; the
+ * waiting itself is done by {@link #acquire()} (sleeping) or {@link #acquireAsync(Executor)}
+ * (a delayed completion, no thread held). The variants taking a maximum wait leave the permit
+ * alone when it lies further ahead than that, so a caller with a deadline never queues past it.
+ * A rate of 0 or less means unlimited.
+ * </p>
+ */
+public class RateLimiter {
+    private final String name;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    // How far ahead of "now" the next free slot may be while still granting immediately
+    private final long toleranceNanos;
+    private final AtomicLong nextFreeNanos = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(String name, double permitsPerSecond, int burst) {
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        this.toleranceNanos = intervalNanos * (this.burst - 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public boolean isUnlimited() {
+        return intervalNanos <= 0;
+    }
+
+    /**
+     * Takes a permit only if one is available right now.
+     */
+    public boolean tryAcquire() {
+        if (isUnlimited()) {
+            return true;
+        }
+        while (true) {
+            long now = System.nanoTime();
+            long current = nextFreeNanos.get();
+            long start = Math.max(current, now);
+            if (start - now > toleranceNanos) {
+                return false;
+            }
+            if (nextFreeNanos.compareAndSet(current, start + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Takes the next permit, which may lie in the future.
+     *
+     * @return nanoseconds the caller has to wait before using the permit (0 = use it now)
+     */
+    public long reserve() {
+        return reserve(Long.MAX_VALUE);
+    }
+
+    /**
+     * Takes the next permit unless the caller would have to wait longer than {@code maxWaitNanos}
+     * for it; in that case nothing is taken.
+     *
+     * @return nanoseconds the caller has to wait before using the permit, or -1 when it is not free in time
+     */
+    public long reserve(long maxWaitNanos) {
+        if (isUnlimited()) {
+            return 0;
+        }
+        while (true) {
+            long now = System.nanoTime();
+            long current = nextFreeNanos.get();
+            long start = Math.max(current, now);
+            long waitNanos = Math.max(0, start - now - toleranceNanos);
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+            if (nextFreeNanos.compareAndSet(current, start + intervalNanos)) {
+                return waitNanos;
+            }
+        }
+    }
+
+    /**
+     * Blocks until a permit is available.
+     *
+     * @return nanoseconds spent waiting
+     * @throws IllegalStateException when interrupted while waiting; the interrupt flag is set again
+     */
+    public long acquire() {
+        return acquire(Long.MAX_VALUE);
+    }
+
+    /**
+     * Blocks until a permit is available, unless that is more than {@code maxWaitNanos} away.
+     *
+     * @return nanoseconds spent waiting, or -1 without waiting when no permit is free in time
+     * @throws IllegalStateException when interrupted while waiting; the interrupt flag is set again
+     */
+    public long acquire(long maxWaitNanos) {
+        long waitNanos = reserve(maxWaitNanos);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                // Going ahead without the wait would break the limit, and the caller asked to stop anyway
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a rate limit permit for " + name, e);
+            }
+        }
+        return waitNanos;
+    }
+
+    /**
+     * Reserves a permit and completes (on {@code executor}) once it may be used. No thread is
+     * blocked while waiting; the future's value is the wait in nanoseconds.
+     */
+    public CompletableFuture<Long> acquireAsync(Executor executor) {
+        return acquireAsync(executor, Long.MAX_VALUE);
+    }
+
+    /**
+     * Like {@link #acquireAsync(Executor)}, but completes at once with -1 when no permit is free
+     * within {@code maxWaitNanos}.
+     */
+    public CompletableFuture<Long> acquireAsync(Executor executor, long maxWaitNanos) {
+        long waitNanos = reserve(maxWaitNanos);
+        if (waitNanos <= 0) {
+            return CompletableFuture.completedFuture(waitNanos);
+        }
+        return ApiExecutors.delay(waitNanos, TimeUnit.NANOSECONDS, executor).thenApply(ignored -> waitNanos);
+    }
+}
@@ -0,0 +1,42 @@
+package org.framework.resilience;
+
+import org.framework.config.ConfigManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One {@link RateLimiter} per host. Hosts use the default rate and burst unless
+ * {@code ratelimit.<host>.permits.per.second} / {@code ratelimit.<host>.burst} are configured
+ * or {@link #configure} was called for them.
+ */
+public class RateLimiterRegistry {
+    private final ConcurrentMap<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+    private final double defaultPermitsPerSecond;
+    private final int defaultBurst;
+
+    public RateLimiterRegistry(double defaultPermitsPerSecond, int defaultBurst) {
+        this.defaultPermitsPerSecond = defaultPermitsPerSecond;
+        this.defaultBurst = defaultBurst;
+    }
+
+    public RateLimiter get(String host) {
+        return limiters.computeIfAbsent(host, this::create);
+    }
+
+    // permitsPerSecond <= 0 removes the limit for the host
+    public void configure(String host, double permitsPerSecond, int burst) {
+        limiters.put(host, new RateLimiter(host, permitsPerSecond, burst));
+    }
+
+    public void reset() {
+        limiters.clear();
+    }
+
+    private RateLimiter create(String host) {
+        double permitsPerSecond = Double.parseDouble(ConfigManager.getProperty(
+                "ratelimit." + host + ".permits.per.second", String.valueOf(defaultPermitsPerSecond)));
+        int burst = ConfigManager.getIntProperty("ratelimit." + host + ".burst", defaultBurst);
+        return new RateLimiter(host, permitsPerSecond, burst);
+    }
+}
@@ -0,0 +1,240 @@
+package org.framework.resilience;
+
+import org.framework.execution.ApiExecutors;
+import org.framework.reports.ApiMetrics;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Hedged requests for idempotent calls: if the first call has not answered after the hedge delay,
+ * an identical second call is sent and whichever succeeds first wins.
+ * <p>
+ * The delay is either fixed or the observed percentile (e.g. p95) of recent latencies for the same
+ * key, so only the slow tail gets hedged. Hedges draw from a {@link RetryBudget}, which caps them at
+ * a fraction of all calls. The losing call is not aborted (RestAssured calls cannot be cancelled);
+ * its result is simply dropped.
+ * </p>
+ * Publishes {@code hedge.calls}, {@code hedge.sent}, {@code hedge.won}, {@code hedge.primary.won}
+ * and {@code hedge.budget.exhausted}; hedge rate = sent / calls.
+ */
+public class RequestHedger {
+    public static final String METRIC_CALLS = "hedge.calls";
+    public static final String METRIC_SENT = "hedge.sent";
+    public static final String METRIC_HEDGE_WON = "hedge.won";
+    public static final String METRIC_PRIMARY_WON = "hedge.primary.won";
+    public static final String METRIC_BUDGET_EXHAUSTED = "hedge.budget.exhausted";
+
+    private final long fixedDelayMillis;
+    private final double percentile;
+    private final int minSamples;
+    private final int windowSize;
+    private final RetryBudget budget;
+    private final Executor executor;
+    private final ConcurrentMap<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * @param fixedDelayMillis hedge after this many ms; 0 to use the observed {@code percentile} instead
+     * @param minSamples       latencies needed per key before percentile-based hedging starts
+     * @param windowSize       number of recent latencies kept per key
+     */
+    public RequestHedger(long fixedDelayMillis, double percentile, int minSamples, int windowSize,
+                         RetryBudget budget, Executor executor) {
+        this.fixedDelayMillis = fixedDelayMillis;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.windowSize = windowSize;
+        this.budget = budget;
+        this.executor = executor;
+    }
+
+    /**
+     * Runs {@code call}, hedging it once if it is slow, {@code hedgeAllowed} (e.g. a rate limiter's
+     * tryAcquire) agrees and the budget allows. Only a normal return counts as success, so a call
+     * that gets an error response must throw, or a fast error would beat a slower success.
+     * Exceptions are rethrown as thrown by the call.
+     */
+    public <T> T execute(String key, Supplier<T> call, BooleanSupplier hedgeAllowed) {
+        LatencyWindow window = latencies.computeIfAbsent(key, k -> new LatencyWindow(windowSize));
+        long delayMillis = hedgeDelayMillis(window);
+        budget.recordRequest();
+        if (delayMillis < 0) {
+            return timed(window, call).get();
+        }
+        ApiMetrics.increment(METRIC_CALLS);
+
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(timed(window, call), executor);
+        try {
+            return primary.get(delayMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // slow - fall through and hedge
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + key, e);
+        }
+
+        // Checked first: a hedge the caller refuses must not spend budget
+        if (!hedgeAllowed.getAsBoolean()) {
+            return join(primary);
+        }
+        if (!budget.tryAcquireRetry()) {
+            ApiMetrics.increment(METRIC_BUDGET_EXHAUSTED);
+            return join(primary);
+        }
+        ApiMetrics.increment(METRIC_SENT);
+        CompletableFuture<T> hedge = CompletableFuture.supplyAsync(timed(window, call), executor);
+        return join(firstSuccess(primary, hedge));
+    }
+
+    /**
+     * Non-blocking {@link #execute}: {@code call} starts a request and returns its future. The hedge
+     * decision is taken on a timer after the hedge delay, no thread waits for the primary.
+     */
+    public <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> call,
+                                                 BooleanSupplier hedgeAllowed) {
+        LatencyWindow window = latencies.computeIfAbsent(key, k -> new LatencyWindow(windowSize));
+        long delayMillis = hedgeDelayMillis(window);
+        budget.recordRequest();
+        if (delayMillis < 0) {
+            return timedAsync(window, call);
+        }
+        ApiMetrics.increment(METRIC_CALLS);
+
+        CompletableFuture<T> primary = timedAsync(window, call);
+        CompletableFuture<Void> delay = ApiExecutors.delay(delayMillis, TimeUnit.MILLISECONDS, executor);
+        return CompletableFuture.anyOf(primary, delay)
+                .handle((ignored, error) -> null)
+                .thenCompose(ignored -> {
+                    if (primary.isDone()) {
+                        return primary;
+                    }
+                    if (!hedgeAllowed.getAsBoolean()) {
+                        return primary;
+                    }
+                    if (!budget.tryAcquireRetry()) {
+                        ApiMetrics.increment(METRIC_BUDGET_EXHAUSTED);
+                        return primary;
+                    }
+                    ApiMetrics.increment(METRIC_SENT);
+                    return firstSuccess(primary, timedAsync(window, call));
+                });
+    }
+
+    // -1 = do not hedge (not enough samples yet)
+    private long hedgeDelayMillis(LatencyWindow window) {
+        if (fixedDelayMillis > 0) {
+            return fixedDelayMillis;
+        }
+        return window.size() >= minSamples ? Math.max(1, window.percentileMillis(percentile)) : -1;
+    }
+
+    private static <T> Supplier<T> timed(LatencyWindow window, Supplier<T> call) {
+        return () -> {
+            long start = System.nanoTime();
+            T result = call.get();
+            window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return result;
+        };
+    }
+
+    private static <T> CompletableFuture<T> timedAsync(LatencyWindow window, Supplier<CompletableFuture<T>> call) {
+        long start = System.nanoTime();
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((value, error) -> {
+            if (error == null) {
+                window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+    }
+
+    // Completes with the first successful result, or with the primary's error if both fail
+    private static <T> CompletableFuture<T> firstSuccess(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> {
+            if (error == null) {
+                if (winner.complete(result)) {
+                    ApiMetrics.increment(METRIC_PRIMARY_WON);
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+        hedge.whenComplete((result, error) -> {
+            if (error == null) {
+                if (winner.complete(result)) {
+                    ApiMetrics.increment(METRIC_HEDGE_WON);
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                primary.whenComplete((ignored, primaryError) -> winner.completeExceptionally(primaryError));
+            }
+        });
+        return winner;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof RuntimeException) {
+            return (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return new CompletionException(error);
+    }
+
+    // Ring buffer of the most recent latencies; a sort of a few hundred longs per hedge decision is cheap
+    private static class LatencyWindow {
+        private final long[] samples;
+        private int count;
+        private int next;
+
+        LatencyWindow(int size) {
+            this.samples = new long[Math.max(1, size)];
+        }
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        synchronized long percentileMillis(double percentile) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * count);
+            return sorted[Math.max(0, Math.min(count, rank) - 1)];
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.framework.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that caps retries as a fraction of first attempts across all threads.
+ * <p>
+ * Every first attempt deposits {@code ratio} tokens and every retry withdraws one, so with a ratio
+ * of 0.2 at most one retry is sent for every five requests once the initial reserve of
+ * {@code minTokens} is spent. When a backend is down for everyone, retries dry up quickly instead
+ * of multiplying the load. Tokens are tracked in thousandths to keep the bucket lock-free.
+ * </p>
+ */
+public class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int minTokens, int maxTokens) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = Math.max(minTokens, maxTokens) * SCALE;
+        this.balance = new AtomicLong(minTokens * SCALE);
+    }
+
+    public void recordRequest() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBalance, current + deposit));
+    }
+
+    public boolean tryAcquireRetry() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double availableRetries() {
+        return (double) balance.get() / SCALE;
+    }
+}
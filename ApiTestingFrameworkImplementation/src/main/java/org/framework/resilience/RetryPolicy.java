@@ -0,0 +1,24 @@
+package org.framework.resilience;
+
+import org.framework.Utility.ApiUtil.ApiException;
+
+/**
+ * Decides whether a failed API attempt is retried and how long to wait before the next one.
+ * Plugged into {@code ApiUtil.setRetryPolicy(RetryPolicy)}.
+ */
+public interface RetryPolicy {
+
+    /**
+     * Total number of attempts, including the first one.
+     */
+    int getMaxAttempts();
+
+    boolean isRetryable(ApiException failure);
+
+    /**
+     * @param failure the failure of the attempt that just finished
+     * @param attempt 1-based number of that attempt
+     * @return milliseconds to wait before the next attempt
+     */
+    long backoffMillis(ApiException failure, int attempt);
+}
@@ -0,0 +1,35 @@
+package org.framework.routes;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface of route declarations ({@link Get}, {@link Post}, {@link Put}, {@link Delete})
+ * for which {@code RouteClientProcessor} generates a typed client at compile time.
+ * <pre>
+ * &#64;ApiRoutes(baseUri = "https://petstore.swagger.io/v2")
+ * public interface PetApi {
+ *     &#64;Get("/pet/{petId}")
+ *     Response findPetById(&#64;PathParam("petId") long petId);
+ * }
+ *
+ * Response pet = new PetApiClient(client).findPetById(1);
+ * </pre>
+ * The generated class is named after the interface with a {@code Client} suffix unless
+ * {@link #clientName()} is set.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface ApiRoutes {
+    // Used when the RestClient handed to the generated client has no base URI of its own
+    String baseUri() default "";
+
+    String clientName() default "";
+
+    // Defaults for every route of the interface; a route can override them
+    String contentType() default "application/json";
+
+    String accept() default "application/json";
+}
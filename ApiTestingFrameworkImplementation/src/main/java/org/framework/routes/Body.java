@@ -0,0 +1,15 @@
+package org.framework.routes;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sends a method parameter as the request body: strings and byte arrays as they are, other objects
+ * serialized by RestAssured (Jackson). At most one per route.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Body {
+}
@@ -0,0 +1,21 @@
+package org.framework.routes;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * GET route. The path is relative to the client's base URI and may contain {@code {name}}
+ * placeholders, each bound by a {@link PathParam}. Empty content type / accept use the
+ * {@link ApiRoutes} defaults.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Get {
+    String value();
+
+    String contentType() default "";
+
+    String accept() default "";
+}
@@ -0,0 +1,19 @@
+package org.framework.routes;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * POST route; path placeholders and defaults work as for {@link Get}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Post {
+    String value();
+
+    String contentType() default "";
+
+    String accept() default "";
+}
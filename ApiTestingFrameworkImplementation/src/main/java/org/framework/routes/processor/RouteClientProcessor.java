@@ -0,0 +1,334 @@
+package org.framework.routes.processor;
+
+import org.framework.routes.ApiRoutes;
+import org.framework.routes.Body;
+import org.framework.routes.Delete;
+import org.framework.routes.Get;
+import org.framework.routes.HeaderParam;
+import org.framework.routes.PathParam;
+import org.framework.routes.Post;
+import org.framework.routes.Put;
+import org.framework.routes.QueryParam;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a typed client for every {@link ApiRoutes} interface.
+ * <p>
+ * All the work happens at build time: each path template is split into literal parts and
+ * placeholders (and checked against the {@link PathParam}s), and content type and accept are
+ * resolved into one request template per route, built once per client instance. A generated call
+ * copies its template, appends the literal parts and the encoded path values into a pre-sized
+ * builder and sends the request; there is no reflection and no template parsing at run time.
+ * </p>
+ * Only depends on the JDK and the annotations, so it can be compiled in a first pass with
+ * annotation processing turned off (see the maven-compiler-plugin executions in pom.xml).
+ */
+@SupportedAnnotationTypes("org.framework.routes.ApiRoutes")
+public class RouteClientProcessor extends AbstractProcessor {
+    private static final String RESPONSE = "io.restassured.response.Response";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(ApiRoutes.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@ApiRoutes can only be used on interfaces");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            List<RouteMethod> routes = new ArrayList<>();
+            // Overloads share a name, so their template fields are numbered: find, find2, ...
+            Map<String, Integer> overloads = new HashMap<>();
+            boolean valid = true;
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (method.getModifiers().contains(Modifier.DEFAULT) || method.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                RouteMethod route = parse(type.getAnnotation(ApiRoutes.class), method);
+                if (route == null) {
+                    valid = false;
+                } else {
+                    String name = method.getSimpleName().toString();
+                    int overload = overloads.merge(name, 1, Integer::sum);
+                    route.templateField = name + "Template" + (overload > 1 ? String.valueOf(overload) : "");
+                    routes.add(route);
+                }
+            }
+            if (valid) {
+                write(type, routes);
+            }
+        }
+        return true;
+    }
+
+    private RouteMethod parse(ApiRoutes api, ExecutableElement method) {
+        List<String[]> verbs = new ArrayList<>();
+        Get get = method.getAnnotation(Get.class);
+        if (get != null) {
+            verbs.add(new String[]{"get", get.value(), get.contentType(), get.accept()});
+        }
+        Post post = method.getAnnotation(Post.class);
+        if (post != null) {
+            verbs.add(new String[]{"post", post.value(), post.contentType(), post.accept()});
+        }
+        Put put = method.getAnnotation(Put.class);
+        if (put != null) {
+            verbs.add(new String[]{"put", put.value(), put.contentType(), put.accept()});
+        }
+        Delete delete = method.getAnnotation(Delete.class);
+        if (delete != null) {
+            verbs.add(new String[]{"delete", delete.value(), delete.contentType(), delete.accept()});
+        }
+        if (verbs.size() != 1) {
+            error(method, "Route methods need exactly one of @Get, @Post, @Put or @Delete");
+            return null;
+        }
+        if (!RESPONSE.equals(method.getReturnType().toString())) {
+            error(method, "Route methods must return " + RESPONSE);
+            return null;
+        }
+        String[] verb = verbs.get(0);
+        RouteMethod route = new RouteMethod(method, verb[0], verb[1],
+                verb[2].isEmpty() ? api.contentType() : verb[2],
+                verb[3].isEmpty() ? api.accept() : verb[3]);
+        if (!parsePath(route)) {
+            return null;
+        }
+        return parseParameters(route) ? route : null;
+    }
+
+    // "/pet/{petId}/uploadImage" -> literals ["/pet/", "/uploadImage"] around placeholder "petId"
+    private boolean parsePath(RouteMethod route) {
+        String path = route.path;
+        int position = 0;
+        while (true) {
+            int open = path.indexOf('{', position);
+            if (open < 0) {
+                route.literals.add(path.substring(position));
+                return true;
+            }
+            int close = path.indexOf('}', open);
+            if (close < 0 || close == open + 1) {
+                error(route.method, "Malformed path template: " + path);
+                return false;
+            }
+            route.literals.add(path.substring(position, open));
+            route.placeholders.add(path.substring(open + 1, close));
+            position = close + 1;
+        }
+    }
+
+    private boolean parseParameters(RouteMethod route) {
+        Set<String> bound = new LinkedHashSet<>();
+        boolean valid = true;
+        for (VariableElement parameter : route.method.getParameters()) {
+            PathParam path = parameter.getAnnotation(PathParam.class);
+            QueryParam query = parameter.getAnnotation(QueryParam.class);
+            HeaderParam header = parameter.getAnnotation(HeaderParam.class);
+            Body body = parameter.getAnnotation(Body.class);
+            int count = (path != null ? 1 : 0) + (query != null ? 1 : 0) + (header != null ? 1 : 0) + (body != null ? 1 : 0);
+            if (count != 1) {
+                error(parameter, "Route parameters need exactly one of @PathParam, @QueryParam, @HeaderParam or @Body");
+                valid = false;
+                continue;
+            }
+            String name = parameter.getSimpleName().toString();
+            boolean primitive = parameter.asType().getKind().isPrimitive();
+            if (path != null) {
+                if (!route.placeholders.contains(path.value())) {
+                    error(parameter, "No {" + path.value() + "} in path " + route.path);
+                    valid = false;
+                }
+                if (!bound.add(path.value())) {
+                    error(parameter, "{" + path.value() + "} is bound twice");
+                    valid = false;
+                }
+                route.pathArguments.put(path.value(), name);
+            } else if (query != null) {
+                route.statements.add(nullGuarded(name, primitive, isIterable(parameter.asType())
+                        ? "request.queryParam(\"" + escape(query.value()) + "\", RouteSupport.encodeQueryValues(" + name + "));"
+                        : "request.queryParam(\"" + escape(query.value()) + "\", RouteSupport.encodeQueryValue(" + name + "));"));
+            } else if (header != null) {
+                route.statements.add(nullGuarded(name, primitive,
+                        "request.header(\"" + escape(header.value()) + "\", String.valueOf(" + name + "));"));
+            } else {
+                if (route.hasBody) {
+                    error(parameter, "Only one @Body parameter is allowed");
+                    valid = false;
+                }
+                route.hasBody = true;
+                route.statements.add(nullGuarded(name, primitive, "request.body(" + name + ");"));
+            }
+        }
+        for (String placeholder : route.placeholders) {
+            if (!bound.contains(placeholder)) {
+                error(route.method, "{" + placeholder + "} in " + route.path + " has no @PathParam");
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private boolean isIterable(TypeMirror type) {
+        TypeMirror iterable = processingEnv.getTypeUtils().erasure(
+                processingEnv.getElementUtils().getTypeElement("java.lang.Iterable").asType());
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type), iterable);
+    }
+
+    private static String nullGuarded(String name, boolean primitive, String statement) {
+        return primitive ? statement : "if (" + name + " != null) {\n            " + statement + "\n        }";
+    }
+
+    private void write(TypeElement type, List<RouteMethod> routes) {
+        ApiRoutes api = type.getAnnotation(ApiRoutes.class);
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String clientName = api.clientName().isEmpty() ? type.getSimpleName() + "Client" : api.clientName();
+        String interfaceName = type.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder(4096);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import io.restassured.response.Response;\n")
+                .append("import io.restassured.specification.RequestSpecification;\n")
+                .append("import org.framework.http.RestClient;\n")
+                .append("import org.framework.http.RouteSupport;\n\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("/**\n * Typed client for {@link ").append(interfaceName)
+                .append("}, generated from its route annotations. Thread-safe.\n */\n")
+                .append("@Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(clientName).append(" implements ").append(interfaceName).append(" {\n");
+        if (!api.baseUri().isEmpty()) {
+            source.append("    public static final String BASE_URI = \"").append(escape(api.baseUri())).append("\";\n\n");
+        }
+        source.append("    private final RestClient client;\n");
+        for (RouteMethod route : routes) {
+            source.append("    private final RequestSpecification ").append(route.templateField).append(";\n");
+        }
+
+        source.append("\n    public ").append(clientName).append("() {\n        this(RestClient.builder().build());\n    }\n\n")
+                .append("    public ").append(clientName).append("(RestClient client) {\n");
+        if (api.baseUri().isEmpty()) {
+            source.append("        this.client = client;\n");
+        } else {
+            source.append("        this.client = client.getBaseUri() != null ? client : client.toBuilder().baseUri(BASE_URI).build();\n");
+        }
+        for (RouteMethod route : routes) {
+            source.append("        this.").append(route.templateField).append(" = RouteSupport.template(this.client, \"")
+                    .append(escape(route.path)).append("\", ").append(literalOrNull(route.contentType)).append(", ")
+                    .append(literalOrNull(route.accept)).append(");\n");
+        }
+        source.append("    }\n");
+
+        for (RouteMethod route : routes) {
+            source.append("\n    @Override\n    public Response ").append(route.method.getSimpleName()).append("(");
+            List<? extends VariableElement> parameters = route.method.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                VariableElement parameter = parameters.get(i);
+                source.append(i > 0 ? ", " : "").append("final ").append(parameter.asType()).append(' ')
+                        .append(parameter.getSimpleName());
+            }
+            source.append(") {\n        RequestSpecification request = client.given(").append(route.templateField).append(");\n");
+            for (String statement : route.statements) {
+                source.append("        ").append(statement).append('\n');
+            }
+            source.append("        return request.").append(route.verb).append('(').append(route.pathExpression()).append(");\n    }\n");
+        }
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? clientName : packageName + "." + clientName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(type, "Unable to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private static String literalOrNull(String value) {
+        return value.isEmpty() ? "null" : "\"" + escape(value) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class RouteMethod {
+        final ExecutableElement method;
+        final String verb;
+        final String path;
+        final String contentType;
+        final String accept;
+        // literals.size() == placeholders.size() + 1
+        final List<String> literals = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+        final Map<String, String> pathArguments = new HashMap<>();
+        final List<String> statements = new ArrayList<>();
+        boolean hasBody;
+        // Unique per generated client, overloads included
+        String templateField;
+
+        RouteMethod(ExecutableElement method, String verb, String path, String contentType, String accept) {
+            this.method = method;
+            this.verb = verb;
+            this.path = path;
+            this.contentType = contentType;
+            this.accept = accept;
+        }
+
+        // A string constant when the path has no placeholders, otherwise one pre-sized builder chain
+        String pathExpression() {
+            if (placeholders.isEmpty()) {
+                return "\"" + escape(path) + "\"";
+            }
+            int capacity = 0;
+            for (String literal : literals) {
+                capacity += literal.length();
+            }
+            StringBuilder expression = new StringBuilder("new StringBuilder(")
+                    .append(capacity + 16 * placeholders.size()).append(')');
+            for (int i = 0; i < placeholders.size(); i++) {
+                if (!literals.get(i).isEmpty()) {
+                    expression.append(".append(\"").append(escape(literals.get(i))).append("\")");
+                }
+                expression.append(".append(RouteSupport.encodePathSegment(")
+                        .append(pathArguments.get(placeholders.get(i))).append("))");
+            }
+            String last = literals.get(literals.size() - 1);
+            if (!last.isEmpty()) {
+                expression.append(".append(\"").append(escape(last)).append("\")");
+            }
+            return expression.append(".toString()").toString();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.framework.Services;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import org.framework.http.RestClient;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class AccountTest {
+    private WireMockServer server;
+    private Account account;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        server.stubFor(get(anyUrl()).willReturn(aResponse().withStatus(200).withBody("{}")));
+        server.stubFor(delete(anyUrl()).willReturn(aResponse().withStatus(204)));
+        account = new Account(RestClient.builder().baseUri(server.baseUrl()).build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void sharedInstanceSendsEachDeleteOnlyItsOwnToken() throws Exception {
+        account.deleteUser("/Account/v1/User/user-a", "token-a");
+        account.deleteUser("/Account/v1/User/user-b", "token-b");
+        // A call without a token must not pick one up from the calls before it
+        account.GetAccountDetails("/Account/v1/User/user-c");
+
+        List<LoggedRequest> deletes = server.findAll(deleteRequestedFor(urlPathMatching("/Account/v1/User/.*")));
+        Assert.assertEquals(deletes.size(), 2);
+        for (LoggedRequest request : deletes) {
+            String user = request.getUrl().substring(request.getUrl().lastIndexOf('-') + 1);
+            Assert.assertEquals(request.getHeaders().getHeader("Authorization").values(), List.of("Bearer token-" + user));
+            Assert.assertEquals(request.getHeaders().getHeader("Accept").values(), List.of("application/json"));
+        }
+        LoggedRequest details = server.findAll(getRequestedFor(urlPathMatching("/Account/v1/User/user-c"))).get(0);
+        Assert.assertFalse(details.containsHeader("Authorization"), details.getHeaders().toString());
+        Assert.assertEquals(details.getHeaders().getHeader("Accept").values(), List.of("application/json"));
+    }
+}
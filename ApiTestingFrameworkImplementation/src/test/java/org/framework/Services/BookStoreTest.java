@@ -0,0 +1,173 @@
+package org.framework.Services;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import io.restassured.response.Response;
+import org.framework.execution.ApiExecutors;
+import org.framework.execution.BatchOptions;
+import org.framework.execution.BatchResult;
+import org.framework.http.RestClient;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class BookStoreTest {
+    private static final String BOOK = "/BookStore/v1/Book";
+    private static final String BOOKS = "/BookStore/v1/Books";
+
+    private WireMockServer server;
+    private BookStore bookStore;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        bookStore = new BookStore(RestClient.builder().baseUri(server.baseUrl()).build());
+    }
+
+    @BeforeMethod
+    public void resetServer() {
+        server.resetAll();
+        server.stubFor(get(urlPathEqualTo(BOOK)).willReturn(aResponse().withStatus(404)));
+        for (String isbn : Arrays.asList("111", "222")) {
+            server.stubFor(get(urlEqualTo(BOOK + "?ISBN=" + isbn)).willReturn(aResponse().withStatus(200)
+                    .withHeader("Content-Type", "application/json").withBody("{\"isbn\":\"" + isbn + "\"}")));
+        }
+        server.stubFor(put(anyUrl()).willReturn(aResponse().withStatus(200)));
+        server.stubFor(delete(urlEqualTo(BOOK)).willReturn(aResponse().withStatus(204)));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void getBooksKeysEveryResultByItsIsbn() {
+        BatchResult<String> result = bookStore.getBooks(BOOK, "token-1", Arrays.asList("111", "222", "333"),
+                BatchOptions.defaults().withConcurrency(2));
+
+        Assert.assertEquals(keys(result), Arrays.asList("111", "222", "333"));
+        for (BatchResult.ItemResult<String> item : result.getItems().subList(0, 2)) {
+            Assert.assertTrue(item.isSuccess(), item.toString());
+            Assert.assertEquals(item.getResponse().jsonPath().getString("isbn"), item.getKey());
+        }
+        Assert.assertEquals(result.getItems().get(2).getResponse().getStatusCode(), 404);
+        Assert.assertEquals(result.getFailureCount(), 1);
+
+        List<LoggedRequest> requests = server.findAll(getRequestedFor(urlPathEqualTo(BOOK)));
+        Assert.assertEquals(requests.size(), 3);
+        for (LoggedRequest request : requests) {
+            // Every call is copied from the one token template: the header is there once, never stacked
+            Assert.assertEquals(request.getHeaders().getHeader("Authorization").values(),
+                    List.of("Bearer token-1"));
+            Assert.assertEquals(request.queryParameter("ISBN").values().size(), 1);
+        }
+    }
+
+    @Test
+    public void updateIsbnsExpandsTheIsbnOfEachItemIntoThePath() {
+        Map<String, String> payloads = new LinkedHashMap<>();
+        payloads.put("111", "{\"isbn\":\"aaa\"}");
+        payloads.put("222", "{\"isbn\":\"bbb\"}");
+
+        BatchResult<String> result = bookStore.updateISBNs(BOOKS, "token-2", payloads);
+
+        Assert.assertEquals(keys(result), Arrays.asList("111", "222"));
+        Assert.assertEquals(result.getSuccessCount(), 2);
+        server.verify(1, putRequestedFor(urlEqualTo(BOOKS + "/111"))
+                .withHeader("Authorization", equalTo("Bearer token-2"))
+                .withRequestBody(equalToJson("{\"isbn\":\"aaa\"}")));
+        server.verify(1, putRequestedFor(urlEqualTo(BOOKS + "/222"))
+                .withHeader("Authorization", equalTo("Bearer token-2"))
+                .withRequestBody(equalToJson("{\"isbn\":\"bbb\"}")));
+    }
+
+    @Test
+    public void deleteBooksByIsbnSendsOneBodyPerIsbn() {
+        BatchResult<String> result = bookStore.deleteBooksByIsbn(BOOK, "token-3", "user-1",
+                Arrays.asList("111", "222"));
+
+        Assert.assertEquals(keys(result), Arrays.asList("111", "222"));
+        Assert.assertEquals(result.getSuccessCount(), 2);
+        for (String isbn : Arrays.asList("111", "222")) {
+            server.verify(1, deleteRequestedFor(urlEqualTo(BOOK))
+                    .withHeader("Authorization", equalTo("Bearer token-3"))
+                    .withRequestBody(equalToJson("{\"isbn\":\"" + isbn + "\",\"userId\":\"user-1\"}")));
+        }
+    }
+
+    @Test
+    public void sharedInstanceSendsEachCallOnlyItsOwnTokenAndIsbn() throws Exception {
+        Assert.assertEquals(bookStore.getBook(BOOK, "token-a", "111").getStatusCode(), 200);
+        Assert.assertEquals(bookStore.getBook(BOOK, "token-b", "222").getStatusCode(), 200);
+        // And the same from many threads at once
+        List<CompletableFuture<Response>> calls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int call = i;
+            calls.add(CompletableFuture.supplyAsync(() -> getBook("token-" + call, "isbn-" + call),
+                    ApiExecutors.executor()));
+        }
+        for (CompletableFuture<Response> call : calls) {
+            call.get(10, TimeUnit.SECONDS);
+        }
+
+        List<LoggedRequest> requests = server.findAll(getRequestedFor(urlPathEqualTo(BOOK)));
+        Assert.assertEquals(requests.size(), 22);
+        for (LoggedRequest request : requests) {
+            List<String> authorization = request.getHeaders().getHeader("Authorization").values();
+            List<String> isbn = request.queryParameter("ISBN").values();
+            Assert.assertEquals(authorization.size(), 1, request.getUrl() + " " + authorization);
+            Assert.assertEquals(isbn.size(), 1, request.getUrl());
+            Assert.assertEquals(authorization.get(0), expectedToken(isbn.get(0)), request.getUrl());
+        }
+    }
+
+    private Response getBook(String token, String isbn) {
+        try {
+            return bookStore.getBook(BOOK, token, isbn);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String expectedToken(String isbn) {
+        switch (isbn) {
+            case "111":
+                return "Bearer token-a";
+            case "222":
+                return "Bearer token-b";
+            default:
+                return "Bearer token-" + isbn.substring("isbn-".length());
+        }
+    }
+
+    private static List<String> keys(BatchResult<String> result) {
+        return result.getItems().stream().map(BatchResult.ItemResult::getKey).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,97 @@
+package org.framework.Services.PetstoreService;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.framework.Utility.ApiUtil;
+import org.framework.http.RestClient;
+import org.framework.resilience.ExponentialBackoffRetryPolicy;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class BulkImageUploaderTest {
+    private WireMockServer server;
+    private Path directory;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+    }
+
+    @BeforeMethod
+    public void prepare() throws IOException {
+        server.resetAll();
+        ApiUtil.resetCircuitBreakers();
+        directory = Files.createTempDirectory("pet-images");
+        Files.write(directory.resolve("1.jpg"), new byte[]{1, 2, 3});
+        Files.write(directory.resolve("2_front.png"), new byte[]{4, 5});
+        Files.write(directory.resolve("notes.txt"), new byte[]{6});
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void retriesThroughTheClientPolicyAndCheckpointsSuccesses() {
+        server.stubFor(post(urlEqualTo("/pet/1/uploadImage")).inScenario("flaky")
+                .whenScenarioStateIs(Scenario.STARTED).willSetStateTo("recovered")
+                .willReturn(aResponse().withStatus(503)));
+        server.stubFor(post(urlEqualTo("/pet/1/uploadImage")).inScenario("flaky")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("{}")));
+        server.stubFor(post(urlEqualTo("/pet/2/uploadImage"))
+                .willReturn(aResponse().withStatus(400).withHeader("Content-Type", "application/json").withBody("{}")));
+        Path checkpoint = directory.resolve("upload.checkpoint");
+
+        BulkImageUploader.Report report = uploader(checkpoint).uploadDirectory(directory);
+
+        Assert.assertEquals(report.getUploadedCount(), 1);
+        Assert.assertEquals(report.getFailedCount(), 1);
+        Assert.assertEquals(report.getFailedUploads().get(0).getPetId(), 2);
+        Assert.assertEquals(report.getBytesUploaded(), 3);
+        server.verify(2, postRequestedFor(urlEqualTo("/pet/1/uploadImage")));
+        server.verify(1, postRequestedFor(urlEqualTo("/pet/2/uploadImage")));
+
+        BulkImageUploader.Report rerun = uploader(checkpoint).uploadDirectory(directory);
+
+        Assert.assertEquals(rerun.getSkippedCount(), 1, "Pet 1 is in the checkpoint");
+        server.verify(2, postRequestedFor(urlEqualTo("/pet/1/uploadImage")));
+    }
+
+    private BulkImageUploader uploader(Path checkpoint) {
+        return BulkImageUploader.builder()
+                .client(RestClient.builder().baseUri(server.baseUrl()).build())
+                .endpoint("/pet/{petId}/uploadImage")
+                .retryPolicy(new ExponentialBackoffRetryPolicy(3, 0, 0, 10_000))
+                .concurrency(2)
+                .checkpointFile(checkpoint)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package org.framework.Services.PetstoreService;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * BulkUserPipeline against a stubbed {@link User}, no HTTP involved.
+ */
+public class BulkUserPipelineTest {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void usersAreSplitIntoChunksOfChunkSize() {
+        RecordingUser user = new RecordingUser(id -> false);
+
+        BulkUserPipeline.Report report = pipeline(user, 4, 1).generate(10, BulkUserPipelineTest::user);
+
+        Assert.assertEquals(user.chunkSizes(), List.of(4, 4, 2));
+        Assert.assertEquals(user.firstIds(), List.of(0, 4, 8));
+        Assert.assertEquals(report.getUsersRead(), 10);
+        Assert.assertEquals(report.getUsersCreated(), 10);
+        Assert.assertEquals(report.getChunkCount(), 3);
+        Assert.assertTrue(report.isComplete());
+    }
+
+    @Test
+    public void rejectedChunksAreReportedWithTheirPosition() {
+        // The chunk holding user 5 fails: chunk 1, users 3 to 5
+        RecordingUser user = new RecordingUser(firstId -> firstId == 3);
+
+        BulkUserPipeline.Report report = pipeline(user, 3, 2).generate(8, BulkUserPipelineTest::user);
+
+        Assert.assertEquals(report.getUsersCreated(), 5);
+        Assert.assertEquals(report.getFailedChunks().size(), 1);
+        BulkUserPipeline.FailedChunk failed = report.getFailedChunks().get(0);
+        Assert.assertEquals(failed.getIndex(), 1);
+        Assert.assertEquals(failed.getFirstUser(), 3);
+        Assert.assertEquals(failed.getUserCount(), 3);
+        Assert.assertEquals(failed.getStatusCode(), 500);
+    }
+
+    @Test
+    public void neverPostsMoreThanConcurrencyChunksAtOnce() {
+        RecordingUser user = new RecordingUser(id -> false);
+        user.postMillis = 20;
+
+        pipeline(user, 2, 3).generate(40, BulkUserPipelineTest::user);
+
+        Assert.assertEquals(user.chunkSizes().size(), 20);
+        Assert.assertTrue(user.maxInFlight.get() <= 3, "in flight: " + user.maxInFlight.get());
+        Assert.assertTrue(user.maxInFlight.get() > 1, "chunks should have been posted side by side");
+    }
+
+    @Test
+    public void chunkSizeAndConcurrencyMustBePositive() {
+        Assert.expectThrows(IllegalArgumentException.class, () -> BulkUserPipeline.builder().concurrency(0).build());
+        Assert.expectThrows(IllegalArgumentException.class, () -> BulkUserPipeline.builder().chunkSize(-1).build());
+    }
+
+    private static BulkUserPipeline pipeline(User user, int chunkSize, int concurrency) {
+        return BulkUserPipeline.builder()
+                .user(user)
+                .endpoint("/user/createWithArray")
+                .chunkSize(chunkSize)
+                .concurrency(concurrency)
+                .build();
+    }
+
+    private static Map<String, Object> user(int id) {
+        return Map.of("id", id, "username", "user" + id);
+    }
+
+    // Records every chunk it is given; chunks whose first user id matches `failing` get a 500
+    private static class RecordingUser extends User {
+        private final IntPredicate failing;
+        private final List<JsonNode> chunks = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private volatile long postMillis;
+
+        RecordingUser(IntPredicate failing) {
+            super(null);
+            this.failing = failing;
+        }
+
+        @Override
+        public Response CreateListOfUsers(byte[] body, String endpoint) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                JsonNode chunk = mapper.readTree(body);
+                chunks.add(chunk);
+                Thread.sleep(postMillis);
+                int status = failing.test(chunk.get(0).get("id").asInt()) ? 500 : 200;
+                return new ResponseBuilder().setStatusCode(status).setStatusLine("HTTP/1.1 " + status)
+                        .setBody("{}").build();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        List<Integer> chunkSizes() {
+            List<Integer> sizes = new ArrayList<>();
+            for (JsonNode chunk : sortedChunks()) {
+                sizes.add(chunk.size());
+            }
+            return sizes;
+        }
+
+        List<Integer> firstIds() {
+            List<Integer> ids = new ArrayList<>();
+            for (JsonNode chunk : sortedChunks()) {
+                ids.add(chunk.get(0).get("id").asInt());
+            }
+            return ids;
+        }
+
+        // Chunks may be posted out of order when more than one is in flight
+        private List<JsonNode> sortedChunks() {
+            List<JsonNode> sorted = new ArrayList<>(chunks);
+            sorted.sort((a, b) -> Integer.compare(a.get(0).get("id").asInt(), b.get(0).get("id").asInt()));
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.framework.Services.PetstoreService;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.response.Response;
+import org.framework.http.RestClient;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * The clients generated from PetApi, StoreApi and UserApi, against a local WireMock server.
+ */
+public class GeneratedApiClientsTest {
+    private WireMockServer server;
+    private RestClient client;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        client = RestClient.builder().baseUri(server.baseUrl()).build();
+    }
+
+    @BeforeMethod
+    public void stubEverything() {
+        server.resetAll();
+        server.stubFor(any(anyUrl()).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json").withBody("{}")));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void petClientExpandsPathsAndEncodesQueries() {
+        PetApi pets = new PetApiClient(client);
+
+        Assert.assertEquals(pets.findPetById(7).getStatusCode(), 200);
+        pets.findPetsByStatus("sold out");
+        pets.deletePet(7);
+
+        server.verify(getRequestedFor(urlEqualTo("/pet/7")).withHeader("Accept", equalTo("application/json")));
+        server.verify(getRequestedFor(urlEqualTo("/pet/findByStatus?status=sold+out")));
+        server.verify(deleteRequestedFor(urlEqualTo("/pet/7")));
+    }
+
+    @Test
+    public void storeClientSendsBodiesAsJson() {
+        StoreApi store = new StoreApiClient(client);
+
+        store.placeOrder(Map.of("petId", 7, "quantity", 2));
+        store.getInventory();
+
+        server.verify(postRequestedFor(urlEqualTo("/store/order"))
+                .withHeader("Content-Type", equalTo("application/json"))
+                .withRequestBody(equalToJson("{\"petId\":7,\"quantity\":2}")));
+        server.verify(getRequestedFor(urlEqualTo("/store/inventory")));
+    }
+
+    @Test
+    public void userClientEncodesPathSegmentsAndSkipsNullQueryValues() {
+        UserApi users = new UserApiClient(client);
+
+        Response response = users.getUser("jane doe");
+        users.updateUser("jane doe", Map.of("firstName", "Jane"));
+        users.login("jane", null);
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        server.verify(getRequestedFor(urlEqualTo("/user/jane%20doe")));
+        server.verify(putRequestedFor(urlEqualTo("/user/jane%20doe")));
+        server.verify(getRequestedFor(urlEqualTo("/user/login?username=jane")));
+    }
+
+    @Test
+    public void clientWithoutBaseUriUsesTheDeclaredOne() {
+        Assert.assertEquals(PetApiClient.BASE_URI, Routes.baseURL);
+    }
+}
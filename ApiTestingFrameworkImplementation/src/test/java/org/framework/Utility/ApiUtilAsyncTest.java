@@ -0,0 +1,233 @@
+package org.framework.Utility;
+
+import io.restassured.authentication.FormAuthScheme;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.framework.execution.ApiExecutors;
+import org.framework.execution.ExecutionMode;
+import org.framework.http.HttpTransport;
+import org.framework.http.JdkHttpTransport;
+import org.framework.http.RestClient;
+import org.framework.http.TransportRequest;
+import org.framework.resilience.ExponentialBackoffRetryPolicy;
+import org.framework.resilience.RetryPolicy;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The async methods of ApiUtil against an in-memory transport.
+ */
+public class ApiUtilAsyncTest {
+
+    @BeforeMethod
+    public void resetCircuitBreakers() {
+        ApiUtil.resetCircuitBreakers();
+    }
+
+    @Test
+    public void asyncCallsRetryThroughSendAsync() throws Exception {
+        ScriptedTransport transport = new ScriptedTransport(503, 200);
+        RestClient client = client(transport);
+
+        Map<?, ?> pet = ApiUtil.getAsync(client, "/pet/1", null, null, Map.class).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(pet.get("id"), 1);
+        Assert.assertEquals(transport.asyncCalls.get(), 2, "First attempt and one retry");
+        Assert.assertEquals(transport.blockingCalls.get(), 0, "The async path must not block in send()");
+    }
+
+    @Test
+    public void nonRetryableFailureCompletesTheFutureExceptionally() {
+        ScriptedTransport transport = new ScriptedTransport(404);
+        RestClient client = client(transport);
+
+        CompletableFuture<Response> response = ApiUtil.postAsync(client, "/pet", Map.of("id", 1), null, null);
+
+        CompletionException error = Assert.expectThrows(CompletionException.class, response::join);
+        Assert.assertTrue(error.getCause() instanceof ApiUtil.ApiException, String.valueOf(error.getCause()));
+        Assert.assertEquals(((ApiUtil.ApiException) error.getCause()).getStatusCode(), 404);
+        Assert.assertEquals(transport.asyncCalls.get(), 1);
+    }
+
+    @Test
+    public void everyAsyncMethodTakesAClient() throws Exception {
+        ScriptedTransport transport = new ScriptedTransport(200);
+        RestClient client = client(transport);
+        File file = File.createTempFile("upload", ".txt");
+        file.deleteOnExit();
+
+        CompletableFuture.allOf(
+                ApiUtil.putAsync(client, "/pet", Map.of("id", 1), null, null, Map.class),
+                ApiUtil.deleteAsync(client, "/pet/1", null, null),
+                ApiUtil.uploadFileAsync(client, "/pet/1/uploadImage", file, "text/plain", null, null),
+                client.putAsync("/pet", Map.of("id", 1), Map.class),
+                client.deleteAsync("/pet/1"),
+                client.uploadFileAsync("/pet/1/uploadImage", file, "text/plain")).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(transport.asyncCalls.get(), 6);
+    }
+
+    @Test
+    public void saturatedPoolCompletesEveryCall() throws Exception {
+        // The default sendAsync submits to the pool from a pool thread; with every worker blocked on the
+        // full queue nothing would drain it
+        HttpTransport slowTransport = request -> {
+            sleep(5);
+            return new ScriptedTransport(200).next();
+        };
+        RestClient client = client(slowTransport);
+        ApiExecutors.setExecutor(ApiExecutors.newBoundedExecutor(4, 8));
+        try {
+            List<CompletableFuture<Map>> calls = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                calls.add(ApiUtil.getAsync(client, "/pet/" + i, null, null, Map.class));
+            }
+
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+            for (CompletableFuture<Map> call : calls) {
+                Assert.assertEquals(call.join().get("id"), 1);
+            }
+        } finally {
+            ApiExecutors.shutdown();
+        }
+    }
+
+    @Test
+    public void retryBackingOffWhenTheExecutorIsReplacedStillCompletes() throws Exception {
+        ScriptedTransport transport = new ScriptedTransport(503, 200);
+        RestClient client = client(transport).toBuilder().retryPolicy(fixedBackoff(300)).build();
+        ExecutorService replaced = ApiExecutors.newBoundedExecutor(2, 8);
+        ApiExecutors.setExecutor(replaced);
+        try {
+            CompletableFuture<Map> pet = ApiUtil.getAsync(client, "/pet/1", null, null, Map.class);
+            awaitAsyncCalls(transport, 1);
+            // The first attempt failed, the retry waits on its back-off timer
+            ApiExecutors.setExecutor(ApiExecutors.newBoundedExecutor(2, 8));
+
+            Assert.assertEquals(pet.get(5, TimeUnit.SECONDS).get("id"), 1);
+            Assert.assertTrue(replaced.isShutdown());
+            Assert.assertEquals(transport.asyncCalls.get(), 2);
+        } finally {
+            ApiExecutors.shutdown();
+        }
+    }
+
+    @Test
+    public void retryBackingOffWhenTheExecutionModeChangesStillCompletes() throws Exception {
+        ScriptedTransport transport = new ScriptedTransport(503, 200);
+        RestClient client = client(transport).toBuilder().retryPolicy(fixedBackoff(300)).build();
+        ExecutionMode mode = ApiExecutors.getExecutionMode();
+        try {
+            CompletableFuture<Map> pet = ApiUtil.getAsync(client, "/pet/1", null, null, Map.class);
+            awaitAsyncCalls(transport, 1);
+            ApiExecutors.setExecutionMode(mode == ExecutionMode.VIRTUAL ? ExecutionMode.PLATFORM : ExecutionMode.VIRTUAL);
+
+            Assert.assertEquals(pet.get(5, TimeUnit.SECONDS).get("id"), 1);
+            Assert.assertEquals(transport.asyncCalls.get(), 2);
+        } finally {
+            ApiExecutors.setExecutionMode(mode);
+        }
+    }
+
+    @Test
+    public void jdkTransportRejectsUnsupportedAuthenticationWhenTheClientIsBuilt() {
+        RestClient.Builder builder = RestClient.builder()
+                .transport(new JdkHttpTransport())
+                .authentication(new FormAuthScheme());
+
+        Assert.expectThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Retries any 5xx after a fixed back-off
+    private static RetryPolicy fixedBackoff(long millis) {
+        return new RetryPolicy() {
+            @Override
+            public int getMaxAttempts() {
+                return 3;
+            }
+
+            @Override
+            public boolean isRetryable(ApiUtil.ApiException failure) {
+                return failure.getStatusCode() >= 500;
+            }
+
+            @Override
+            public long backoffMillis(ApiUtil.ApiException failure, int attempt) {
+                return millis;
+            }
+        };
+    }
+
+    private static void awaitAsyncCalls(ScriptedTransport transport, int calls) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (transport.asyncCalls.get() < calls) {
+            Assert.assertTrue(System.nanoTime() < deadline, "only " + transport.asyncCalls.get() + " calls made");
+            sleep(5);
+        }
+    }
+
+    private static RestClient client(HttpTransport transport) {
+        return RestClient.builder()
+                .baseUri("http://localhost:1")
+                .retryPolicy(new ExponentialBackoffRetryPolicy(3, 0, 0, 10_000))
+                .transport(transport)
+                .build();
+    }
+
+    // Answers with the given status codes in turn, the last one repeating
+    private static final class ScriptedTransport implements HttpTransport {
+        private final ConcurrentLinkedQueue<Integer> statuses = new ConcurrentLinkedQueue<>();
+        private final int lastStatus;
+        private final AtomicInteger asyncCalls = new AtomicInteger();
+        private final AtomicInteger blockingCalls = new AtomicInteger();
+
+        private ScriptedTransport(int... statusCodes) {
+            for (int statusCode : statusCodes) {
+                statuses.add(statusCode);
+            }
+            lastStatus = statusCodes[statusCodes.length - 1];
+        }
+
+        @Override
+        public Response send(TransportRequest request) {
+            blockingCalls.incrementAndGet();
+            return next();
+        }
+
+        @Override
+        public CompletableFuture<Response> sendAsync(TransportRequest request) {
+            asyncCalls.incrementAndGet();
+            return CompletableFuture.supplyAsync(this::next);
+        }
+
+        private Response next() {
+            Integer status = statuses.poll();
+            int statusCode = status != null ? status : lastStatus;
+            return new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setHeader("Content-Type", "application/json")
+                    .setBody(statusCode == 200 ? "{\"id\":1}" : "{\"message\":\"failed\"}")
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.framework.Utility;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.RestAssured;
+import org.framework.http.RestClient;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Conditional GET cache of ApiUtil against a local WireMock server.
+ */
+public class ApiUtilCacheTest {
+    private WireMockServer server;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        stubProfile("alice");
+        stubProfile("bob");
+        ApiUtil.enableResponseCache(10, 60_000);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        ApiUtil.disableResponseCache();
+        server.stop();
+    }
+
+    @Test
+    public void clientsWithDifferentCredentialsDoNotShareEntries() {
+        RestClient alice = client("alice");
+        RestClient bob = client("bob");
+
+        Assert.assertEquals(ApiUtil.get(alice, "/profile", null, null, Map.class).get("user"), "alice");
+        Assert.assertEquals(ApiUtil.get(bob, "/profile", null, null, Map.class).get("user"), "bob");
+        Assert.assertEquals(ApiUtil.get(alice, "/profile", null, null, Map.class).get("user"), "alice");
+
+        // alice's second call is a hit, bob's first is not
+        server.verify(2, getRequestedFor(urlEqualTo("/profile")));
+    }
+
+    private RestClient client(String user) {
+        return RestClient.builder().baseUri(server.baseUrl())
+                .authentication(RestAssured.preemptive().basic(user, user + "-secret")).build();
+    }
+
+    private void stubProfile(String user) {
+        server.stubFor(get(urlEqualTo("/profile"))
+                .withBasicAuth(user, user + "-secret")
+                .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withHeader("ETag", "\"v1\"").withBody("{\"user\":\"" + user + "\"}")));
+    }
+}
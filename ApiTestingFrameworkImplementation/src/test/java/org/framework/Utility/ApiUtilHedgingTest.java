@@ -0,0 +1,99 @@
+package org.framework.Utility;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.framework.http.HttpTransport;
+import org.framework.http.RestClient;
+import org.framework.http.TransportRequest;
+import org.framework.resilience.ExponentialBackoffRetryPolicy;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedged GETs through ApiUtil: the primary call is held until the hedge has been answered.
+ */
+public class ApiUtilHedgingTest {
+
+    @BeforeMethod
+    public void enableHedging() {
+        ApiUtil.resetCircuitBreakers();
+        ApiUtil.enableHedging(20);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void disableHedging() {
+        ApiUtil.disableHedging();
+    }
+
+    @Test
+    public void fastErrorFromTheHedgeDoesNotBeatSlowerSuccess() throws Exception {
+        SlowPrimaryTransport transport = new SlowPrimaryTransport(503);
+        RestClient client = client(transport);
+
+        Map<?, ?> pet = ApiUtil.get(client, "/pet/1", null, null, Map.class);
+        Map<?, ?> asyncPet = ApiUtil.getAsync(client, "/pet/1", null, null, Map.class).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(pet.get("id"), 1);
+        Assert.assertEquals(asyncPet.get("id"), 1);
+        Assert.assertEquals(transport.calls.get(), 4, "Each GET was hedged once");
+    }
+
+    private static RestClient client(HttpTransport transport) {
+        return RestClient.builder()
+                .baseUri("http://localhost:1")
+                // One attempt, so a 503 that won the hedge would fail the call
+                .retryPolicy(new ExponentialBackoffRetryPolicy(1, 0, 0, 0))
+                .transport(transport)
+                .build();
+    }
+
+    // Odd calls (primaries) answer 200 once the following hedge has answered hedgeStatus
+    private static final class SlowPrimaryTransport implements HttpTransport {
+        private final int hedgeStatus;
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile CountDownLatch hedgeAnswered;
+
+        private SlowPrimaryTransport(int hedgeStatus) {
+            this.hedgeStatus = hedgeStatus;
+        }
+
+        @Override
+        public Response send(TransportRequest request) {
+            if (calls.incrementAndGet() % 2 == 1) {
+                CountDownLatch latch = new CountDownLatch(1);
+                hedgeAnswered = latch;
+                await(latch);
+                return response(200, "{\"id\":1}");
+            }
+            Response hedge = response(hedgeStatus, "{\"message\":\"unavailable\"}");
+            hedgeAnswered.countDown();
+            return hedge;
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Hedge was never sent");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static Response response(int statusCode, String body) {
+            return new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setHeader("Content-Type", "application/json")
+                    .setBody(body)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.framework.Utility;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.response.Response;
+import org.framework.http.RestClient;
+import org.framework.http.Timeouts;
+import org.framework.resilience.ExponentialBackoffRetryPolicy;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Retry behaviour of ApiUtil against a local WireMock server.
+ */
+public class ApiUtilRetryTest {
+    private WireMockServer server;
+    private RestClient client;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        client = RestClient.builder()
+                .baseUri(server.baseUrl())
+                .retryPolicy(new ExponentialBackoffRetryPolicy(3, 0, 0, 10_000))
+                .build();
+    }
+
+    @BeforeMethod
+    public void resetServer() {
+        server.resetAll();
+        ApiUtil.resetCircuitBreakers();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void interruptDuringBackoffEndsTheCallInsteadOfRetryingAtOnce() {
+        server.stubFor(get(urlEqualTo("/flaky")).willReturn(aResponse().withStatus(503).withHeader("Retry-After", "5")));
+        Thread caller = Thread.currentThread();
+        Thread interrupter = new Thread(() -> {
+            try {
+                // Interrupt once the first attempt has been answered, i.e. during the back-off
+                while (server.getAllServeEvents().isEmpty()) {
+                    Thread.sleep(10);
+                }
+                Thread.sleep(300);
+            } catch (InterruptedException ignored) {
+                return;
+            }
+            caller.interrupt();
+        });
+
+        long start = System.nanoTime();
+        interrupter.start();
+        try {
+            ApiUtil.get(client, "/flaky", null, null, Response.class);
+            Assert.fail("Expected the interrupted back-off to end the call");
+        } catch (IllegalStateException expected) {
+            Assert.assertTrue(expected.getMessage().contains("Interrupted"), expected.getMessage());
+            Assert.assertTrue(Thread.interrupted(), "Interrupt flag should be kept for the caller");
+        }
+        Assert.assertTrue(System.nanoTime() - start < 4_000_000_000L, "The 5s back-off should have been cut short");
+        server.verify(1, getRequestedFor(urlEqualTo("/flaky")));
+    }
+
+    @Test
+    public void timeoutOnTheLastAttemptIsThrownWithEveryAttempt() {
+        server.stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(200).withFixedDelay(1_000)));
+        RestClient impatient = client.toBuilder().readTimeoutMillis(200).deadlineMillis(10_000).build();
+
+        try {
+            ApiUtil.get(impatient, "/slow", null, null, Response.class);
+            Assert.fail("Expected the read timeouts to fail the call");
+        } catch (ApiUtil.ApiTimeoutException expected) {
+            Assert.assertEquals(expected.getPhase(), Timeouts.READ);
+            Assert.assertEquals(expected.getAttemptMillis().size(), 3, expected.getMessage());
+        }
+    }
+
+    @Test
+    public void rateLimitWaitBeyondTheDeadlineFailsAtOnce() {
+        server.stubFor(get(urlEqualTo("/limited")).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json").withBody("{}")));
+        String host = server.baseUrl().substring("http://".length());
+        ApiUtil.setRateLimit(host, 0.1, 1);
+        RestClient limited = client.toBuilder().deadlineMillis(500).build();
+        try {
+            ApiUtil.get(limited, "/limited", null, null, Response.class);
+
+            long start = System.nanoTime();
+            try {
+                ApiUtil.get(limited, "/limited", null, null, Response.class);
+                Assert.fail("The next permit is 10s away, past the 500ms deadline");
+            } catch (ApiUtil.ApiTimeoutException expected) {
+                Assert.assertEquals(expected.getPhase(), Timeouts.DEADLINE);
+            }
+            Assert.assertTrue(System.nanoTime() - start < 400_000_000L, "Should not have waited for the permit");
+            server.verify(1, getRequestedFor(urlEqualTo("/limited")));
+        } finally {
+            ApiUtil.resetRateLimits();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.framework.Utility;
+
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.framework.http.HttpTransport;
+import org.framework.http.RestClient;
+import org.framework.http.TransportRequest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ApiUtil binds response bodies from their input stream, never from a String copy.
+ */
+public class ApiUtilStreamingTest {
+    private static final Set<String> COPYING_METHODS = Set.of("asString", "asByteArray", "asPrettyString",
+            "prettyPrint", "print", "peek", "prettyPeek", "jsonPath", "path");
+
+    @Test
+    public void getBindsThePojoFromTheBodyStream() {
+        StreamOnlyResponse body = new StreamOnlyResponse("{\"id\":7,\"name\":\"doggie\"}");
+        RestClient client = RestClient.builder()
+                .baseUri("http://localhost:1")
+                .transport(new HttpTransport() {
+                    @Override
+                    public Response send(TransportRequest request) {
+                        return body.response();
+                    }
+                })
+                .build();
+
+        Map<?, ?> pet = ApiUtil.get(client, "/pet/7", null, null, Map.class);
+
+        Assert.assertEquals(pet.get("id"), 7);
+        Assert.assertEquals(pet.get("name"), "doggie");
+        Assert.assertTrue(body.closed, "The body stream should be closed once bound");
+    }
+
+    @Test
+    public void readAsBindsTheServicesResponseFromTheBodyStream() {
+        StreamOnlyResponse body = new StreamOnlyResponse("[{\"id\":1},{\"id\":2}]");
+
+        Object[] pets = ApiUtil.readAs(body.response(), Object[].class);
+
+        Assert.assertEquals(pets.length, 2);
+        Assert.assertTrue(body.closed);
+    }
+
+    // A 200 response whose body can only be read as a stream; any method that copies it fails the test
+    private static final class StreamOnlyResponse {
+        private final byte[] json;
+        private volatile boolean closed;
+
+        private StreamOnlyResponse(String json) {
+            this.json = json.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private Response response() {
+            return (Response) Proxy.newProxyInstance(Response.class.getClassLoader(), new Class<?>[]{Response.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getStatusCode":
+                            case "statusCode":
+                                return 200;
+                            case "getHeaders":
+                            case "headers":
+                                return new Headers();
+                            case "getBody":
+                            case "body":
+                                return proxy;
+                            case "asInputStream":
+                                return stream();
+                            case "toString":
+                                return "StreamOnlyResponse";
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            default:
+                                if (COPYING_METHODS.contains(method.getName())) {
+                                    throw new AssertionError("The body was copied through " + method.getName());
+                                }
+                                return null;
+                        }
+                    });
+        }
+
+        private InputStream stream() {
+            return new ByteArrayInputStream(json) {
+                @Override
+                public void close() {
+                    closed = true;
+                }
+            };
+        }
+    }
+}
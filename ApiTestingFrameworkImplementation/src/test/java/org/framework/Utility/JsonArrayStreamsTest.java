@@ -0,0 +1,220 @@
+package org.framework.Utility;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.internal.RestAssuredResponseOptionsImpl;
+import io.restassured.response.Response;
+import org.framework.Services.PetstoreService.Pet;
+import org.framework.http.ConnectionPoolManager;
+import org.framework.http.RequestSpecFactory;
+import org.framework.http.RestClient;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class JsonArrayStreamsTest {
+    private static final int PETS = 100_000;
+    private static final int DRIBBLE_MS = 1_000;
+
+    private WireMockServer server;
+
+    @BeforeClass
+    public void startServer() {
+        StringBuilder pets = new StringBuilder(PETS * 40).append('[');
+        for (int i = 0; i < PETS; i++) {
+            pets.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"status\":\"available\"}");
+        }
+        // Jetty's gzip handler would hold the whole body back, so the chunks reach the client as sent
+        server = new WireMockServer(options().dynamicPort().gzipDisabled(true));
+        server.start();
+        server.stubFor(get(urlPathEqualTo("/pet/findByStatus")).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(pets.append(']').toString())
+                .withChunkedDribbleDelay(10, DRIBBLE_MS)));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    public static class PetName {
+        public long id;
+        public String name;
+    }
+
+    @Test
+    public void bindsElementsInOrderIgnoringUnknownProperties() {
+        String json = "[{\"id\":1,\"name\":\"rex\",\"status\":\"sold\"},{\"id\":2,\"name\":\"tom\",\"tags\":[]}]";
+        try (Stream<PetName> pets = JsonArrayStreams.stream(stream(json), PetName.class)) {
+            List<String> names = pets.map(pet -> pet.id + ":" + pet.name).collect(Collectors.toList());
+            Assert.assertEquals(names, List.of("1:rex", "2:tom"));
+        }
+    }
+
+    @Test
+    public void emptyArrayHasNoElements() {
+        try (Stream<JsonNode> elements = JsonArrayStreams.stream(stream(" [ ] "), JsonNode.class)) {
+            Assert.assertEquals(elements.count(), 0);
+        }
+    }
+
+    @Test
+    public void shortCircuitingStreamStopsReadingEarly() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 20_000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"pet-").append(i).append("\"}");
+        }
+        byte[] body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        TrackingInputStream input = new TrackingInputStream(new ByteArrayInputStream(body));
+
+        try (Stream<PetName> pets = JsonArrayStreams.stream(input, PetName.class)) {
+            PetName found = pets.filter(pet -> pet.id == 5).findFirst().orElseThrow();
+            Assert.assertEquals(found.name, "pet-5");
+        }
+        Assert.assertTrue(input.bytesRead < body.length / 4,
+                "read " + input.bytesRead + " of " + body.length + " bytes");
+        Assert.assertTrue(input.closed, "closing the stream closes the body");
+    }
+
+    @Test
+    public void iteratorClosesItsInput() throws IOException {
+        TrackingInputStream input = new TrackingInputStream(stream("[1,2,3]"));
+        try (MappingIterator<Integer> numbers = JsonArrayStreams.iterator(input, Integer.class)) {
+            Assert.assertEquals(numbers.next(), Integer.valueOf(1));
+        }
+        Assert.assertTrue(input.closed);
+    }
+
+    @Test
+    public void rejectsNonArrayAndMalformedJson() {
+        TrackingInputStream object = new TrackingInputStream(stream("{\"id\":1}"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> JsonArrayStreams.iterator(object, PetName.class));
+        Assert.assertTrue(object.closed, "the body is closed when it is not an array");
+
+        TrackingInputStream malformed = new TrackingInputStream(stream("not json"));
+        Assert.assertThrows(UncheckedIOException.class, () -> JsonArrayStreams.iterator(malformed, PetName.class));
+        Assert.assertTrue(malformed.closed, "the body is closed when it cannot be parsed");
+    }
+
+    @Test
+    public void readsFilesAndResponses() throws IOException {
+        String json = "[{\"id\":7,\"name\":\"doggie\"}]";
+        Path file = Files.createTempFile("pets", ".json");
+        try {
+            Files.writeString(file, json);
+            try (Stream<PetName> pets = JsonArrayStreams.stream(file, PetName.class)) {
+                Assert.assertEquals(pets.map(pet -> pet.name).collect(Collectors.toList()), List.of("doggie"));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        Assert.assertThrows(UncheckedIOException.class,
+                () -> JsonArrayStreams.iterator(file, PetName.class));
+
+        Response response = new ResponseBuilder().setStatusCode(200)
+                .setHeader("Content-Type", "application/json").setBody(json).build();
+        try (Stream<JsonNode> pets = JsonArrayStreams.stream(response, JsonNode.class)) {
+            Assert.assertEquals(pets.map(pet -> pet.path("id").asLong()).collect(Collectors.toList()), List.of(7L));
+        }
+    }
+
+    @Test
+    public void streamedResponseIsBoundAsItArrives() throws IOException {
+        Pet pet = new Pet(RestClient.builder().baseUri(server.baseUrl()).build());
+        int leased = ConnectionPoolManager.getTotalStats().getLeased();
+
+        Response response = pet.pet_FindByStatusStreamed("/pet/findByStatus", "available");
+        long start = System.nanoTime();
+        RestAssuredResponseOptionsImpl<?> body = (RestAssuredResponseOptionsImpl<?>) response;
+        Assert.assertTrue(body.isInputStream(), "the filter chain should have left the body on the wire");
+        long count;
+        long firstMillis;
+        try (MappingIterator<PetName> pets = JsonArrayStreams.iterator(response, PetName.class)) {
+            Assert.assertEquals(pets.next().id, 0);
+            firstMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            count = 1;
+            for (; pets.hasNext(); count++) {
+                Assert.assertEquals(pets.next().id, count);
+            }
+        }
+        long allMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertEquals(count, PETS);
+        // The body arrives in ten chunks over DRIBBLE_MS and the call returned with the first of them: the
+        // first pet is bound right away, the rest only as the later chunks come in
+        Assert.assertTrue(firstMillis < DRIBBLE_MS / 2, "first pet after " + firstMillis + "ms");
+        Assert.assertTrue(allMillis >= DRIBBLE_MS / 2, "all pets after " + allMillis + "ms");
+        Assert.assertTrue(body.isInputStream(), "nothing should have copied the body into memory");
+        Assert.assertEquals(ConnectionPoolManager.getTotalStats().getLeased(), leased,
+                "closing the iterator should have returned the connection");
+    }
+
+    @Test
+    public void defaultResponseIsReadBeforeItIsReturned() {
+        Response response = RequestSpecFactory.given().baseUri(server.baseUrl()).get("/pet/findByStatus");
+
+        Assert.assertFalse(((RestAssuredResponseOptionsImpl<?>) response).isInputStream());
+        try (Stream<PetName> pets = JsonArrayStreams.stream(response, PetName.class)) {
+            Assert.assertEquals(pets.count(), PETS);
+        }
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class TrackingInputStream extends FilterInputStream {
+        private long bytesRead;
+        private boolean closed;
+
+        private TrackingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                bytesRead++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                bytesRead += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.framework.execution;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class ApiExecutorsTest {
+
+    @Test
+    public void submitWaitingOnAFullQueueIsRejectedWhenThePoolShutsDown() throws Exception {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) ApiExecutors.newBoundedExecutor(1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        pool.execute(() -> {
+            running.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        running.await(5, TimeUnit.SECONDS);
+        pool.execute(() -> { });
+
+        // The queue is full, so this submit waits for a slot
+        CompletableFuture<Future<?>> blocked = CompletableFuture.supplyAsync(() -> pool.submit(() -> { }),
+                runnable -> new Thread(runnable, "blocked-submitter").start());
+        awaitWaiting("blocked-submitter");
+        // Frees the slot, but a stopped pool takes nothing from its queue any more
+        pool.shutdownNow();
+
+        ExecutionException error = Assert.expectThrows(ExecutionException.class,
+                () -> blocked.get(5, TimeUnit.SECONDS));
+        Assert.assertTrue(error.getCause() instanceof RejectedExecutionException, String.valueOf(error.getCause()));
+        Assert.assertTrue(pool.getQueue().isEmpty(), "the rejected task should not stay queued");
+        Assert.assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void tasksQueuedBeforeAShutdownStillRun() throws Exception {
+        ExecutorService pool = ApiExecutors.newBoundedExecutor(1, 4);
+        CountDownLatch ran = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            pool.execute(ran::countDown);
+        }
+        pool.shutdown();
+
+        Assert.assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void timerFiringOnAShutDownExecutorCompletesExceptionally() {
+        ExecutorService pool = ApiExecutors.newBoundedExecutor(1, 1);
+        CompletableFuture<Void> timer = ApiExecutors.delay(50, TimeUnit.MILLISECONDS, pool);
+        pool.shutdown();
+
+        ExecutionException error = Assert.expectThrows(ExecutionException.class, () -> timer.get(5, TimeUnit.SECONDS));
+        Assert.assertTrue(error.getCause() instanceof RejectedExecutionException, String.valueOf(error.getCause()));
+    }
+
+    @Test
+    public void currentHandsTasksToTheExecutorInstalledWhenTheyRun() throws Exception {
+        ExecutorService first = ApiExecutors.newBoundedExecutor(1, 1);
+        ApiExecutors.setExecutor(first);
+        try {
+            CompletableFuture<Void> timer = ApiExecutors.delay(50, TimeUnit.MILLISECONDS, ApiExecutors.current());
+            ApiExecutors.setExecutor(ApiExecutors.newBoundedExecutor(1, 1));
+
+            timer.get(5, TimeUnit.SECONDS);
+            Assert.assertTrue(first.isShutdown());
+        } finally {
+            ApiExecutors.shutdown();
+        }
+    }
+
+    private static void awaitWaiting(String threadName) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                if (thread.getName().equals(threadName) && thread.getState() == Thread.State.WAITING) {
+                    return;
+                }
+            }
+            Thread.sleep(5);
+        }
+        Assert.fail(threadName + " never started waiting");
+    }
+}
@@ -0,0 +1,152 @@
+package org.framework.execution;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * BatchExecutor against in-memory calls, no HTTP involved.
+ */
+public class BatchExecutorTest {
+
+    @Test
+    public void neverRunsMoreThanTheConcurrencyAtOnce() {
+        int concurrency = 3;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        // The first wave holds on until all its calls have started, so the limit is actually reached
+        CountDownLatch firstWave = new CountDownLatch(concurrency);
+        List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+        BatchResult<Integer> result = BatchExecutor.execute(items, item -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                firstWave.countDown();
+                await(firstWave);
+                sleep(2);
+                return response(200);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }, BatchOptions.defaults().withConcurrency(concurrency));
+
+        Assert.assertEquals(result.size(), items.size());
+        Assert.assertEquals(result.getSuccessCount(), items.size());
+        Assert.assertEquals(maxInFlight.get(), concurrency);
+    }
+
+    @Test
+    public void inputOrderingFollowsTheItemsAndCompletionOrderingTheFinishes() {
+        // Earlier items take longer, so they finish last
+        List<Integer> items = Arrays.asList(1, 2, 3, 4);
+        BatchOptions options = BatchOptions.defaults().withConcurrency(items.size());
+
+        BatchResult<Integer> byInput = BatchExecutor.execute(items, item -> slowResponse(item, items.size()),
+                options.ordered(BatchOptions.Ordering.INPUT));
+        BatchResult<Integer> byCompletion = BatchExecutor.execute(items, item -> slowResponse(item, items.size()),
+                options.ordered(BatchOptions.Ordering.COMPLETION));
+
+        Assert.assertEquals(keys(byInput), Arrays.asList(1, 2, 3, 4));
+        Assert.assertEquals(keys(byCompletion), Arrays.asList(4, 3, 2, 1));
+    }
+
+    @Test
+    public void failuresAreCapturedPerItemWithoutAbortingTheBatch() {
+        IllegalStateException boom = new IllegalStateException("boom");
+
+        BatchResult<String> result = BatchExecutor.execute(Arrays.asList("ok", "throws", "404"), item -> {
+            if (item.equals("throws")) {
+                throw boom;
+            }
+            return response(item.equals("ok") ? 200 : 404);
+        }, BatchOptions.defaults().withConcurrency(2));
+
+        Assert.assertEquals(result.getSuccessCount(), 1);
+        Assert.assertEquals(result.getFailureCount(), 2);
+        BatchResult.ItemResult<String> thrown = result.getItems().get(1);
+        Assert.assertEquals(thrown.getKey(), "throws");
+        Assert.assertSame(thrown.getError(), boom);
+        Assert.assertNull(thrown.getResponse());
+        Assert.assertFalse(thrown.isSuccess());
+        BatchResult.ItemResult<String> notFound = result.getItems().get(2);
+        Assert.assertNull(notFound.getError());
+        Assert.assertEquals(notFound.getResponse().getStatusCode(), 404);
+        Assert.assertFalse(notFound.isSuccess());
+    }
+
+    @Test
+    public void concurrencyBelowOneIsRejected() {
+        Assert.expectThrows(IllegalArgumentException.class, () -> BatchOptions.defaults().withConcurrency(0));
+    }
+
+    @Test
+    public void withConcurrencyKeepsTheOrdering() {
+        BatchOptions options = BatchOptions.defaults().ordered(BatchOptions.Ordering.COMPLETION).withConcurrency(4);
+
+        Assert.assertEquals(options.getConcurrency(), 4);
+        Assert.assertEquals(options.getOrdering(), BatchOptions.Ordering.COMPLETION);
+    }
+
+    @Test
+    public void percentilesUseTheNearestRank() {
+        List<BatchResult.ItemResult<Integer>> items = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> new BatchResult.ItemResult<>(i, response(200), null, TimeUnit.MILLISECONDS.toNanos(i)))
+                .collect(Collectors.toList());
+
+        BatchResult<Integer> result = new BatchResult<>(items, TimeUnit.SECONDS.toNanos(2));
+
+        Assert.assertEquals(result.getP50Millis(), 5.0);
+        Assert.assertEquals(result.getP99Millis(), 10.0);
+        Assert.assertEquals(result.getThroughputPerSecond(), 5.0);
+    }
+
+    @Test
+    public void callReturningNoResponseIsAFailure() {
+        BatchResult<Integer> result = BatchExecutor.execute(Arrays.asList(1), item -> null,
+                BatchOptions.defaults().withConcurrency(1));
+
+        BatchResult.ItemResult<Integer> item = result.getItems().get(0);
+        Assert.assertFalse(item.isSuccess());
+        Assert.assertTrue(item.toString().startsWith("1 -> no response ("), item.toString());
+    }
+
+    private static Response slowResponse(int item, int items) {
+        sleep((items - item + 1) * 40L);
+        return response(200);
+    }
+
+    private static List<Integer> keys(BatchResult<Integer> result) {
+        return result.getItems().stream().map(BatchResult.ItemResult::getKey).collect(Collectors.toList());
+    }
+
+    private static Response response(int statusCode) {
+        return new ResponseBuilder().setStatusCode(statusCode).setBody("{}").build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(5, TimeUnit.SECONDS), "the first calls never ran side by side");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.framework.http;
+
+import org.framework.reports.ApiMetrics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+
+public class CompressionTest {
+    private static final byte[] BODY = "{\"status\":\"available\"}".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void gzipRoundTrip() {
+        byte[] compressed = Compression.gzip(BODY);
+
+        Assert.assertTrue(compressed.length < BODY.length);
+        Assert.assertEquals(Compression.decode(new ByteArrayInputStream(compressed), "gzip"), BODY);
+        Assert.assertEquals(Compression.decode(new ByteArrayInputStream(compressed), "X-GZIP"), BODY);
+    }
+
+    @Test
+    public void decodesDeflate() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+            deflater.write(BODY);
+        }
+
+        Assert.assertEquals(Compression.decode(new ByteArrayInputStream(compressed.toByteArray()), "deflate"), BODY);
+    }
+
+    @Test
+    public void unknownEncodingsPassThrough() throws IOException {
+        InputStream body = new ByteArrayInputStream(BODY);
+
+        Assert.assertSame(Compression.decoding(body, null), body);
+        Assert.assertSame(Compression.decoding(body, "br"), body);
+        Assert.assertTrue(Compression.isSupported("gzip"));
+        Assert.assertFalse(Compression.isSupported("br"));
+        Assert.assertFalse(Compression.isSupported(null));
+    }
+
+    @Test
+    public void decodeRecordsWireAndDecodedBytes() {
+        byte[] compressed = Compression.gzip(BODY);
+        long received = ApiMetrics.get(Compression.METRIC_RESPONSE_BYTES_RECEIVED);
+        long decoded = ApiMetrics.get(Compression.METRIC_RESPONSE_BYTES_DECODED);
+
+        Compression.decode(new ByteArrayInputStream(compressed), "gzip");
+
+        Assert.assertEquals(ApiMetrics.get(Compression.METRIC_RESPONSE_BYTES_RECEIVED) - received, compressed.length);
+        Assert.assertEquals(ApiMetrics.get(Compression.METRIC_RESPONSE_BYTES_DECODED) - decoded, BODY.length);
+    }
+
+    @Test
+    public void corruptBodyFailsWithUncheckedIOException() {
+        Assert.expectThrows(java.io.UncheckedIOException.class,
+                () -> Compression.decode(new ByteArrayInputStream(BODY), "gzip"));
+    }
+
+    @Test
+    public void recordingStreamRecordsOnceWhenReadToTheEnd() throws IOException {
+        long responses = ApiMetrics.get(Compression.METRIC_RESPONSES);
+        long decoded = ApiMetrics.get(Compression.METRIC_RESPONSE_BYTES_DECODED);
+
+        try (InputStream body = Compression.recording(new ByteArrayInputStream(BODY), 100)) {
+            Assert.assertEquals(ApiMetrics.get(Compression.METRIC_RESPONSES), responses, "Nothing read yet");
+            Assert.assertEquals(body.readAllBytes(), BODY);
+        }
+
+        Assert.assertEquals(ApiMetrics.get(Compression.METRIC_RESPONSES) - responses, 1);
+        Assert.assertEquals(ApiMetrics.get(Compression.METRIC_RESPONSE_BYTES_DECODED) - decoded, BODY.length);
+    }
+
+    @Test
+    public void recordingStreamClosedEarlyRecordsWhatWasRead() throws IOException {
+        long decoded = ApiMetrics.get(Compression.METRIC_RESPONSE_BYTES_DECODED);
+
+        InputStream body = Compression.recording(new ByteArrayInputStream(BODY), 100);
+        Assert.assertEquals(body.read(new byte[10]), 10);
+        body.read();
+        body.close();
+
+        Assert.assertEquals(ApiMetrics.get(Compression.METRIC_RESPONSE_BYTES_DECODED) - decoded, 11);
+    }
+}
@@ -0,0 +1,91 @@
+package org.framework.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.config.LogConfig;
+import io.restassured.internal.RestAssuredResponseOptionsImpl;
+import io.restassured.response.Response;
+import org.apache.http.pool.PoolStats;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class ConnectionPoolManagerTest {
+    private static final int CALLS = 5;
+
+    private WireMockServer server;
+
+    @BeforeClass
+    public void startServer() {
+        server = startedServer();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void unreadResponsesReleaseTheirConnectionForReuse() {
+        // A server of its own, so the pool has no connection to its route yet
+        WireMockServer fresh = startedServer();
+        PoolStats before = ConnectionPoolManager.getTotalStats();
+        try {
+            for (int i = 0; i < CALLS; i++) {
+                // Only the status is looked at, the body is never read by the caller
+                Assert.assertEquals(RequestSpecFactory.given().baseUri(fresh.baseUrl()).get("/pets").getStatusCode(), 200);
+            }
+        } finally {
+            fresh.stop();
+        }
+
+        PoolStats after = ConnectionPoolManager.getTotalStats();
+        Assert.assertEquals(after.getLeased(), before.getLeased(), "every call should have returned its connection");
+        Assert.assertEquals(after.getAvailable() - before.getAvailable(), 1,
+                "the calls should have shared one keep-alive connection");
+        Assert.assertTrue(ConnectionPoolManager.statsSummary().startsWith("leased=" + before.getLeased() + ","),
+                ConnectionPoolManager.statsSummary());
+    }
+
+    @Test
+    public void bodyStaysReadableAfterTheConnectionIsReleased() {
+        Response response = RequestSpecFactory.given().baseUri(server.baseUrl()).get("/pets");
+
+        Assert.assertEquals(response.jsonPath().getString("status"), "available");
+        Assert.assertEquals(response.asString(), "{\"status\":\"available\"}");
+    }
+
+    @Test
+    public void streamedBodyKeepsItsConnectionUntilClosed() throws Exception {
+        PoolStats before = ConnectionPoolManager.getTotalStats();
+        // With failure logging on, as ApiUtil sets it, RestAssured would log the response and read its body
+        Response response = ConnectionReleaseFilter.streamBody(RequestSpecFactory.given()
+                        .config(ConnectionPoolManager.restAssuredConfig().logConfig(
+                                LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails())))
+                .baseUri(server.baseUrl()).get("/pets");
+
+        Assert.assertTrue(((RestAssuredResponseOptionsImpl<?>) response).isInputStream(), "body should not be read yet");
+        Assert.assertEquals(ConnectionPoolManager.getTotalStats().getLeased(), before.getLeased() + 1);
+        try (InputStream body = response.getBody().asInputStream()) {
+            Assert.assertEquals(new String(body.readAllBytes(), StandardCharsets.UTF_8), "{\"status\":\"available\"}");
+        }
+        Assert.assertEquals(ConnectionPoolManager.getTotalStats().getLeased(), before.getLeased(),
+                "reading the body should have returned the connection");
+    }
+
+    private static WireMockServer startedServer() {
+        WireMockServer started = new WireMockServer(options().dynamicPort());
+        started.start();
+        started.stubFor(get(urlEqualTo("/pets")).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json").withBody("{\"status\":\"available\"}")));
+        return started;
+    }
+}
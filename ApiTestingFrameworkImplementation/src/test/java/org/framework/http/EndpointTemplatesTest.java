@@ -0,0 +1,41 @@
+package org.framework.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class EndpointTemplatesTest {
+
+    @Test
+    public void collapsesNumericAndUuidSegments() {
+        Assert.assertEquals(EndpointTemplates.pathTemplate("/users/42/books/123e4567-e89b-12d3-a456-426614174000"),
+                "/users/{id}/books/{id}");
+        Assert.assertEquals(EndpointTemplates.pathTemplate("/pet/findByStatus?status=sold"), "/pet/findByStatus");
+        Assert.assertEquals(EndpointTemplates.pathTemplate("/pet/{petId}"), "/pet/{petId}");
+        Assert.assertEquals(EndpointTemplates.pathTemplate(""), "/");
+    }
+
+    @Test
+    public void keyResolvesRelativeEndpointsAgainstBaseUri() {
+        Assert.assertEquals(EndpointTemplates.key("https://petstore.swagger.io/v2/", "/pet/7"),
+                "petstore.swagger.io/v2/pet/{id}");
+        Assert.assertEquals(EndpointTemplates.key("https://ignored.example", "http://localhost:8080/users/1"),
+                "localhost:8080/users/{id}");
+        Assert.assertEquals(EndpointTemplates.key(null, "https://reqres.in"), "reqres.in/");
+    }
+
+    @Test
+    public void hostStopsAtPathQueryOrFragment() {
+        Assert.assertEquals(EndpointTemplates.host(null, "https://bookstore.toolsqa.com/BookStore/v1/Books"),
+                "bookstore.toolsqa.com");
+        Assert.assertEquals(EndpointTemplates.host(null, "http://localhost:8080?x=1"), "localhost:8080");
+        Assert.assertEquals(EndpointTemplates.host("https://reqres.in/api", "users#top"), "reqres.in");
+    }
+
+    @Test
+    public void resolveJoinsWithExactlyOneSlash() {
+        Assert.assertEquals(EndpointTemplates.resolve("https://a.io/", "/b"), "https://a.io/b");
+        Assert.assertEquals(EndpointTemplates.resolve("https://a.io", "b"), "https://a.io/b");
+        Assert.assertEquals(EndpointTemplates.resolve("https://a.io/", "b"), "https://a.io/b");
+        Assert.assertEquals(EndpointTemplates.resolve(null, "/b"), "/b");
+    }
+}
@@ -0,0 +1,104 @@
+package org.framework.http;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FileChannelInputStreamTest {
+    private Path file;
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        file = Files.createTempFile("upload", ".bin");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void readsTheWholeFileAcrossChunks() throws IOException {
+        byte[] content = bytes(10_001);
+        Files.write(file, content);
+
+        try (FileChannelInputStream in = new FileChannelInputStream(file, 1024, null)) {
+            Assert.assertEquals(in.size(), content.length);
+            Assert.assertEquals(in.readAllBytes(), content);
+            Assert.assertEquals(in.read(), -1);
+        }
+    }
+
+    @Test
+    public void reportsProgressOncePerChunkEndingAtTheFileSize() throws IOException {
+        Files.write(file, bytes(10));
+        List<long[]> reports = new ArrayList<>();
+
+        try (InputStream in = new FileChannelInputStream(file, 4, (sent, total) -> reports.add(new long[]{sent, total}))) {
+            byte[] target = new byte[3];
+            while (in.read(target, 0, target.length) >= 0) {
+                // drain
+            }
+        }
+
+        long previous = -1;
+        for (long[] report : reports) {
+            Assert.assertTrue(report[0] > previous, "Progress should only move forward");
+            Assert.assertEquals(report[1], 10);
+            previous = report[0];
+        }
+        Assert.assertEquals(reports.get(0)[0], 0);
+        Assert.assertEquals(previous, 10);
+        Assert.assertEquals(reports.size(), 4, "0, 4, 8 before each chunk and 10 at the end");
+    }
+
+    @Test
+    public void singleByteReadsAreUnsigned() throws IOException {
+        Files.write(file, new byte[]{(byte) 0xFF, 0x01});
+
+        try (InputStream in = new FileChannelInputStream(file, 1, null)) {
+            Assert.assertEquals(in.read(), 255);
+            Assert.assertEquals(in.read(), 1);
+            Assert.assertEquals(in.read(), -1);
+        }
+    }
+
+    @Test
+    public void emptyFileEndsImmediately() throws IOException {
+        List<Long> reports = new ArrayList<>();
+
+        try (FileChannelInputStream in = new FileChannelInputStream(file, 16, (sent, total) -> reports.add(total))) {
+            Assert.assertEquals(in.size(), 0);
+            Assert.assertEquals(in.read(new byte[8], 0, 8), -1);
+            Assert.assertEquals(in.read(new byte[8], 0, 0), 0);
+        }
+        Assert.assertEquals(reports, List.of(0L));
+    }
+
+    @Test
+    public void availableIsWhatIsLeftInTheBuffer() throws IOException {
+        Files.write(file, bytes(10));
+
+        try (InputStream in = new FileChannelInputStream(file, 4, null)) {
+            Assert.assertEquals(in.available(), 0, "Nothing is read before the first call");
+            Assert.assertEquals(in.read(), 0);
+            Assert.assertEquals(in.available(), 3);
+        }
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+}
@@ -0,0 +1,107 @@
+package org.framework.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.framework.reports.ApiMetrics;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class JdkHttpTransportTest {
+    private static final String BODY = "{\"status\":\"available\"}".repeat(500);
+
+    private WireMockServer server;
+    private JdkHttpTransport transport;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        server.stubFor(get(urlEqualTo("/pets")).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json").withBody(BODY)));
+        transport = new JdkHttpTransport(JdkHttpTransport.newHttpClient(5_000, false));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void gzipResponseIsDecodedWhileReading() {
+        long responses = ApiMetrics.get(Compression.METRIC_RESPONSES);
+
+        Response response = transport.send(request());
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.getHeader("Content-Encoding"), "gzip", "WireMock should have compressed the body");
+        Assert.assertEquals(response.asString(), BODY);
+        Assert.assertEquals(ApiMetrics.get(Compression.METRIC_RESPONSES) - responses, 1);
+    }
+
+    @Test
+    public void sendAsyncDecodesToo() throws Exception {
+        Response response = transport.sendAsync(request()).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(response.asString(), BODY);
+    }
+
+    @Test
+    public void headersTheClientRefusesAreDropped() {
+        Response response = transport.send(TransportRequest.builder()
+                .method(Method.GET)
+                .baseUri(server.baseUrl())
+                .endpoint("/pets")
+                .header("Via", "1.1 proxy")
+                .header("Date", "Tue, 15 Nov 1994 08:12:31 GMT")
+                .header("X-Trace", "abc")
+                .build());
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        server.verify(getRequestedFor(urlEqualTo("/pets"))
+                .withHeader("X-Trace", equalTo("abc"))
+                .withHeader("Via", absent())
+                .withHeader("Date", absent()));
+    }
+
+    @Test
+    public void callerAuthorizationHeaderWinsWhateverItsCase() {
+        transport.send(TransportRequest.builder()
+                .method(Method.GET)
+                .baseUri(server.baseUrl())
+                .endpoint("/pets")
+                .header("authorization", "Bearer caller-token")
+                .header("X-Case", "lower-case authorization")
+                .authentication(RestAssured.preemptive().basic("client", "secret"))
+                .build());
+
+        List<LoggedRequest> sent = server.findAll(getRequestedFor(urlEqualTo("/pets"))
+                .withHeader("X-Case", equalTo("lower-case authorization")));
+        Assert.assertEquals(sent.size(), 1);
+        Assert.assertEquals(sent.get(0).getHeaders().getHeader("Authorization").values(),
+                List.of("Bearer caller-token"));
+    }
+
+    private TransportRequest request() {
+        return TransportRequest.builder()
+                .method(Method.GET)
+                .baseUri(server.baseUrl())
+                .endpoint("/pets")
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package org.framework.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.response.Response;
+import org.framework.listeners.TestListener;
+import org.framework.reports.ApiLatencies;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class LatencyFilterTest {
+    private static final int DELAY_MS = 50;
+    private static final int DRIBBLE_MS = 400;
+
+    private WireMockServer server;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        server.stubFor(get(urlPathMatching("/pet/\\d+")).willReturn(aResponse().withStatus(200)
+                .withFixedDelay(DELAY_MS).withBody("{}")));
+        server.stubFor(get(urlPathMatching("/store/order/\\d+")).willReturn(aResponse().withStatus(404)));
+        server.stubFor(get(urlPathMatching("/pet/findBy.*")).willReturn(aResponse().withStatus(200)
+                .withBody("[" + "{\"status\":\"available\"},".repeat(1_000) + "{}]")
+                .withChunkedDribbleDelay(4, DRIBBLE_MS)));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void callsAreRecordedUnderTheirEndpointTemplate() {
+        for (int petId = 1; petId <= 3; petId++) {
+            RequestSpecFactory.given().baseUri(server.baseUrl()).get("/pet/{petId}", petId);
+        }
+        // Ids typed into the path collapse to {id}, so each order still lands on one key; failures count too
+        RequestSpecFactory.given().baseUri(server.baseUrl()).get("/store/order/7");
+        RequestSpecFactory.given().baseUri(server.baseUrl()).get("/store/order/8");
+
+        ApiLatencies.Summary pets = ApiLatencies.snapshot().get(LatencyFilter.key("GET", server.baseUrl(), "/pet/{petId}"));
+        Assert.assertNotNull(pets, ApiLatencies.snapshot().keySet().toString());
+        Assert.assertEquals(pets.getCount(), 3);
+        Assert.assertTrue(pets.getP50() >= DELAY_MS, pets.toString());
+        Assert.assertTrue(pets.getMax() >= pets.getP99() && pets.getP99() >= pets.getP50(), pets.toString());
+
+        ApiLatencies.Summary orders = ApiLatencies.snapshot().get(LatencyFilter.key("GET", server.baseUrl(), "/store/order/{id}"));
+        Assert.assertNotNull(orders, ApiLatencies.snapshot().keySet().toString());
+        Assert.assertEquals(orders.getCount(), 2);
+    }
+
+    @Test
+    public void latencyIncludesTheBodyDownload() {
+        RequestSpecFactory.given().baseUri(server.baseUrl()).get("/pet/findByStatus");
+
+        ApiLatencies.Summary summary = ApiLatencies.snapshot()
+                .get(LatencyFilter.key("GET", server.baseUrl(), "/pet/findByStatus"));
+        Assert.assertNotNull(summary, ApiLatencies.snapshot().keySet().toString());
+        // The head arrives right away, the chunks of the body over DRIBBLE_MS
+        Assert.assertTrue(summary.getP50() >= DRIBBLE_MS / 2.0, summary.toString());
+    }
+
+    @Test
+    public void streamedBodyIsRecordedOnceRead() throws Exception {
+        String key = LatencyFilter.key("GET", server.baseUrl(), "/pet/findByTags");
+        Response response = ConnectionReleaseFilter.streamBody(RequestSpecFactory.given()).baseUri(server.baseUrl())
+                .get("/pet/findByTags");
+        Assert.assertNull(ApiLatencies.snapshot().get(key), "nothing should be recorded before the body is read");
+
+        try (InputStream body = response.getBody().asInputStream()) {
+            body.readAllBytes();
+        }
+
+        ApiLatencies.Summary summary = ApiLatencies.snapshot().get(key);
+        Assert.assertNotNull(summary, ApiLatencies.snapshot().keySet().toString());
+        Assert.assertEquals(summary.getCount(), 1);
+        Assert.assertTrue(summary.getP50() >= DRIBBLE_MS / 2.0, summary.toString());
+    }
+
+    @Test
+    public void suiteFinishPublishesEveryEndpoint() {
+        String endpoint = "GET listener.test/pet/{petId}";
+        ApiLatencies.record(endpoint, 12_000_000);
+
+        String output = captureOutput(() -> new TestListener().onFinish(context("latency-suite")));
+
+        Assert.assertTrue(output.contains("[LATENCY] " + endpoint + " count=1 p50=12.0ms"), output);
+    }
+
+    private static ITestContext context(String name) {
+        return (ITestContext) Proxy.newProxyInstance(ITestContext.class.getClassLoader(),
+                new Class<?>[]{ITestContext.class},
+                (proxy, method, args) -> method.getName().equals("getName") ? name : null);
+    }
+
+    private static String captureOutput(Runnable action) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            action.run();
+        } finally {
+            System.setOut(original);
+        }
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+}
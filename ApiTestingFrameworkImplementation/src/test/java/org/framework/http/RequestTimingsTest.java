@@ -0,0 +1,158 @@
+package org.framework.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.framework.execution.ApiExecutors;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class RequestTimingsTest {
+    private static final int HEAD_DELAY_MS = 200;
+    private static final int DRIBBLE_MS = 400;
+
+    private WireMockServer server;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        server.stubFor(get(urlEqualTo("/pet/findByStatus")).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("[" + "{\"status\":\"available\"},".repeat(1_000) + "{}]")
+                .withFixedDelay(HEAD_DELAY_MS)
+                .withChunkedDribbleDelay(4, DRIBBLE_MS)));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void endTest() {
+        RequestTimings.endTest();
+    }
+
+    @Test
+    public void phasesSplitTheWaitForTheHeadFromTheBodyDownload() {
+        Response response = RequestSpecFactory.given().baseUri(server.baseUrl()).get("/pet/findByStatus");
+
+        RequestTiming timing = RequestTimings.of(response);
+        Assert.assertNotNull(timing);
+        Assert.assertTrue(timing.getTtfbMillis() >= HEAD_DELAY_MS, timing.toString());
+        // The four chunks are spread over DRIBBLE_MS, the last three after the head
+        Assert.assertTrue(timing.getDownloadMillis() >= DRIBBLE_MS / 2.0, timing.toString());
+        Assert.assertTrue(timing.getTotalMillis() >= timing.getTtfbMillis() + timing.getDownloadMillis(),
+                timing.toString());
+        Assert.assertEquals(timing.getStatusCode(), 200);
+    }
+
+    @Test
+    public void streamedBodyIsTimedUntilItIsRead() throws Exception {
+        RequestTimings.startTest();
+        Response response = ConnectionReleaseFilter.streamBody(RequestSpecFactory.given()).baseUri(server.baseUrl())
+                .get("/pet/findByStatus");
+        RequestTiming timing = RequestTimings.of(response);
+        Assert.assertNotNull(timing, "the timing should be found while the body is still streaming");
+        Assert.assertTrue(RequestTimings.forCurrentTest().isEmpty(), "the call has not finished yet");
+
+        try (InputStream body = response.getBody().asInputStream()) {
+            body.readAllBytes();
+        }
+
+        Assert.assertEquals(RequestTimings.forCurrentTest(), List.of(timing));
+        Assert.assertTrue(timing.getTtfbMillis() >= HEAD_DELAY_MS, timing.toString());
+        Assert.assertTrue(timing.getDownloadMillis() >= DRIBBLE_MS / 2.0, timing.toString());
+        double total = timing.getTotalMillis();
+        Thread.sleep(50);
+        Assert.assertEquals(timing.getTotalMillis(), total, "the timing should have stopped at the end of the body");
+    }
+
+    @Test
+    public void callsOnPoolThreadsCountForTheTestThatSubmittedThem() throws Exception {
+        RequestTimings.startTest();
+
+        CompletableFuture.runAsync(() -> call("GET /pool"), ApiExecutors.executor()).get(5, TimeUnit.SECONDS);
+        ApiExecutors.delay(20, TimeUnit.MILLISECONDS, ApiExecutors.executor())
+                .thenRun(() -> call("GET /timer"))
+                .get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(endpoints(RequestTimings.forCurrentTest()), List.of("GET /pool", "GET /timer"));
+    }
+
+    @Test
+    public void callFinishingOnAnotherThreadCountsForTheTestThatStartedIt() throws Exception {
+        RequestTimings.startTest();
+        RequestTiming timing = RequestTimings.start();
+        timing.setEndpoint("GET /handover");
+
+        Thread completer = new Thread(() -> RequestTimings.complete(timing, response()));
+        completer.start();
+        completer.join();
+
+        Assert.assertEquals(endpoints(RequestTimings.forCurrentTest()), List.of("GET /handover"));
+    }
+
+    @Test
+    public void poolThreadsDoNotKeepTheTestAfterTheTask() throws Exception {
+        RequestTimings.startTest();
+        CompletableFuture.runAsync(() -> { }, ApiExecutors.executor()).get(5, TimeUnit.SECONDS);
+        RequestTimings.endTest();
+
+        Assert.assertNull(CompletableFuture.supplyAsync(RequestTimings::currentTestTimings, ApiExecutors.executor())
+                .get(5, TimeUnit.SECONDS));
+        Executor direct = Runnable::run;
+        Assert.assertSame(RequestTimings.inCurrentTest(direct), direct, "Outside a test the executor is returned as is");
+    }
+
+    @Test
+    public void timingIsFoundByItsResponseFromAnyThread() throws Exception {
+        List<CompletableFuture<Response>> calls = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int index = i;
+            calls.add(CompletableFuture.supplyAsync(() -> call("GET /item/" + index), ApiExecutors.executor()));
+        }
+
+        for (int i = 0; i < calls.size(); i++) {
+            RequestTiming timing = RequestTimings.of(calls.get(i).get(5, TimeUnit.SECONDS));
+            Assert.assertNotNull(timing);
+            Assert.assertEquals(timing.getEndpoint(), "GET /item/" + i);
+        }
+        Assert.assertNull(RequestTimings.of(response()), "A response that was not timed has no timing");
+    }
+
+    private static Response call(String endpoint) {
+        RequestTiming timing = RequestTimings.start();
+        timing.setEndpoint(endpoint);
+        Response response = response();
+        RequestTimings.complete(timing, response);
+        return response;
+    }
+
+    private static Response response() {
+        return new ResponseBuilder().setStatusCode(200).setHeader("Content-Type", "application/json")
+                .setBody("{}").build();
+    }
+
+    private static List<String> endpoints(List<RequestTiming> timings) {
+        List<String> endpoints = new ArrayList<>();
+        timings.forEach(timing -> endpoints.add(timing.getEndpoint()));
+        return endpoints;
+    }
+}
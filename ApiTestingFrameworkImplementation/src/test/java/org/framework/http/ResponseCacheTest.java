@@ -0,0 +1,123 @@
+package org.framework.http;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ResponseCacheTest {
+
+    @Test
+    public void keyIsIndependentOfParameterOrder() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("status", "sold");
+        first.put("limit", 10);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("limit", 10);
+        second.put("status", "sold");
+
+        Assert.assertEquals(ResponseCache.key("/pet", first, null), ResponseCache.key("/pet", second, null));
+        Assert.assertNotEquals(ResponseCache.key("/pet", first, null),
+                ResponseCache.key("/pet", first, Map.of("Accept", "application/xml")));
+        Assert.assertEquals(ResponseCache.key("/pet", Map.of(), Map.of()), "/pet");
+    }
+
+    @Test
+    public void authenticationKeyTellsCredentialsApart() {
+        String alice = ResponseCache.authenticationKey(RestAssured.preemptive().basic("alice", "secret"));
+        String bob = ResponseCache.authenticationKey(RestAssured.preemptive().basic("bob", "secret"));
+        String token = ResponseCache.authenticationKey(RestAssured.oauth2("token"));
+
+        Assert.assertEquals(ResponseCache.authenticationKey(null), "");
+        Assert.assertEquals(ResponseCache.authenticationKey(RestAssured.DEFAULT_AUTH), "");
+        Assert.assertNotEquals(alice, bob);
+        Assert.assertNotEquals(token, ResponseCache.authenticationKey(RestAssured.oauth2("other")));
+        Assert.assertFalse(alice.contains("secret") || token.contains("token"), "the secret should only be hashed");
+        Assert.assertNotEquals(ResponseCache.key("/pet", null, null, alice), ResponseCache.key("/pet", null, null, bob));
+        Assert.assertNull(ResponseCache.authenticationKey(RestAssured.form("alice", "secret")),
+                "a scheme whose credentials cannot be compared is not cacheable");
+    }
+
+    @Test
+    public void headerValuesAreHashedIntoTheKey() {
+        String alice = ResponseCache.key("/pet", null, Map.of("Authorization", "Bearer alice-token"));
+        String bob = ResponseCache.key("/pet", null, Map.of("Authorization", "Bearer bob-token"));
+
+        Assert.assertNotEquals(alice, bob);
+        Assert.assertFalse(alice.contains("alice-token"), "the header value should only be hashed: " + alice);
+        Assert.assertEquals(alice, ResponseCache.key("/pet", null, Map.of("Authorization", "Bearer alice-token")));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntry() {
+        ResponseCache cache = new ResponseCache(2, 60_000);
+        cache.put("a", response(null));
+        cache.put("b", response(null));
+        cache.get("a");
+
+        cache.put("c", response(null));
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertNotNull(cache.get("a"));
+        Assert.assertNull(cache.get("b"), "b was the least recently used entry");
+        Assert.assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    public void noStoreResponsesAreNotCached() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+
+        cache.put("a", response("private, no-store"));
+
+        Assert.assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void entryExpiresAfterTtlAndRefreshRenewsIt() throws InterruptedException {
+        ResponseCache cache = new ResponseCache(10, 50);
+        cache.put("a", response(null));
+        ResponseCache.Entry entry = cache.get("a");
+        Assert.assertTrue(entry.isFresh());
+
+        Thread.sleep(80);
+        Assert.assertFalse(entry.isFresh());
+
+        entry.refresh();
+        Assert.assertTrue(entry.isFresh());
+    }
+
+    @Test
+    public void validatorsComeFromTheResponseHeaders() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        cache.put("etag", new ResponseBuilder().setStatusCode(200).setHeader("ETag", "\"v1\"").setBody("{}").build());
+        cache.put("plain", response(null));
+
+        Assert.assertEquals(cache.get("etag").getEtag(), "\"v1\"");
+        Assert.assertTrue(cache.get("etag").canRevalidate());
+        Assert.assertFalse(cache.get("plain").canRevalidate());
+    }
+
+    @Test
+    public void cachedBodyCanBeReadRepeatedly() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        cache.put("a", response(null));
+
+        Response cached = cache.get("a").getResponse();
+
+        Assert.assertEquals(cached.asString(), "{\"id\":1}");
+        Assert.assertEquals(cached.asString(), "{\"id\":1}");
+    }
+
+    private static Response response(String cacheControl) {
+        ResponseBuilder builder = new ResponseBuilder().setStatusCode(200)
+                .setHeader("Content-Type", "application/json").setBody("{\"id\":1}");
+        if (cacheControl != null) {
+            builder.setHeader("Cache-Control", cacheControl);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,45 @@
+package org.framework.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class RestAssuredTransportTest {
+    private WireMockServer server;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        server.stubFor(get(urlEqualTo("/profile")).withBasicAuth("alice", "secret")
+                .willReturn(aResponse().withStatus(200).withBody("{\"user\":\"alice\"}")));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void authenticatedRequestKeepsItsBaseUri() {
+        Response response = new RestAssuredTransport().send(TransportRequest.builder()
+                .method(Method.GET)
+                .baseUri(server.baseUrl())
+                .endpoint("/profile")
+                .authentication(RestAssured.preemptive().basic("alice", "secret"))
+                .build());
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.asString(), "{\"user\":\"alice\"}");
+    }
+}
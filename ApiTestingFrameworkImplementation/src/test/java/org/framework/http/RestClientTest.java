@@ -0,0 +1,60 @@
+package org.framework.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class RestClientTest {
+    private WireMockServer server;
+
+    @BeforeClass
+    public void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        server.stubFor(get(urlEqualTo("/pet/1")).willReturn(aResponse().withStatus(200).withBody("{\"id\":1}")));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void clientWithoutBaseUriUsesRestAssuredBaseUriAsItIsAtCallTime() {
+        RestClient client = RestClient.builder().build();
+        RequestSpecification operation = client.template(builder -> builder.addHeader("X-Operation", "getPet"));
+        // Set after the client and its template are built, as a test's @BeforeClass would
+        String previous = RestAssured.baseURI;
+        RestAssured.baseURI = server.baseUrl();
+        try {
+            Response response = client.given().get("/pet/1");
+            Assert.assertEquals(response.getStatusCode(), 200);
+            Assert.assertEquals(response.asString(), "{\"id\":1}");
+            Assert.assertEquals(client.given(operation).get("/pet/1").getStatusCode(), 200);
+        } finally {
+            RestAssured.baseURI = previous;
+        }
+    }
+
+    @Test
+    public void clientBaseUriWinsOverRestAssuredBaseUri() {
+        RestClient client = RestClient.builder().baseUri(server.baseUrl()).build();
+        String previous = RestAssured.baseURI;
+        RestAssured.baseURI = "http://localhost:1";
+        try {
+            Assert.assertEquals(client.given().get("/pet/1").getStatusCode(), 200);
+        } finally {
+            RestAssured.baseURI = previous;
+        }
+    }
+}
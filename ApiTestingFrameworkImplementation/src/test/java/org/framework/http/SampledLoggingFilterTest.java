@@ -0,0 +1,101 @@
+package org.framework.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+public class SampledLoggingFilterTest {
+    private static final String BODY = "{\"id\":1,\"name\":\"doggie\",\"status\":\"available\"}";
+
+    private WireMockServer server;
+
+    @BeforeClass
+    public void startServer() {
+        // Uncompressed so Content-Length is the body size
+        server = new WireMockServer(options().dynamicPort().gzipDisabled(true));
+        server.start();
+        server.stubFor(get(urlEqualTo("/pet/1")).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Length", String.valueOf(BODY.length())).withBody(BODY)));
+        // Dribbled in chunks, so no Content-Length
+        server.stubFor(get(urlEqualTo("/chunked")).willReturn(aResponse().withStatus(200).withBody(BODY)
+                .withChunkedDribbleDelay(3, 30)));
+        server.stubFor(get(urlEqualTo("/missing")).willReturn(aResponse().withStatus(404).withBody(BODY)));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void logsOnlyTheFirstBytesAndLeavesTheBodyIntact() {
+        CapturingAppender appender = new CapturingAppender();
+
+        Response response = RestAssured.given()
+                .filter(new SampledLoggingFilter(1, 8, appender))
+                .get(server.baseUrl() + "/pet/1");
+
+        Assert.assertEquals(response.asString(), BODY, "The test must still read the whole body");
+        Assert.assertEquals(appender.messages.size(), 1);
+        String message = appender.messages.get(0).get();
+        Assert.assertTrue(message.contains(" -> 200 "), message);
+        Assert.assertTrue(message.endsWith("Body: {\"id\":1,... [truncated, " + BODY.length() + " bytes total]"), message);
+    }
+
+    @Test
+    public void bodyOfUnknownLengthIsMarkedTruncated() {
+        CapturingAppender appender = new CapturingAppender();
+
+        Response response = RestAssured.given()
+                .filter(new SampledLoggingFilter(1, 8, appender))
+                .get(server.baseUrl() + "/chunked");
+
+        Assert.assertEquals(response.asString(), BODY);
+        String message = appender.messages.get(0).get();
+        // "[truncated]" when streamed; RestAssured buffers bodies once response logging is enabled, the length is then known
+        Assert.assertTrue(message.contains("Body: {\"id\":1,... [truncated"), message);
+    }
+
+    @Test
+    public void samplesSuccessesButAlwaysLogsFailures() {
+        CapturingAppender appender = new CapturingAppender();
+        SampledLoggingFilter filter = new SampledLoggingFilter(1_000, 64, appender);
+
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given().filter(filter).get(server.baseUrl() + "/pet/1");
+        }
+        RestAssured.given().filter(filter).get(server.baseUrl() + "/missing");
+
+        Assert.assertEquals(appender.messages.size(), 2, "First success of the sample and the 404");
+        Assert.assertTrue(appender.messages.get(1).get().contains(" -> 404 "));
+        Assert.assertTrue(appender.messages.get(1).get().endsWith("Body: " + BODY));
+    }
+
+    // Keeps the messages unformatted so the test decides when the body is touched
+    private static final class CapturingAppender extends AsyncLogAppender {
+        private final List<Supplier<String>> messages = new CopyOnWriteArrayList<>();
+
+        private CapturingAppender() {
+            super("test-log-appender", 1);
+        }
+
+        @Override
+        public void append(Logger target, Level level, Supplier<String> message) {
+            messages.add(message);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.framework.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class UriTemplateTest {
+
+    @Test
+    public void expandsSingleVariableIntoEveryOccurrence() {
+        UriTemplate template = UriTemplate.of("https://petstore.swagger.io/v2/pet/{petId}");
+        Assert.assertEquals(template.expand(7), "https://petstore.swagger.io/v2/pet/7");
+        Assert.assertEquals(template.expand(7L), "https://petstore.swagger.io/v2/pet/7");
+        Assert.assertEquals(template.expand("doggie"), "https://petstore.swagger.io/v2/pet/doggie");
+
+        UriTemplate repeated = UriTemplate.of("/copy/{id}/to/{id}");
+        Assert.assertEquals(repeated.getVariableNames(), List.of("id"));
+        Assert.assertEquals(repeated.expand(3), "/copy/3/to/3");
+    }
+
+    @Test
+    public void expandsVarargsAndMapInVariableOrder() {
+        UriTemplate template = UriTemplate.of("/users/{userId}/books/{isbn}");
+        Assert.assertEquals(template.getVariableNames(), List.of("userId", "isbn"));
+        Assert.assertEquals(template.expand(42, "978-1"), "/users/42/books/978-1");
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("isbn", "978-1");
+        values.put("userId", 42);
+        Assert.assertEquals(template.expand(values), "/users/42/books/978-1");
+
+        Assert.assertEquals(UriTemplate.of("/store/inventory").expand(), "/store/inventory");
+    }
+
+    @Test
+    public void encodesVariablesAsOnePathSegment() {
+        UriTemplate template = UriTemplate.of("/user/{username}");
+        Assert.assertEquals(template.expand("a/b c"), "/user/a%2Fb%20c");
+        Assert.assertEquals(template.expand("café?x=1"), "/user/caf%C3%A9%3Fx%3D1");
+        Assert.assertEquals(template.expand("unreserved-._~"), "/user/unreserved-._~");
+        Assert.assertEquals(UriTemplate.encodePathSegment("a/b c"), "a%2Fb%20c");
+        Assert.assertEquals(UriTemplate.encodePathSegment(12), "12");
+    }
+
+    @Test
+    public void literalsKeepUrlStructureAndExistingEscapes() {
+        UriTemplate template = UriTemplate.of("https://host:8080/a%20b/pet list/{id}?x=1&y=2#top");
+        Assert.assertEquals(template.expand(5), "https://host:8080/a%20b/pet%20list/5?x=1&y=2#top");
+        Assert.assertEquals(template.toString(), "https://host:8080/a%20b/pet list/{id}?x=1&y=2#top");
+        Assert.assertEquals(template.getTemplate(), template.toString());
+    }
+
+    @Test
+    public void rejectsMalformedTemplatesAndMissingValues() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> UriTemplate.of("/pet/{petId"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> UriTemplate.of("/pet/{ }"));
+
+        UriTemplate template = UriTemplate.of("/users/{userId}/books/{isbn}");
+        Assert.assertThrows(IllegalArgumentException.class, () -> template.expand(1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> template.expand(1, 2, 3));
+        Assert.assertThrows(IllegalArgumentException.class, () -> template.expand(Map.of("userId", 1)));
+        Assert.assertThrows(IllegalArgumentException.class, () -> template.expand(1, null));
+    }
+
+    @Test
+    public void cacheSharesTemplatesAndStaysBounded() {
+        Assert.assertSame(UriTemplate.of("/pet/{petId}/uploadImage"), UriTemplate.of("/pet/{petId}/uploadImage"));
+
+        for (int i = 0; i < UriTemplate.MAX_CACHED + 50; i++) {
+            UriTemplate template = UriTemplate.of("/bounded/" + i + "/{id}");
+            Assert.assertEquals(template.expand(i), "/bounded/" + i + "/" + i);
+        }
+        Assert.assertTrue(UriTemplate.cacheSize() <= UriTemplate.MAX_CACHED,
+                "cache grew to " + UriTemplate.cacheSize() + " templates");
+    }
+}
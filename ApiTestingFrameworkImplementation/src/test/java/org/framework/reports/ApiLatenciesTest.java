@@ -0,0 +1,71 @@
+package org.framework.reports;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ApiLatenciesTest {
+    // HdrHistogram keeps 3 significant digits, so a reported value is within 0.1% of the recorded one
+    private static final double TOLERANCE = 0.001;
+
+    @Test
+    public void percentilesComeFromTheRecordedLatencies() {
+        String endpoint = "GET percentiles.test/pet/{petId}";
+        for (int millis = 1; millis <= 1000; millis++) {
+            ApiLatencies.record(endpoint, TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        ApiLatencies.Summary summary = ApiLatencies.snapshot().get(endpoint);
+
+        Assert.assertEquals(summary.getCount(), 1000);
+        assertClose(summary.getP50(), 500);
+        assertClose(summary.getP90(), 900);
+        assertClose(summary.getP99(), 990);
+        assertClose(summary.getP999(), 999);
+        assertClose(summary.getMax(), 1000);
+    }
+
+    @Test
+    public void endpointsAreKeptApartAndSnapshotsAccumulate() {
+        String fast = "GET accumulate.test/fast";
+        String slow = "GET accumulate.test/slow";
+        ApiLatencies.record(fast, TimeUnit.MILLISECONDS.toNanos(2));
+        ApiLatencies.record(slow, TimeUnit.MILLISECONDS.toNanos(200));
+        Assert.assertEquals(ApiLatencies.snapshot().get(fast).getCount(), 1);
+
+        // Recorded after the first read: the next snapshot adds them to what it already reported
+        ApiLatencies.record(fast, TimeUnit.MILLISECONDS.toNanos(4));
+
+        Assert.assertEquals(ApiLatencies.snapshot().get(fast).getCount(), 2);
+        assertClose(ApiLatencies.snapshot().get(fast).getMax(), 4);
+        Assert.assertEquals(ApiLatencies.snapshot().get(slow).getCount(), 1);
+        assertClose(ApiLatencies.snapshot().get(slow).getP50(), 200);
+    }
+
+    @Test
+    public void concurrentWritersLoseNoCalls() throws Exception {
+        String endpoint = "GET concurrent.test/pet/{id}";
+        List<CompletableFuture<Void>> writers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            writers.add(CompletableFuture.runAsync(() -> {
+                for (int call = 0; call < 1000; call++) {
+                    ApiLatencies.record(endpoint, TimeUnit.MILLISECONDS.toNanos(1));
+                    if (call % 100 == 0) {
+                        ApiLatencies.snapshot();
+                    }
+                }
+            }));
+        }
+        CompletableFuture.allOf(writers.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        Assert.assertEquals(ApiLatencies.snapshot().get(endpoint).getCount(), 8000);
+    }
+
+    private static void assertClose(double actualMillis, double expectedMillis) {
+        Assert.assertEquals(actualMillis, expectedMillis, expectedMillis * TOLERANCE + 0.001);
+    }
+}
@@ -0,0 +1,118 @@
+package org.framework.resilience;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void staysClosedUntilMinimumCallsAreRecorded() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 4, 50.0, 60_000, 1);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(breaker.tryAcquirePermission());
+            breaker.onFailure();
+        }
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED, "3 calls are below the minimum of 4");
+    }
+
+    @Test
+    public void tripsAtFailureRateAndRejectsWhileOpen() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 4, 50.0, 60_000, 1);
+        List<String> transitions = recordTransitions(breaker);
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN, "2 of 4 calls failed");
+        Assert.assertFalse(breaker.tryAcquirePermission());
+        Assert.assertEquals(transitions, List.of("CLOSED->OPEN"));
+    }
+
+    @Test
+    public void slidingWindowForgetsOldFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 75.0, 60_000, 1);
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        // Window is now [S, S, F] plus the failure below: 50%, the first two failures have slid out
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void halfOpenLimitsProbesAndClosesWhenAllSucceed() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, 2, 100.0, 0, 2);
+        List<String> transitions = recordTransitions(breaker);
+        breaker.onFailure();
+        breaker.onFailure();
+
+        Assert.assertTrue(breaker.tryAcquirePermission());
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        Assert.assertTrue(breaker.tryAcquirePermission());
+        Assert.assertFalse(breaker.tryAcquirePermission(), "Only 2 probes may be in flight");
+
+        breaker.onSuccess();
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+        Assert.assertEquals(transitions, List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"));
+    }
+
+    @Test
+    public void failedProbeReopens() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, 100.0, 0, 1);
+        breaker.onFailure();
+        Assert.assertTrue(breaker.tryAcquirePermission());
+
+        breaker.onFailure();
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void closingResetsTheWindow() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 2, 50.0, 0, 1);
+        breaker.onFailure();
+        breaker.onFailure();
+        Assert.assertTrue(breaker.tryAcquirePermission());
+        breaker.onSuccess();
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED,
+                "Failures from before the breaker opened must not count again");
+    }
+
+    @Test
+    public void registrySharesBreakersPerKeyAndAddsListeners() {
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(1, 1, 100.0, 60_000, 1);
+        List<String> names = new ArrayList<>();
+        registry.addListener((name, from, to, reason) -> names.add(name));
+
+        CircuitBreaker breaker = registry.get("host/pet/{id}");
+        Assert.assertSame(registry.get("host/pet/{id}"), breaker);
+        Assert.assertNotSame(registry.get("host/user/{id}"), breaker);
+
+        breaker.onFailure();
+        Assert.assertEquals(names, List.of("host/pet/{id}"));
+    }
+
+    private static List<String> recordTransitions(CircuitBreaker breaker) {
+        List<String> transitions = new ArrayList<>();
+        breaker.addListener((name, from, to, reason) -> transitions.add(from + "->" + to));
+        return transitions;
+    }
+}
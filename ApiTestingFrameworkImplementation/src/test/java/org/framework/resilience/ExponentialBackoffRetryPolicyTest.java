@@ -0,0 +1,103 @@
+package org.framework.resilience;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.framework.Utility.ApiUtil.ApiException;
+import org.framework.Utility.ApiUtil.ApiTimeoutException;
+import org.framework.http.Timeouts;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+
+public class ExponentialBackoffRetryPolicyTest {
+    private final ExponentialBackoffRetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 100, 1_000, 5_000);
+
+    @Test
+    public void retriesServerErrorsAndTooManyRequestsOnly() {
+        Assert.assertTrue(policy.isRetryable(failure(500)));
+        Assert.assertTrue(policy.isRetryable(failure(503)));
+        Assert.assertTrue(policy.isRetryable(failure(429)));
+        Assert.assertFalse(policy.isRetryable(failure(404)));
+        Assert.assertFalse(policy.isRetryable(failure(400)));
+    }
+
+    @Test
+    public void retriesConnectAndReadTimeoutsButNotAnExpiredDeadline() {
+        Assert.assertTrue(policy.isRetryable(timeout(Timeouts.CONNECT)));
+        Assert.assertTrue(policy.isRetryable(timeout(Timeouts.READ)));
+        Assert.assertFalse(policy.isRetryable(timeout(Timeouts.DEADLINE)));
+    }
+
+    @Test
+    public void backoffStaysWithinTheExponentialCeiling() {
+        for (int i = 0; i < 500; i++) {
+            Assert.assertTrue(policy.backoffMillis(failure(500), 1) <= 100);
+            Assert.assertTrue(policy.backoffMillis(failure(500), 3) <= 400);
+            Assert.assertTrue(policy.backoffMillis(failure(500), 10) <= 1_000, "capped at maxDelay");
+        }
+    }
+
+    @Test
+    public void largeAttemptNumbersDoNotOverflow() {
+        long delay = policy.backoffMillis(failure(500), Integer.MAX_VALUE);
+        Assert.assertTrue(delay >= 0 && delay <= 1_000, "delay " + delay);
+    }
+
+    @Test
+    public void retryAfterSecondsWinsOverTheComputedDelay() {
+        Assert.assertEquals(policy.backoffMillis(failure(503, "2"), 1), 2_000);
+        Assert.assertEquals(policy.backoffMillis(failure(429, " 3 "), 1), 3_000);
+    }
+
+    @Test
+    public void retryAfterIsCappedAtMaxRetryAfter() {
+        Assert.assertEquals(policy.backoffMillis(failure(429, "3600"), 1), 5_000);
+    }
+
+    @Test
+    public void retryAfterHttpDateIsParsed() {
+        String inTwoSeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(2));
+        long delay = policy.backoffMillis(failure(503, inTwoSeconds), 1);
+        // RFC 1123 has whole seconds, so up to one second is lost
+        Assert.assertTrue(delay > 500 && delay <= 2_000, "delay " + delay);
+    }
+
+    @Test
+    public void retryAfterInThePastMeansNoWait() {
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+        Assert.assertEquals(policy.backoffMillis(failure(503, past), 1), 0);
+    }
+
+    @Test
+    public void retryAfterIsIgnoredWhenUnparsableOrNotApplicable() {
+        Assert.assertTrue(policy.backoffMillis(failure(503, "soon"), 1) <= 100);
+        // Only 429 and 503 carry a meaningful Retry-After
+        Assert.assertTrue(policy.backoffMillis(failure(500, "60"), 1) <= 100);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsLessThanOneAttempt() {
+        new ExponentialBackoffRetryPolicy(0, 100, 1_000, 5_000);
+    }
+
+    private static ApiException failure(int status) {
+        return new ApiException(status, "status " + status);
+    }
+
+    private static ApiException failure(int status, String retryAfter) {
+        Response response = new ResponseBuilder()
+                .setStatusCode(status)
+                .setHeader("Retry-After", retryAfter)
+                .setBody("")
+                .build();
+        return new ApiException(status, "status " + status, response);
+    }
+
+    private static ApiTimeoutException timeout(String phase) {
+        return new ApiTimeoutException("Timed out", phase, 1_000, 1_000, Collections.singletonList(1_000L), 0, null);
+    }
+}
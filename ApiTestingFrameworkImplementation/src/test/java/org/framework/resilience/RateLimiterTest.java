@@ -0,0 +1,148 @@
+package org.framework.resilience;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RateLimiterTest {
+
+    @Test
+    public void zeroRateIsUnlimited() {
+        RateLimiter limiter = new RateLimiter("host", 0, 1);
+
+        Assert.assertTrue(limiter.isUnlimited());
+        for (int i = 0; i < 1_000; i++) {
+            Assert.assertTrue(limiter.tryAcquire());
+        }
+        Assert.assertEquals(limiter.reserve(), 0);
+    }
+
+    @Test
+    public void burstIsGrantedAtOnceThenRateApplies() {
+        // One permit per 10 s, so the clock cannot refill the bucket during the test
+        RateLimiter limiter = new RateLimiter("host", 0.1, 3);
+
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertFalse(limiter.tryAcquire(), "Burst of 3 is used up");
+    }
+
+    @Test
+    public void reserveReturnsTheWaitForTheNextSlot() {
+        RateLimiter limiter = new RateLimiter("host", 0.1, 1);
+
+        Assert.assertEquals(limiter.reserve(), 0);
+        long waitNanos = limiter.reserve();
+
+        Assert.assertTrue(waitNanos > TimeUnit.SECONDS.toNanos(9) && waitNanos <= TimeUnit.SECONDS.toNanos(10),
+                "Second permit is one interval (10 s) away, got " + waitNanos);
+        Assert.assertFalse(limiter.tryAcquire(), "Reserved permits count against the rate");
+    }
+
+    @Test
+    public void boundedReserveLeavesAPermitThatIsTooFarAway() {
+        RateLimiter limiter = new RateLimiter("host", 0.1, 1);
+        limiter.reserve();
+
+        Assert.assertEquals(limiter.reserve(TimeUnit.SECONDS.toNanos(1)), -1);
+        long waitNanos = limiter.reserve(TimeUnit.SECONDS.toNanos(11));
+
+        Assert.assertTrue(waitNanos <= TimeUnit.SECONDS.toNanos(10),
+                "The refused call must not have taken a slot, got " + waitNanos);
+    }
+
+    @Test
+    public void boundedAcquireReturnsAtOnceWhenThePermitIsTooFarAway() throws Exception {
+        RateLimiter limiter = new RateLimiter("host", 0.1, 1);
+        limiter.acquire();
+
+        long start = System.nanoTime();
+        Assert.assertEquals(limiter.acquire(TimeUnit.MILLISECONDS.toNanos(100)), -1);
+        Assert.assertEquals(limiter.acquireAsync(Runnable::run, TimeUnit.MILLISECONDS.toNanos(100))
+                .get(1, TimeUnit.SECONDS).longValue(), -1);
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    public void acquireWaitsForThePermit() {
+        RateLimiter limiter = new RateLimiter("host", 20, 1);
+        limiter.acquire();
+
+        long start = System.nanoTime();
+        long waitNanos = limiter.acquire();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertTrue(waitNanos > 0);
+        Assert.assertTrue(elapsedMillis >= 40, "Waited " + elapsedMillis + "ms for a 50ms interval");
+    }
+
+    @Test
+    public void interruptedAcquireThrowsAndKeepsTheFlag() {
+        RateLimiter limiter = new RateLimiter("host", 0.1, 1);
+        limiter.acquire();
+
+        Thread.currentThread().interrupt();
+        try {
+            Assert.expectThrows(IllegalStateException.class, limiter::acquire);
+            Assert.assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void acquireAsyncCompletesAfterTheWaitWithoutBlocking() throws Exception {
+        RateLimiter limiter = new RateLimiter("host", 20, 1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assert.assertEquals(limiter.acquireAsync(executor).get(), Long.valueOf(0));
+
+            CompletableFuture<Long> next = limiter.acquireAsync(executor);
+            Assert.assertFalse(next.isDone(), "Second permit is 50ms away");
+            Assert.assertTrue(next.get(1, TimeUnit.SECONDS) > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentCallersNeverExceedTheBurst() throws Exception {
+        RateLimiter limiter = new RateLimiter("host", 0.1, 5);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture<?>[] callers = new CompletableFuture<?>[8];
+            for (int i = 0; i < callers.length; i++) {
+                callers[i] = CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        if (limiter.tryAcquire()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(callers).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(granted.get(), 5);
+    }
+
+    @Test
+    public void registryUsesConfiguredLimitPerHost() {
+        RateLimiterRegistry registry = new RateLimiterRegistry(0, 10);
+        registry.configure("slow.example", 2, 4);
+
+        Assert.assertTrue(registry.get("fast.example").isUnlimited());
+        Assert.assertSame(registry.get("fast.example"), registry.get("fast.example"));
+        Assert.assertEquals(registry.get("slow.example").getPermitsPerSecond(), 2.0);
+        Assert.assertEquals(registry.get("slow.example").getBurst(), 4);
+    }
+}
@@ -0,0 +1,208 @@
+package org.framework.resilience;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Which call wins is decided by latches, not by timing: the hedge delay only has to pass once.
+ */
+public class RequestHedgerTest {
+    private static final long HEDGE_DELAY_MILLIS = 20;
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void startExecutor() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void fastPrimaryIsNotHedged() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger(budget()).execute("key", () -> {
+            calls.incrementAndGet();
+            return "primary";
+        }, () -> true);
+
+        Assert.assertEquals(result, "primary");
+        Assert.assertEquals(calls.get(), 1);
+    }
+
+    @Test
+    public void hedgeWinsWhenPrimaryIsStuck() {
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+        try {
+            String result = hedger(budget()).execute("key", calls(
+                    () -> await(releasePrimary, "primary"),
+                    () -> "hedge"), () -> true);
+
+            Assert.assertEquals(result, "hedge");
+        } finally {
+            releasePrimary.countDown();
+        }
+    }
+
+    @Test
+    public void primaryWinsWhenHedgeIsSlower() {
+        CountDownLatch hedgeStarted = new CountDownLatch(1);
+        CountDownLatch releaseHedge = new CountDownLatch(1);
+        try {
+            String result = hedger(budget()).execute("key", calls(
+                    () -> await(hedgeStarted, "primary"),
+                    () -> {
+                        hedgeStarted.countDown();
+                        return await(releaseHedge, "hedge");
+                    }), () -> true);
+
+            Assert.assertEquals(result, "primary");
+        } finally {
+            releaseHedge.countDown();
+        }
+    }
+
+    @Test
+    public void failedHedgeDoesNotBeatSlowerSuccess() {
+        CountDownLatch hedgeFailed = new CountDownLatch(1);
+
+        String result = hedger(budget()).execute("key", calls(
+                () -> await(hedgeFailed, "primary"),
+                () -> {
+                    hedgeFailed.countDown();
+                    throw new IllegalStateException("503 from hedge");
+                }), () -> true);
+
+        Assert.assertEquals(result, "primary");
+    }
+
+    @Test
+    public void bothFailingRethrowsThePrimaryError() {
+        CountDownLatch hedgeFailed = new CountDownLatch(1);
+
+        IllegalStateException error = Assert.expectThrows(IllegalStateException.class, () ->
+                hedger(budget()).execute("key", calls(
+                        () -> {
+                            await(hedgeFailed, null);
+                            throw new IllegalStateException("primary failed");
+                        },
+                        () -> {
+                            hedgeFailed.countDown();
+                            throw new IllegalStateException("hedge failed");
+                        }), () -> true));
+
+        Assert.assertEquals(error.getMessage(), "primary failed");
+    }
+
+    @Test
+    public void refusedHedgeDoesNotSpendBudget() {
+        RetryBudget budget = new RetryBudget(0, 1, 1);
+        CountDownLatch hedgeRefused = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger(budget).execute("key", () -> {
+            calls.incrementAndGet();
+            return await(hedgeRefused, "primary");
+        }, () -> {
+            hedgeRefused.countDown();
+            return false;
+        });
+
+        Assert.assertEquals(result, "primary");
+        Assert.assertEquals(calls.get(), 1);
+        Assert.assertTrue(budget.tryAcquireRetry(), "The refused hedge must leave the token in the budget");
+    }
+
+    @Test
+    public void emptyBudgetSkipsTheHedge() {
+        CountDownLatch hedgeConsidered = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger(new RetryBudget(0, 0, 0)).execute("key", () -> {
+            // A hedge sent despite the empty budget would be a second call
+            if (calls.incrementAndGet() > 1) {
+                return "hedge";
+            }
+            return await(hedgeConsidered, "primary");
+        }, () -> {
+            hedgeConsidered.countDown();
+            return true;
+        });
+
+        Assert.assertEquals(result, "primary");
+        Assert.assertEquals(calls.get(), 1);
+    }
+
+    @Test
+    public void asyncHedgeWinsWhenPrimaryIsStuck() throws Exception {
+        CompletableFuture<String> stuckPrimary = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            CompletableFuture<String> result = hedger(budget()).executeAsync("key",
+                    () -> calls.getAndIncrement() == 0 ? stuckPrimary : CompletableFuture.completedFuture("hedge"),
+                    () -> true);
+
+            Assert.assertEquals(result.get(5, TimeUnit.SECONDS), "hedge");
+        } finally {
+            stuckPrimary.complete("primary");
+        }
+    }
+
+    @Test
+    public void asyncFailedHedgeDoesNotBeatSlowerSuccess() throws Exception {
+        CompletableFuture<String> slowPrimary = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = hedger(budget()).executeAsync("key", () -> {
+            if (calls.getAndIncrement() == 0) {
+                return slowPrimary;
+            }
+            CompletableFuture<String> failedHedge = CompletableFuture.failedFuture(new IllegalStateException("503"));
+            slowPrimary.completeAsync(() -> "primary", executor);
+            return failedHedge;
+        }, () -> true);
+
+        Assert.assertEquals(result.get(5, TimeUnit.SECONDS), "primary");
+        Assert.assertEquals(calls.get(), 2);
+    }
+
+    private RequestHedger hedger(RetryBudget budget) {
+        return new RequestHedger(HEDGE_DELAY_MILLIS, 0, 0, 10, budget, executor);
+    }
+
+    private static RetryBudget budget() {
+        return new RetryBudget(0, 10, 10);
+    }
+
+    // First invocation runs primary, later ones hedge
+    private static Supplier<String> calls(Supplier<String> primary, Supplier<String> hedge) {
+        AtomicInteger calls = new AtomicInteger();
+        return () -> calls.getAndIncrement() == 0 ? primary.get() : hedge.get();
+    }
+
+    private static String await(CountDownLatch latch, String result) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Latch was never released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package org.framework.resilience;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class RetryBudgetTest {
+
+    @Test
+    public void initialReserveAllowsMinTokensRetries() {
+        RetryBudget budget = new RetryBudget(0.2, 2, 10);
+
+        Assert.assertTrue(budget.tryAcquireRetry());
+        Assert.assertTrue(budget.tryAcquireRetry());
+        Assert.assertFalse(budget.tryAcquireRetry(), "Reserve of 2 retries should be spent");
+    }
+
+    @Test
+    public void requestsDepositRatioTokensPerRetry() {
+        RetryBudget budget = new RetryBudget(0.2, 0, 10);
+        for (int i = 0; i < 4; i++) {
+            budget.recordRequest();
+        }
+        Assert.assertFalse(budget.tryAcquireRetry(), "4 requests x 0.2 is less than one retry");
+
+        budget.recordRequest();
+        Assert.assertTrue(budget.tryAcquireRetry(), "5 requests x 0.2 pays for one retry");
+        Assert.assertFalse(budget.tryAcquireRetry());
+    }
+
+    @Test
+    public void balanceIsCappedAtMaxTokens() {
+        RetryBudget budget = new RetryBudget(1.0, 0, 3);
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+        Assert.assertEquals(budget.availableRetries(), 3.0, 0.0001);
+    }
+
+    @Test
+    public void concurrentWithdrawalsNeverOverdraw() throws InterruptedException {
+        RetryBudget budget = new RetryBudget(0, 50, 50);
+        java.util.concurrent.atomic.AtomicInteger granted = new java.util.concurrent.atomic.AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (budget.tryAcquireRetry()) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(granted.get(), 50);
+    }
+}
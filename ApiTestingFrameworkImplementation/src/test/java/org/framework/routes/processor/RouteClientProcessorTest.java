@@ -0,0 +1,126 @@
+package org.framework.routes.processor;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the processor through javac on small route interfaces.
+ */
+public class RouteClientProcessorTest {
+
+    @Test
+    public void overloadedRoutesGetTheirOwnTemplates() throws IOException {
+        Compilation compilation = compile("demo.OrderApi", "package demo;\n"
+                + "import io.restassured.response.Response;\n"
+                + "import org.framework.routes.*;\n"
+                + "@ApiRoutes\n"
+                + "public interface OrderApi {\n"
+                + "    @Get(\"/order/{id}\") Response find(@PathParam(\"id\") long id);\n"
+                + "    @Get(\"/order\") Response find(@QueryParam(\"status\") String status);\n"
+                + "    @Delete(\"/order/{id}\") Response delete(@PathParam(\"id\") long id);\n"
+                + "}\n");
+
+        Assert.assertTrue(compilation.success, compilation.errors());
+        String client = compilation.generated("demo/OrderApiClient.java");
+        Assert.assertTrue(client.contains("private final RequestSpecification findTemplate;"), client);
+        Assert.assertTrue(client.contains("private final RequestSpecification findTemplate2;"), client);
+        Assert.assertTrue(client.contains("private final RequestSpecification deleteTemplate;"), client);
+        Assert.assertTrue(Files.exists(compilation.classes.resolve("demo/OrderApiClient.class")));
+    }
+
+    @Test
+    public void pathParamsMustMatchThePlaceholders() throws IOException {
+        Compilation compilation = compile("demo.BrokenApi", "package demo;\n"
+                + "import io.restassured.response.Response;\n"
+                + "import org.framework.routes.*;\n"
+                + "@ApiRoutes\n"
+                + "public interface BrokenApi {\n"
+                + "    @Get(\"/pet/{petId}\") Response find(@PathParam(\"id\") long id);\n"
+                + "}\n");
+
+        Assert.assertFalse(compilation.success);
+        Assert.assertTrue(compilation.errors().contains("No {id} in path /pet/{petId}"), compilation.errors());
+        Assert.assertTrue(compilation.errors().contains("{petId} in /pet/{petId} has no @PathParam"),
+                compilation.errors());
+    }
+
+    @Test
+    public void routeMethodsNeedOneVerb() throws IOException {
+        Compilation compilation = compile("demo.NoVerbApi", "package demo;\n"
+                + "import io.restassured.response.Response;\n"
+                + "import org.framework.routes.*;\n"
+                + "@ApiRoutes\n"
+                + "public interface NoVerbApi {\n"
+                + "    Response find();\n"
+                + "}\n");
+
+        Assert.assertFalse(compilation.success);
+        Assert.assertTrue(compilation.errors().contains("exactly one of @Get, @Post, @Put or @Delete"),
+                compilation.errors());
+    }
+
+    private static Compilation compile(String className, String source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path output = Files.createTempDirectory("route-clients");
+        Path classes = Files.createDirectories(output.resolve("classes"));
+        Path sources = Files.createDirectories(output.resolve("sources"));
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(),
+                            "-s", sources.toString()),
+                    null, List.of(file));
+            task.setProcessors(List.of(new RouteClientProcessor()));
+            boolean success = task.call();
+            return new Compilation(success, diagnostics.getDiagnostics(), classes, sources);
+        }
+    }
+
+    private static final class Compilation {
+        final boolean success;
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+        final Path classes;
+        final Path sources;
+
+        Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, Path classes,
+                    Path sources) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+            this.classes = classes;
+            this.sources = sources;
+        }
+
+        String errors() {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .collect(Collectors.joining("\n"));
+        }
+
+        String generated(String path) throws IOException {
+            return Files.readString(sources.resolve(path));
+        }
+    }
+}
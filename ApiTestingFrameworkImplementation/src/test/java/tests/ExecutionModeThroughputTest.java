@@ -0,0 +1,121 @@
+package tests;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.restassured.response.Response;
+import org.framework.Services.PetstoreService.Store;
+import org.framework.execution.ApiExecutors;
+import org.framework.execution.ExecutionMode;
+import org.framework.http.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Drives the same burst of inventory lookups through a small platform-thread pool and through
+ * virtual threads and compares calls/second. The lookups go to a local WireMock stub that answers
+ * after a fixed delay, so the platform pool is bound by its thread count while virtual threads are
+ * only bound by the HTTP connection pool. Needs a JDK 21+ runtime; size the burst with
+ * -Dthroughput.requests.
+ */
+public class ExecutionModeThroughputTest {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionModeThroughputTest.class);
+
+    private static final String INVENTORY = "/store/inventory";
+    private static final int REQUESTS = Integer.getInteger("throughput.requests", 200);
+    private static final int PLATFORM_THREADS = 8;
+    private static final int RESPONSE_DELAY_MS = 250;
+    // Virtual threads must beat the platform pool by at least this factor
+    private static final double MIN_SPEEDUP = 2.0;
+
+    private WireMockServer server;
+    private Store store;
+    private double platformThroughput;
+
+    @BeforeClass(alwaysRun = true)
+    public void startServer() {
+        if (!ApiExecutors.isVirtualThreadAvailable()) {
+            throw new SkipException("Virtual threads are not available on Java " + System.getProperty("java.version")
+                    + " - VIRTUAL would fall back to platform threads");
+        }
+        server = new WireMockServer(options().dynamicPort().containerThreads(REQUESTS + 20));
+        server.start();
+        server.stubFor(get(urlEqualTo(INVENTORY)).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json").withBody("{\"available\":1}")
+                .withFixedDelay(RESPONSE_DELAY_MS)));
+        store = new Store(RestClient.builder().baseUri(server.baseUrl()).build());
+    }
+
+    @Test(groups = "benchmark", priority = 1)
+    public void platformThreadThroughput() {
+        ApiExecutors.setExecutionMode(ExecutionMode.PLATFORM);
+        ApiExecutors.setExecutor(ApiExecutors.newBoundedExecutor(PLATFORM_THREADS, REQUESTS));
+        platformThroughput = runBurst(ExecutionMode.PLATFORM);
+    }
+
+    @Test(groups = "benchmark", priority = 2, dependsOnMethods = "platformThreadThroughput")
+    public void virtualThreadThroughput() {
+        ApiExecutors.setExecutionMode(ExecutionMode.VIRTUAL);
+        double virtualThroughput = runBurst(ExecutionMode.VIRTUAL);
+        logger.info("[THROUGHPUT] {} requests - platform: {} calls/s, virtual: {} calls/s (x{})", REQUESTS,
+                format(platformThroughput), format(virtualThroughput), format(virtualThroughput / platformThroughput));
+        Assert.assertTrue(virtualThroughput >= platformThroughput * MIN_SPEEDUP,
+                String.format("Virtual threads reached %.1f calls/s, %d platform threads %.1f calls/s",
+                        virtualThroughput, PLATFORM_THREADS, platformThroughput));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        ApiExecutors.setExecutionMode(ExecutionMode.PLATFORM);
+        ApiExecutors.shutdown();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    private double runBurst(ExecutionMode mode) {
+        Assert.assertEquals(ApiExecutors.supplyAsync(ExecutionModeThroughputTest::isVirtual).join().booleanValue(),
+                mode == ExecutionMode.VIRTUAL, "Async calls in " + mode + " mode ran on the wrong kind of thread.");
+
+        List<CompletableFuture<Response>> calls = new ArrayList<>(REQUESTS);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            calls.add(ApiExecutors.supplyAsync(() -> store.ReturnsPetInventoriesByStatus(INVENTORY)));
+        }
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).join();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        for (CompletableFuture<Response> call : calls) {
+            Assert.assertEquals(call.join().getStatusCode(), 200, "Expected status code 200 for inventory lookup.");
+        }
+        double throughput = REQUESTS / seconds;
+        logger.info("[THROUGHPUT] {} mode: {} requests in {}s ({} calls/s)", mode, REQUESTS, format(seconds),
+                format(throughput));
+        return throughput;
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+
+    // Thread.isVirtual() exists from Java 21 only; the project compiles for 11
+    private static boolean isVirtual() {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}